@@ -0,0 +1,96 @@
+package com.researchrag.backend.common.config;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import com.researchrag.backend.userapi.token.TokenDenylist;
+import com.researchrag.backend.userapi.token.TokenRepository;
+import com.researchrag.backend.userapi.user.Role;
+import com.researchrag.backend.userapi.user.User;
+import com.researchrag.backend.userapi.user.UserPrincipalCache;
+import com.researchrag.backend.userapi.user.UserRepository;
+import io.jsonwebtoken.Claims;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verification and the full {@link JwtAuthenticationFilter} fast path (signature, denylist, cached principal).
+ * Collaborators that would reach Redis or MySQL are stubbed; they are only hit on cache misses, which the
+ * benchmark does not produce after warm-up.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private static final String SECRET_KEY = "P3QmDZE2Koh2h8MOQbL5EfOkY+GigSQCw23gKjwy4G4=";
+
+    private JwtService jwtService;
+    private JwtAuthenticationFilter filter;
+    private User user;
+    private String accessToken;
+    private String forgedToken;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        jwtService = new JwtService(SECRET_KEY);
+        ReflectionTestUtils.setField(jwtService, "jwtExpiration", TimeUnit.DAYS.toMillis(1));
+        ReflectionTestUtils.setField(jwtService, "refreshExpiration", TimeUnit.DAYS.toMillis(7));
+
+        user = User.builder().id(7).firstName("Ada").lastName("Example").email("ada@example.edu")
+                .password("$2a$10$abcdefghijklmnopqrstuv").role(Role.USER).build();
+        UserRepository userRepository = Mockito.mock(UserRepository.class);
+        Mockito.when(userRepository.findByEmail(user.getEmail())).thenReturn(Optional.of(user));
+        CacheInvalidationBus bus = Mockito.mock(CacheInvalidationBus.class);
+        UserPrincipalCache principalCache = new UserPrincipalCache(userRepository, bus);
+        ReflectionTestUtils.setField(principalCache, "ttlMillis", TimeUnit.HOURS.toMillis(1));
+        ReflectionTestUtils.setField(principalCache, "maxSize", 10_000);
+        TokenDenylist denylist = new TokenDenylist(Mockito.mock(RedisTemplate.class), bus);
+        filter = new JwtAuthenticationFilter(jwtService, principalCache, denylist, Mockito.mock(TokenRepository.class));
+
+        accessToken = jwtService.generateToken(user);
+        // Same header and claims, different signature
+        forgedToken = accessToken.substring(0, accessToken.lastIndexOf('.') + 1) + "AAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAAA";
+    }
+
+    @Benchmark
+    public Claims parseValidClaims() {
+        return jwtService.parseValidClaims(accessToken);
+    }
+
+    @Benchmark
+    public boolean isTokenValid() {
+        return jwtService.isTokenValid(accessToken, user);
+    }
+
+    @Benchmark
+    public Claims rejectForged() {
+        return jwtService.parseValidClaims(forgedToken);
+    }
+
+    @Benchmark
+    public User filterAuthenticate() {
+        return filter.authenticate(accessToken);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+}
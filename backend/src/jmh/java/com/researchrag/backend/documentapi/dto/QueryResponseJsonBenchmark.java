@@ -0,0 +1,83 @@
+package com.researchrag.backend.documentapi.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson round trips of the RAG service's answer payload, as done on every {@code /qa/ask}. Sources carry
+ * chunk-sized text and a JSON metadata string, like the Python service returns them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QueryResponseJsonBenchmark {
+
+    @Param({"4", "10", "25"})
+    private int sourceCount;
+
+    @Param({"1000"})
+    private int chunkChars;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    private QueryResponse response;
+    private String json;
+
+    @Setup
+    public void setUp() throws Exception {
+        StringBuilder chunk = new StringBuilder(chunkChars);
+        String sentence = "Retrieval-augmented generation grounds the answer in passages from the uploaded paper. ";
+        while (chunk.length() < chunkChars) {
+            chunk.append(sentence);
+        }
+        List<SourceDto> sources = new ArrayList<>(sourceCount);
+        for (int i = 0; i < sourceCount; i++) {
+            sources.add(SourceDto.builder()
+                    .text(chunk.substring(0, chunkChars))
+                    .metadata("{\"page\": " + (i + 1) + ", \"chunk_id\": \"doc-7f3a-" + i + "\", \"section\": \"Methods\"}")
+                    .relevance_score(1.0 - i * 0.03)
+                    .section_type(i % 2 == 0 ? "methods" : "results")
+                    .build());
+        }
+        response = QueryResponse.builder()
+                .answer(chunk.substring(0, Math.min(chunkChars, 600)))
+                .sources(sources)
+                .success(true)
+                .document_id("7f3a9c2e-1b4d-4e8f-9a6b-2c5d8e1f0a3b")
+                .processing_info(new ProcessingInfo(sourceCount, true, "llama-3.1-8b-instant"))
+                .build();
+        json = objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return objectMapper.writeValueAsString(response);
+    }
+
+    @Benchmark
+    public QueryResponse deserialize() throws Exception {
+        return objectMapper.readValue(json, QueryResponse.class);
+    }
+
+    @Benchmark
+    public QueryResponse roundTrip() throws Exception {
+        return objectMapper.readValue(objectMapper.writeValueAsString(response), QueryResponse.class);
+    }
+}
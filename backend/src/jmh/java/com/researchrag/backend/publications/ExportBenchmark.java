@@ -0,0 +1,81 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.PublicationDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Report generation in {@link ExportService} for a single faculty. The rows are produced lazily, like the
+ * repository stream the controller passes in, and the output is discarded so only generation is measured.
+ *
+ * <p>The Excel report runs in a 64 MB heap. The streaming workbook only keeps a window of rows in memory, so
+ * 50000 rows fit easily; an in-memory XSSF workbook of that size does not fit in 128 MB, so a regression to
+ * one fails this benchmark with an OutOfMemoryError. Allocation per report ({@code -prof gc}) still grows
+ * with the row count either way and says nothing about what is retained. The Word report has no streaming
+ * mode and keeps the default 512 MB.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@State(Scope.Benchmark)
+public class ExportBenchmark {
+
+    @Param({"1000", "50000"})
+    private int rows;
+
+    private final ExportService exportService = new ExportService();
+    private Faculty faculty;
+
+    @Setup
+    public void setUp() {
+        faculty = new Faculty();
+        faculty.setFacultyId("F-1024");
+        faculty.setName("Ada Example");
+        faculty.setAffiliations("Department of Computer Science, Example University");
+        faculty.setGoogleScholarId("qc6CJjYAAAAJ");
+        faculty.setInterests(List.of("Information Retrieval", "Machine Learning"));
+        faculty.setTotalCitations(12_345);
+        faculty.setHIndex(48);
+        faculty.setI10Index(130);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+    public void excel() throws IOException {
+        exportService.writeExcelReport(faculty, publications(), OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void word() throws IOException {
+        exportService.writeWordReport(faculty, publications(), OutputStream.nullOutputStream());
+    }
+
+    private Stream<PublicationDto> publications() {
+        return IntStream.range(0, rows).mapToObj(i -> PublicationDto.builder()
+                .title("A Study of Retrieval Methods, Part " + i)
+                .authors("A Example, B Coauthor, C Coauthor")
+                .publicationSource("Proceedings of the Example Conference on Retrieval")
+                .year(2000 + i % 25)
+                .citations(i % 300)
+                .link("https://scholar.google.com/citations?view_op=view_citation&citation_for_view=" + i)
+                .build());
+    }
+}
@@ -0,0 +1,109 @@
+package com.researchrag.backend.publications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory part of {@link PublicationsService#saveFacultyProfile}: collapsing the scraped article list,
+ * fingerprinting the profile and picking the rows that changed since the last fetch. The scrape has about 5%
+ * duplicates that only differ in case or spacing, and 10% of the stored publications have new citation counts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FacultyProfileDedupBenchmark {
+
+    @Param({"100", "1000", "5000"})
+    private int publications;
+
+    private JsonNode facultyData;
+    private List<Publication> articles;
+    private Map<String, FacultyAnalyticsRepository.PublicationState> before;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ObjectNode faculty = objectMapper.createObjectNode();
+        faculty.put("faculty_id", "F-1024");
+        faculty.put("google_scholar_author_id", "qc6CJjYAAAAJ");
+        ObjectNode profile = faculty.putObject("author_profile");
+        profile.put("name", "Ada Example");
+        profile.put("affiliations", "Department of Computer Science, Example University");
+        profile.put("thumbnail", "https://scholar.googleusercontent.com/citations?view_op=view_photo&user=qc6CJjYAAAAJ");
+        profile.putArray("interests").add("Information Retrieval").add("Machine Learning").add("NLP");
+        ObjectNode metrics = faculty.putObject("citation_metrics");
+        metrics.put("total_citations", 12_345);
+        metrics.put("h_index", 48);
+        metrics.put("i10_index", 130);
+
+        ArrayNode articlesNode = faculty.putArray("articles");
+        for (int i = 0; i < publications; i++) {
+            // Every 20th article repeats the previous one with different case and spacing, as Scholar sometimes does
+            int paper = i % 20 == 19 ? i - 1 : i;
+            String title = "A Study of Retrieval Methods, Part " + paper;
+            ObjectNode article = articlesNode.addObject();
+            article.put("title", paper == i ? title : "  " + title.toUpperCase() + " ");
+            article.put("authors", "A Example, B Coauthor, C Coauthor");
+            article.put("publication", "Proceedings of the Example Conference on Retrieval");
+            article.put("year", 2000 + paper % 25);
+            article.put("citations", paper % 300);
+            article.put("link", "https://scholar.google.com/citations?view_op=view_citation&citation_for_view=" + paper);
+        }
+        facultyData = faculty;
+
+        articles = ArticleDeduplicator.dedupe(facultyData.path("articles"));
+        before = new HashMap<>();
+        for (int i = 0; i < articles.size(); i++) {
+            Publication article = articles.get(i);
+            int citations = i % 10 == 0 ? article.getCitations() - 1 : article.getCitations();
+            before.put(article.getDedupHash(), new FacultyAnalyticsRepository.PublicationState(
+                    article.getYear(), article.getPublicationSource(), citations));
+        }
+    }
+
+    @Benchmark
+    public List<Publication> dedupe() {
+        return ArticleDeduplicator.dedupe(facultyData.path("articles"));
+    }
+
+    @Benchmark
+    public String contentHash() {
+        return PublicationsService.contentHash(facultyData, articles);
+    }
+
+    @Benchmark
+    public List<Publication> changedArticles() {
+        return PublicationsService.changedArticles(before, articles);
+    }
+
+    /**
+     * Everything saveFacultyProfile computes before it touches the database.
+     */
+    @Benchmark
+    public List<Publication> fullDelta() {
+        List<Publication> deduped = ArticleDeduplicator.dedupe(facultyData.path("articles"));
+        PublicationsService.contentHash(facultyData, deduped);
+        return PublicationsService.changedArticles(before, deduped);
+    }
+}
@@ -0,0 +1,168 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import com.researchrag.backend.publications.dto.PublicationSearchResultDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of {@link PublicationSearchIndex} at up to one million publications. The index is built through
+ * the real rebuild path, fed by a synthetic result set instead of MySQL, so field layout and analysis match
+ * production. Building the large index takes a few minutes and happens once per fork.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PublicationSearchBenchmark {
+
+    private static final String[] TOPICS = {"retrieval", "transformer", "graph", "privacy", "robotics", "genomics",
+            "compiler", "quantum", "federated", "vision", "speech", "causal", "sparse", "bandit", "protein", "climate"};
+    private static final String[] VENUES = {"Proceedings of the Example Conference on Retrieval", "Journal of Learning Systems",
+            "Transactions on Data Engineering", "Workshop on Applied Machine Learning"};
+
+    @Param({"100000", "1000000"})
+    private int publications;
+
+    private Path indexDir;
+    private PublicationSearchIndex index;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        indexDir = Files.createTempDirectory("publication-index-bench");
+        // No Redis here; the bus only needs to accept the index's handler registrations
+        index = new PublicationSearchIndex(syntheticPublications(publications), new CacheInvalidationBus(null), indexDir.toString());
+        ReflectionTestUtils.setField(index, "citationBoost", 1.0f);
+        ReflectionTestUtils.setField(index, "citationPivot", 50f);
+        index.rebuild();
+        if (!index.isReady()) {
+            throw new IllegalStateException("Benchmark index failed to build");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        index.close();
+        FileSystemUtils.deleteRecursively(indexDir);
+    }
+
+    /** Frequent term, first page. */
+    @Benchmark
+    public PublicationSearchResultDto commonTerm() throws IOException {
+        return index.search("retrieval", null, null, null, 0, 20);
+    }
+
+    /** Two-term conjunction with a year range filter. */
+    @Benchmark
+    public PublicationSearchResultDto phraseWithYearFilter() throws IOException {
+        return index.search("sparse transformer", null, 2015, 2020, 0, 20);
+    }
+
+    /** Restricted to one faculty, as the faculty details page does. */
+    @Benchmark
+    public PublicationSearchResultDto singleFaculty() throws IOException {
+        return index.search("graph", "F-42", null, null, 0, 20);
+    }
+
+    /** The deepest page the API allows. */
+    @Benchmark
+    public PublicationSearchResultDto deepPage() throws IOException {
+        return index.search("retrieval", null, null, null, 9, 100);
+    }
+
+    /**
+     * Just enough of a JDBC DataSource for JdbcTemplate to stream {@code count} generated publication rows,
+     * 200 per faculty.
+     */
+    private static DataSource syntheticPublications(int count) {
+        return (DataSource) Proxy.newProxyInstance(PublicationSearchBenchmark.class.getClassLoader(),
+                new Class<?>[]{DataSource.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getConnection" -> connection(count);
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Connection connection(int count) {
+        return (Connection) Proxy.newProxyInstance(PublicationSearchBenchmark.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "createStatement" -> statement(count);
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static Statement statement(int count) {
+        return (Statement) Proxy.newProxyInstance(PublicationSearchBenchmark.class.getClassLoader(),
+                new Class<?>[]{Statement.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "executeQuery" -> resultSet(count);
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    private static ResultSet resultSet(int count) {
+        int[] row = {-1};
+        return (ResultSet) Proxy.newProxyInstance(PublicationSearchBenchmark.class.getClassLoader(),
+                new Class<?>[]{ResultSet.class}, (proxy, method, args) -> {
+                    int i = row[0];
+                    return switch (method.getName()) {
+                        case "next" -> ++row[0] < count;
+                        case "getLong" -> (long) i + 1;
+                        case "getInt" -> "year".equals(args[0]) ? 1990 + i % 35 : (i * 7919) % 1000;
+                        case "getString" -> column(i, (String) args[0]);
+                        case "wasNull" -> false;
+                        default -> defaultValue(method.getReturnType());
+                    };
+                });
+    }
+
+    private static String column(int i, String name) {
+        String topic = TOPICS[i % TOPICS.length];
+        String second = TOPICS[(i / TOPICS.length) % TOPICS.length];
+        return switch (name) {
+            case "title" -> "On " + topic + " methods for " + second + " problems, study " + i;
+            case "authors" -> "A Author" + (i % 5000) + ", B Author" + (i % 777) + ", C Author" + (i % 131);
+            case "publication_source" -> VENUES[i % VENUES.length];
+            case "link" -> "https://scholar.google.com/citations?view_op=view_citation&citation_for_view=" + i;
+            case "faculty_id" -> "F-" + i / 200;
+            case "name" -> "Faculty " + i / 200;
+            default -> null;
+        };
+    }
+
+    private static Object defaultValue(Class<?> type) {
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.researchrag.backend.qaapi.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the answer-cache key computed on every {@code /qa/ask}, for typical and very long questions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class QaCacheKeyBenchmark {
+
+    @Param({"80", "2000"})
+    private int questionLength;
+
+    private String question;
+
+    @Setup
+    public void setUp() {
+        StringBuilder builder = new StringBuilder(questionLength);
+        String words = "What methodology does the paper use to evaluate retrieval quality ünd latency? ";
+        while (builder.length() < questionLength) {
+            builder.append(words);
+        }
+        question = builder.substring(0, questionLength);
+    }
+
+    @Benchmark
+    public String forQuestion() {
+        return QaCacheKeys.forQuestion(42L, question);
+    }
+}
@@ -0,0 +1,76 @@
+package com.researchrag.backend.loadtest;
+
+import java.util.Random;
+
+/**
+ * Simulated service time, parsed from a short spec:
+ * <ul>
+ *     <li>{@code fixed:200} - always 200 ms</li>
+ *     <li>{@code uniform:100-400} - uniform between 100 and 400 ms</li>
+ *     <li>{@code exponential:300} - exponential with a 300 ms mean</li>
+ *     <li>{@code lognormal:1500,p99=6000} - log-normal with a 1500 ms median and a 6000 ms 99th percentile,
+ *     the usual shape of LLM response times</li>
+ * </ul>
+ */
+public final class LatencyDistribution {
+
+    // z-score of the 99th percentile of the standard normal distribution
+    private static final double Z_99 = 2.3263;
+
+    private enum Kind {FIXED, UNIFORM, EXPONENTIAL, LOGNORMAL}
+
+    private final String spec;
+    private final Kind kind;
+    private final double a;
+    private final double b;
+
+    private LatencyDistribution(String spec, Kind kind, double a, double b) {
+        this.spec = spec;
+        this.kind = kind;
+        this.a = a;
+        this.b = b;
+    }
+
+    public static LatencyDistribution parse(String spec) {
+        String trimmed = spec.trim();
+        int colon = trimmed.indexOf(':');
+        if (colon < 0) {
+            throw new IllegalArgumentException("Latency spec needs a kind, e.g. fixed:200 - got " + spec);
+        }
+        String kind = trimmed.substring(0, colon);
+        String args = trimmed.substring(colon + 1);
+        return switch (kind) {
+            case "fixed" -> new LatencyDistribution(trimmed, Kind.FIXED, Double.parseDouble(args), 0);
+            case "uniform" -> {
+                String[] bounds = args.split("-");
+                yield new LatencyDistribution(trimmed, Kind.UNIFORM, Double.parseDouble(bounds[0]), Double.parseDouble(bounds[1]));
+            }
+            case "exponential" -> new LatencyDistribution(trimmed, Kind.EXPONENTIAL, Double.parseDouble(args), 0);
+            case "lognormal" -> {
+                String[] parts = args.split(",");
+                double median = Double.parseDouble(parts[0]);
+                double p99 = parts.length > 1 ? Double.parseDouble(parts[1].replace("p99=", "")) : median * 4;
+                if (p99 < median) {
+                    throw new IllegalArgumentException("p99 must not be below the median in " + spec);
+                }
+                yield new LatencyDistribution(trimmed, Kind.LOGNORMAL, Math.log(median), Math.log(p99 / median) / Z_99);
+            }
+            default -> throw new IllegalArgumentException("Unknown latency distribution '" + kind + "' in " + spec);
+        };
+    }
+
+    public long sampleMillis(Random random) {
+        double millis = switch (kind) {
+            case FIXED -> a;
+            case UNIFORM -> a + random.nextDouble() * (b - a);
+            case EXPONENTIAL -> -a * Math.log(1 - random.nextDouble());
+            case LOGNORMAL -> Math.exp(a + b * random.nextGaussian());
+        };
+        return Math.max(0, Math.round(millis));
+    }
+
+    @Override
+    public String toString() {
+        return spec;
+    }
+}
@@ -0,0 +1,73 @@
+package com.researchrag.backend.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * {@code loadtest.properties} from the classpath, overlaid with an optional file given as the first argument and
+ * then with {@code -Dloadtest.*} / {@code -Dstub.*} / {@code -Dstartup.*} system properties.
+ */
+public final class LoadTestConfig {
+
+    private final Properties properties = new Properties();
+
+    private LoadTestConfig() {
+    }
+
+    public static LoadTestConfig load(String[] args) throws IOException {
+        LoadTestConfig config = new LoadTestConfig();
+        try (InputStream defaults = LoadTestConfig.class.getResourceAsStream("/loadtest.properties")) {
+            if (defaults != null) {
+                config.properties.load(defaults);
+            }
+        }
+        if (args.length > 0 && !args[0].isBlank()) {
+            try (Reader reader = Files.newBufferedReader(Path.of(args[0]))) {
+                config.properties.load(reader);
+            }
+        }
+        System.getProperties().forEach((key, value) -> {
+            String name = key.toString();
+            if (name.startsWith("loadtest.") || name.startsWith("stub.") || name.startsWith("startup.")) {
+                config.properties.setProperty(name, value.toString());
+            }
+        });
+        return config;
+    }
+
+    public String get(String key, String defaultValue) {
+        String value = properties.getProperty(key);
+        return value == null || value.isBlank() ? defaultValue : value.trim();
+    }
+
+    public int getInt(String key, int defaultValue) {
+        return Integer.parseInt(get(key, String.valueOf(defaultValue)));
+    }
+
+    public double getDouble(String key, double defaultValue) {
+        return Double.parseDouble(get(key, String.valueOf(defaultValue)));
+    }
+
+    public LatencyDistribution getLatency(String key, String defaultSpec) {
+        return LatencyDistribution.parse(get(key, defaultSpec));
+    }
+
+    /**
+     * All keys below {@code prefix}, with the prefix removed.
+     */
+    public Map<String, String> withPrefix(String prefix) {
+        Map<String, String> result = new LinkedHashMap<>();
+        for (String name : properties.stringPropertyNames()) {
+            if (name.startsWith(prefix)) {
+                result.put(name.substring(prefix.length()), properties.getProperty(name).trim());
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,439 @@
+package com.researchrag.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.researchrag.backend.BackendApplication;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the real backend endpoints with a weighted mix of operations at a fixed arrival rate and reports latency
+ * percentiles and throughput per operation. Requests are issued on schedule whether or not earlier ones have
+ * finished (an open model), and latency is measured from the scheduled start, so a stalled backend shows up in the
+ * percentiles instead of silently lowering the request rate.
+ *
+ * <p>Unless {@code loadtest.backend.url} is set, the backend is started in this JVM against the
+ * {@link StubRagService}; it still needs the local MySQL and Redis from its application.properties. An external
+ * backend must be started with {@code --rag.service.base-url=http://127.0.0.1:<stub.port>}.
+ */
+public class ScenarioRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ScenarioRunner.class);
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+    private static final String PASSWORD = "LoadTest-Password-1";
+    private static final String[] SEARCH_TERMS = {"retrieval", "learning", "study", "retrieval learning", "study 42"};
+    private static final int[][] SUMMARY_RANGES = {{2000, 2024}, {2010, 2024}, {2015, 2020}, {2020, 2024}};
+
+    private record User(String token, long seedDocumentId, Queue<Long> uploadedDocuments) {
+    }
+
+    private interface Operation {
+        /**
+         * @return the response, or {@code null} if the operation has nothing to do for this user right now
+         */
+        BackendClient.Response execute(User user) throws Exception;
+    }
+
+    private static final class Stats {
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder ok = new LongAdder();
+        final LongAdder throttled = new LongAdder();
+        final LongAdder unavailable = new LongAdder();
+        final LongAdder clientErrors = new LongAdder();
+        final LongAdder serverErrors = new LongAdder();
+        final LongAdder ioErrors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+
+        void reset() {
+            latency.reset();
+            for (LongAdder counter : List.of(ok, throttled, unavailable, clientErrors, serverErrors, ioErrors, dropped)) {
+                counter.reset();
+            }
+        }
+    }
+
+    private final LoadTestConfig config;
+    private final BackendClient client;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String runId = UUID.randomUUID().toString().substring(0, 8);
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+    private final Map<String, Stats> stats = new LinkedHashMap<>();
+    private final List<String> weightedOperations = new ArrayList<>();
+    private final List<User> users = new ArrayList<>();
+    private final List<String> facultyIds = new ArrayList<>();
+    private final AtomicInteger nextFaculty = new AtomicInteger();
+
+    public ScenarioRunner(LoadTestConfig config, BackendClient client) {
+        this.config = config;
+        this.client = client;
+
+        operations.put("ask", this::ask);
+        operations.put("documents", user -> client.get("/api/v1/documents", user.token()));
+        operations.put("profile", user -> client.get("/api/v1/publications/profile/" + randomFaculty(), user.token()));
+        operations.put("articles", user -> client.get("/api/v1/publications/articles/" + randomFaculty() + "?size=20", user.token()));
+        operations.put("search", user -> client.get("/api/v1/publications/search?q="
+                + SEARCH_TERMS[ThreadLocalRandom.current().nextInt(SEARCH_TERMS.length)].replace(" ", "+"), user.token()));
+        operations.put("summary", this::summary);
+        operations.put("document-upload", this::uploadDocument);
+        operations.put("delete-document", this::deleteDocument);
+        operations.put("faculty-upload", user -> uploadFaculty(user, List.of(newFacultyId(), newFacultyId())));
+
+        Map<String, String> mix = config.withPrefix("loadtest.mix.");
+        for (String name : operations.keySet()) {
+            int weight = Integer.parseInt(mix.getOrDefault(name, "0"));
+            for (int i = 0; i < weight; i++) {
+                weightedOperations.add(name);
+            }
+            stats.put(name, new Stats());
+        }
+        if (weightedOperations.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix.* gives every operation a weight of 0");
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        StubRagService stub = new StubRagService(config);
+        stub.start();
+
+        ConfigurableApplicationContext backend = null;
+        String backendUrl = config.get("loadtest.backend.url", "");
+        if (backendUrl.isEmpty()) {
+            backend = startBackend(config, stub.port());
+            backendUrl = "http://127.0.0.1:" + config.getInt("loadtest.backend.port", 18081);
+        }
+        StubWorker worker = new StubWorker(config, backendUrl);
+        worker.start();
+        int exitCode = 0;
+        try {
+            BackendClient client = new BackendClient(backendUrl,
+                    Duration.ofSeconds(config.getInt("loadtest.request-timeout-seconds", 120)));
+            new ScenarioRunner(config, client).run();
+        } catch (Exception e) {
+            logger.error("Load test failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        } finally {
+            System.out.print(stub.summary());
+            System.out.print(worker.summary());
+            worker.stop();
+            stub.stop();
+            if (backend != null) {
+                backend.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Boots the backend in this JVM, pointed at the stub. The rate limiter is off by default so it does not cap
+     * the offered load; {@code loadtest.backend.property.*} entries are passed through as Spring properties.
+     */
+    private static ConfigurableApplicationContext startBackend(LoadTestConfig config, int stubPort) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("server.port", config.getInt("loadtest.backend.port", 18081));
+        properties.put("rag.service.base-url", "http://127.0.0.1:" + stubPort);
+        properties.put("rate-limit.enabled", false);
+        properties.putAll(config.withPrefix("loadtest.backend.property."));
+        logger.info("Starting the backend in-process with {}", properties);
+        return new SpringApplicationBuilder(BackendApplication.class).properties(properties).run();
+    }
+
+    public void run() throws Exception {
+        setUp();
+
+        double ratePerSecond = config.getDouble("loadtest.rate-per-second", 20);
+        int maxConcurrency = config.getInt("loadtest.max-concurrency", 200);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(config.getInt("loadtest.warmup-seconds", 20));
+        long durationNanos = TimeUnit.SECONDS.toNanos(config.getInt("loadtest.duration-seconds", 120));
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+        logger.info("Running {} req/s for {} s after a {} s warm-up, mix {}", ratePerSecond,
+                TimeUnit.NANOSECONDS.toSeconds(durationNanos), TimeUnit.NANOSECONDS.toSeconds(warmupNanos), config.withPrefix("loadtest.mix."));
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        AtomicInteger inFlight = new AtomicInteger();
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + durationNanos;
+        boolean measuring = false;
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (!measuring && intended >= measureFrom) {
+                stats.values().forEach(Stats::reset);
+                measuring = true;
+            }
+
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String name = weightedOperations.get(random.nextInt(weightedOperations.size()));
+            User user = users.get(random.nextInt(users.size()));
+            Stats opStats = stats.get(name);
+            if (inFlight.get() >= maxConcurrency) {
+                // The client is out of connections; count it instead of queueing and hiding the backlog
+                opStats.dropped.increment();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    execute(operations.get(name), opStats, user, intended);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+        long measuredNanos = System.nanoTime() - measureFrom;
+        executor.shutdown();
+        if (!executor.awaitTermination(config.getInt("loadtest.request-timeout-seconds", 120), TimeUnit.SECONDS)) {
+            logger.warn("{} requests were still running when the report was written", inFlight.get());
+        }
+        report(Math.min(measuredNanos, durationNanos));
+    }
+
+    private void execute(Operation operation, Stats opStats, User user, long intendedStart) {
+        BackendClient.Response response;
+        try {
+            response = operation.execute(user);
+        } catch (Exception e) {
+            opStats.ioErrors.increment();
+            opStats.latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, micros(System.nanoTime() - intendedStart)));
+            return;
+        }
+        if (response == null) {
+            return;
+        }
+        opStats.latency.recordValue(Math.min(HIGHEST_TRACKABLE_MICROS, micros(System.nanoTime() - intendedStart)));
+        int status = response.status();
+        if (response.ok()) {
+            opStats.ok.increment();
+        } else if (status == 429) {
+            opStats.throttled.increment();
+        } else if (status == 503) {
+            opStats.unavailable.increment();
+        } else if (status < 500) {
+            opStats.clientErrors.increment();
+        } else {
+            opStats.serverErrors.increment();
+        }
+    }
+
+    // --- Setup ---
+
+    private void setUp() throws Exception {
+        int userCount = config.getInt("loadtest.users", 10);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getInt("loadtest.setup-timeout-seconds", 600));
+        logger.info("Registering {} users and waiting for their seed documents", userCount);
+        ExecutorService setup = Executors.newFixedThreadPool(Math.min(userCount, 16));
+        List<Future<User>> pending = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            int index = i;
+            pending.add(setup.submit(() -> createUser(index, deadline)));
+        }
+        for (var future : pending) {
+            users.add(future.get());
+        }
+        setup.shutdown();
+
+        int facultyCount = config.getInt("loadtest.faculty", 20);
+        List<String> seedFaculty = new ArrayList<>();
+        for (int i = 0; i < facultyCount; i++) {
+            seedFaculty.add(newFacultyId());
+        }
+        logger.info("Ingesting {} seed faculty", facultyCount);
+        for (int attempt = 1; facultyIds.isEmpty(); attempt++) {
+            BackendClient.Response response = uploadFaculty(users.get(0), seedFaculty);
+            long jobId = response.json(objectMapper).path("id").asLong();
+            String status = awaitStatus("/api/v1/publications/upload/jobs/" + jobId, users.get(0).token(), deadline);
+            if ("COMPLETED".equals(status)) {
+                facultyIds.addAll(seedFaculty);
+            } else if (attempt >= 3) {
+                throw new IllegalStateException("Seed faculty ingestion ended as " + status + " three times");
+            }
+        }
+    }
+
+    private User createUser(int index, long deadline) throws Exception {
+        String email = "loadtest-" + runId + "-" + index + "@example.test";
+        byte[] registration = objectMapper.writeValueAsBytes(Map.of(
+                "firstName", "Load", "lastName", "Test " + index, "email", email, "password", PASSWORD));
+        BackendClient.Response registered = client.postJson("/api/v1/auth/register", null, registration);
+        if (!registered.ok()) {
+            throw new IllegalStateException("Registering " + email + " returned " + registered.status());
+        }
+        String token = registered.json(objectMapper).path("access_token").asText();
+
+        for (int attempt = 1; ; attempt++) {
+            BackendClient.Response uploaded = client.postFile("/api/v1/documents", token, "seed.pdf", "application/pdf",
+                    documentBytes(), Map.of());
+            if (!uploaded.ok()) {
+                throw new IllegalStateException("Seed upload for " + email + " returned " + uploaded.status());
+            }
+            long documentId = uploaded.json(objectMapper).path("id").asLong();
+            String status = awaitDocument(token, documentId, deadline);
+            if ("COMPLETED".equals(status)) {
+                return new User(token, documentId, new ConcurrentLinkedQueue<>());
+            }
+            if (attempt >= 3) {
+                throw new IllegalStateException("Seed document of " + email + " ended as " + status + " three times");
+            }
+        }
+    }
+
+    private String awaitDocument(String token, long documentId, long deadline) throws Exception {
+        while (System.nanoTime() < deadline) {
+            JsonNode documents = client.get("/api/v1/documents", token).json(objectMapper);
+            for (JsonNode document : documents) {
+                if (document.path("id").asLong() == documentId) {
+                    String status = document.path("status").asText();
+                    if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                        return status;
+                    }
+                }
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Timed out waiting for seed document " + documentId);
+    }
+
+    private String awaitStatus(String path, String token, long deadline) throws Exception {
+        while (System.nanoTime() < deadline) {
+            String status = client.get(path, token).json(objectMapper).path("status").asText();
+            if ("COMPLETED".equals(status) || "FAILED".equals(status)) {
+                return status;
+            }
+            Thread.sleep(1000);
+        }
+        throw new IllegalStateException("Timed out waiting for " + path);
+    }
+
+    // --- Operations ---
+
+    private BackendClient.Response ask(User user) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        // Repeated questions hit the answer cache, unique ones go to the RAG service
+        String question = random.nextDouble() < config.getDouble("loadtest.ask.repeat-ratio", 0.3)
+                ? "What is the main contribution of this paper? (variant " + random.nextInt(20) + ")"
+                : "What does the paper say about topic " + UUID.randomUUID() + "?";
+        byte[] body = objectMapper.writeValueAsBytes(Map.of("question", question, "documentId", user.seedDocumentId()));
+        return client.postJson("/api/v1/qa/ask", user.token(), body);
+    }
+
+    private BackendClient.Response summary(User user) throws Exception {
+        int[] range = SUMMARY_RANGES[ThreadLocalRandom.current().nextInt(SUMMARY_RANGES.length)];
+        return client.get("/api/v1/publications/summary/" + randomFaculty() + "?fromYear=" + range[0] + "&toYear=" + range[1],
+                user.token());
+    }
+
+    private BackendClient.Response uploadDocument(User user) throws Exception {
+        BackendClient.Response response = client.postFile("/api/v1/documents", user.token(), "paper.pdf", "application/pdf",
+                documentBytes(), Map.of());
+        if (response.ok()) {
+            user.uploadedDocuments().add(response.json(objectMapper).path("id").asLong());
+        }
+        return response;
+    }
+
+    private BackendClient.Response deleteDocument(User user) throws Exception {
+        Long documentId = user.uploadedDocuments().poll();
+        return documentId == null ? null : client.delete("/api/v1/documents/" + documentId, user.token());
+    }
+
+    private BackendClient.Response uploadFaculty(User user, List<String> facultyToUpload) throws Exception {
+        return client.postFile("/api/v1/publications/upload", user.token(), "faculty.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", BackendClient.facultySheet(facultyToUpload),
+                Map.of());
+    }
+
+    private String newFacultyId() {
+        return "LT-" + runId + "-" + nextFaculty.getAndIncrement();
+    }
+
+    private String randomFaculty() {
+        return facultyIds.get(ThreadLocalRandom.current().nextInt(facultyIds.size()));
+    }
+
+    private byte[] documentBytes() {
+        int size = config.getInt("loadtest.document-bytes", 200_000);
+        byte[] bytes = new byte[size];
+        byte[] header = "%PDF-1.4\n".getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(header, 0, bytes, 0, Math.min(header.length, size));
+        return bytes;
+    }
+
+    // --- Report ---
+
+    private void report(long measuredNanos) throws IOException {
+        double seconds = measuredNanos / 1e9;
+        Path reportDir = Path.of(config.get("loadtest.report-dir", "target/loadtest"));
+        Files.createDirectories(reportDir);
+
+        StringBuilder table = new StringBuilder();
+        table.append(String.format("Measured %.1f s%n", seconds));
+        table.append(String.format("%-16s %8s %8s %6s %6s %6s %6s %6s %6s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "req/s", "ok", "429", "503", "4xx", "5xx", "io", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        long total = 0;
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            long count = s.latency.getTotalCount();
+            if (count == 0 && s.dropped.sum() == 0) {
+                continue;
+            }
+            total += count;
+            table.append(String.format("%-16s %8d %8.2f %6d %6d %6d %6d %6d %6d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    entry.getKey(), count, count / seconds, s.ok.sum(), s.throttled.sum(), s.unavailable.sum(),
+                    s.clientErrors.sum(), s.serverErrors.sum(), s.ioErrors.sum(),
+                    millis(s.latency, 50), millis(s.latency, 90), millis(s.latency, 99), millis(s.latency, 99.9),
+                    s.latency.getMaxValue() / 1000.0));
+            if (s.dropped.sum() > 0) {
+                table.append(String.format("%-16s %8d requests dropped at the concurrency limit%n", "", s.dropped.sum()));
+            }
+            try (PrintStream out = new PrintStream(Files.newOutputStream(reportDir.resolve(entry.getKey() + ".hgrm")))) {
+                s.latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+        table.append(String.format("Total %d requests, %.2f req/s%n", total, total / seconds));
+
+        System.out.print(table);
+        Files.writeString(reportDir.resolve("report.txt"), table);
+        logger.info("Report and HdrHistogram percentile files (.hgrm, milliseconds) written to {}", reportDir.toAbsolutePath());
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    private static long micros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,205 @@
+package com.researchrag.backend.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time from launching the backend to its first successful request, for each startup mode: the plain jar, the
+ * AOT-processed jar with its AppCDS archive ({@code mvn -Pfast-startup package}) and, on a CRaC-enabled JDK, a
+ * restore from a checkpoint. A request only succeeds once MySQL and Redis are reachable, so a restored process
+ * is measured including reopening its connections.
+ *
+ * <p>Each mode is a command line, {@code startup.mode.<name>.command}. A mode with a
+ * {@code startup.mode.<name>.checkpoint-command} is prepared once by starting that command, waiting for a
+ * successful request, warming it up and checkpointing it with {@code jcmd <pid> JDK.checkpoint}.
+ */
+public class StartupBenchmark {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupBenchmark.class);
+
+    record Result(String mode, List<Long> millis) {
+    }
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private final URI probeUri;
+    private final Path logDir;
+
+    public StartupBenchmark(LoadTestConfig config) {
+        this.config = config;
+        this.probeUri = URI.create(config.get("startup.probe-url", "http://127.0.0.1:8081/actuator/health"));
+        this.logDir = Path.of(config.get("loadtest.report-dir", "target/loadtest"), "startup");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.load(args);
+        StartupBenchmark benchmark = new StartupBenchmark(config);
+        int exitCode = 0;
+        try {
+            benchmark.report(benchmark.run());
+        } catch (Exception e) {
+            logger.error("Startup benchmark failed: {}", e.getMessage(), e);
+            exitCode = 1;
+        }
+        System.exit(exitCode);
+    }
+
+    public List<Result> run() throws Exception {
+        Files.createDirectories(logDir);
+        int warmupRuns = config.getInt("startup.warmup-runs", 1);
+        int runs = config.getInt("startup.runs", 5);
+        List<Result> results = new ArrayList<>();
+        for (String mode : config.get("startup.modes", "jvm,aot-cds").split(",")) {
+            mode = mode.trim();
+            List<String> command = command("startup.mode." + mode + ".command");
+            List<String> checkpointCommand = command("startup.mode." + mode + ".checkpoint-command");
+            if (command.isEmpty()) {
+                throw new IllegalArgumentException("startup.mode." + mode + ".command is not set");
+            }
+            if (!checkpointCommand.isEmpty()) {
+                checkpoint(mode, checkpointCommand);
+            }
+            List<Long> millis = new ArrayList<>();
+            for (int i = 0; i < warmupRuns + runs; i++) {
+                long elapsed = launch(mode, i, command);
+                logger.info("{} run {}: first successful request after {} ms{}", mode, i + 1, elapsed,
+                        i < warmupRuns ? " (warm-up, not counted)" : "");
+                if (i >= warmupRuns) {
+                    millis.add(elapsed);
+                }
+            }
+            results.add(new Result(mode, millis));
+        }
+        return results;
+    }
+
+    /**
+     * Starts the command, waits for its first successful request and stops it again.
+     *
+     * @return milliseconds from process launch to the first 2xx response
+     */
+    private long launch(String mode, int run, List<String> command) throws Exception {
+        long start = System.nanoTime();
+        Process process = start(command, logDir.resolve(mode + "-" + (run + 1) + ".log"));
+        try {
+            awaitSuccess(process);
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } finally {
+            stop(process);
+        }
+    }
+
+    private void checkpoint(String mode, List<String> command) throws Exception {
+        logger.info("Creating the {} checkpoint", mode);
+        Process process = start(command, logDir.resolve(mode + "-checkpoint.log"));
+        try {
+            awaitSuccess(process);
+            // Let the JIT and the connection pools see some traffic, so the checkpoint captures a warm process
+            for (int i = 0; i < config.getInt("startup.checkpoint.warmup-requests", 200); i++) {
+                probe();
+            }
+            Process jcmd = new ProcessBuilder("jcmd", String.valueOf(process.pid()), "JDK.checkpoint")
+                    .inheritIO()
+                    .start();
+            jcmd.waitFor();
+            // The JVM exits once the checkpoint is written
+            if (!process.waitFor(config.getInt("startup.timeout-seconds", 180), TimeUnit.SECONDS)) {
+                throw new IllegalStateException("The " + mode + " process did not exit after the checkpoint");
+            }
+        } finally {
+            stop(process);
+        }
+    }
+
+    private Process start(List<String> command, Path log) throws IOException {
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+    }
+
+    private void awaitSuccess(Process process) throws Exception {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.getInt("startup.timeout-seconds", 180));
+        long pollMillis = config.getInt("startup.poll-interval-ms", 20);
+        while (!probe()) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("The backend exited with " + process.exitValue() + " before answering; see " + logDir);
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("No successful request to " + probeUri + " before the timeout");
+            }
+            Thread.sleep(pollMillis);
+        }
+    }
+
+    private boolean probe() throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(probeUri).timeout(Duration.ofSeconds(5)).GET().build();
+            int status = httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+            return status >= 200 && status < 300;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Stops the process and waits until the port no longer answers, so the next run does not hit the old one.
+     */
+    private void stop(Process process) throws InterruptedException {
+        if (process.isAlive()) {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+        while (probe()) {
+            Thread.sleep(100);
+        }
+    }
+
+    private List<String> command(String key) {
+        String command = config.get(key, "");
+        return command.isEmpty() ? List.of() : Arrays.asList(command.split("\\s+"));
+    }
+
+    private void report(List<Result> results) throws IOException {
+        Map<String, long[]> sorted = new LinkedHashMap<>();
+        for (Result result : results) {
+            sorted.put(result.mode(), result.millis().stream().mapToLong(Long::longValue).sorted().toArray());
+        }
+        StringBuilder text = new StringBuilder();
+        text.append(String.format("%nTime to first successful request (%s), ms%n", probeUri));
+        text.append(String.format("%-12s %5s %8s %8s %8s %8s%n", "mode", "runs", "min", "median", "mean", "max"));
+        for (Map.Entry<String, long[]> entry : sorted.entrySet()) {
+            long[] millis = entry.getValue();
+            if (millis.length == 0) {
+                continue;
+            }
+            text.append(String.format("%-12s %5d %8d %8d %8.0f %8d%n", entry.getKey(), millis.length,
+                    millis[0], millis[millis.length / 2], Arrays.stream(millis).average().orElse(0), millis[millis.length - 1]));
+        }
+        System.out.print(text);
+        Path summary = logDir.resolve("summary.txt");
+        try (PrintStream out = new PrintStream(Files.newOutputStream(summary), true, StandardCharsets.UTF_8)) {
+            out.print(text);
+        }
+        logger.info("Wrote {}", summary);
+    }
+}
@@ -0,0 +1,299 @@
+package com.researchrag.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process stand-in for the Python FastAPI service, speaking the same JSON the backend expects from
+ * {@code main.py}. Each endpoint sleeps for a sample of its configured latency distribution, fails with a 500 at
+ * its configured error rate and returns payloads of a configured size, so backend capacity can be measured
+ * without a model or network access.
+ *
+ * <p>Keys, per endpoint {@code ask}, {@code upload}, {@code publications-upload}, {@code summarize}, {@code delete}:
+ * {@code stub.<endpoint>.latency} (see {@link LatencyDistribution}) and {@code stub.<endpoint>.error-rate}.
+ */
+public class StubRagService {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubRagService.class);
+    private static final String SENTENCE = "The retrieved passage discusses the evaluation setup and reports the main results. ";
+    private static final String[] VENUES = {"Proceedings of the Example Conference on Retrieval", "Journal of Learning Systems",
+            "Transactions on Data Engineering"};
+
+    private record Endpoint(String name, LatencyDistribution latency, double errorRate, AtomicLong calls, AtomicLong failures) {
+
+        static Endpoint of(LoadTestConfig config, String name, String defaultLatency, double defaultErrorRate) {
+            return new Endpoint(name, config.getLatency("stub." + name + ".latency", defaultLatency),
+                    config.getDouble("stub." + name + ".error-rate", defaultErrorRate), new AtomicLong(), new AtomicLong());
+        }
+    }
+
+    private interface Handler {
+        Object handle(HttpExchange exchange, byte[] body) throws Exception;
+    }
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Endpoint> endpoints = new ArrayList<>();
+
+    private final int askSources;
+    private final int askChunkChars;
+    private final int articlesPerFaculty;
+    private final int summaryChars;
+
+    public StubRagService(LoadTestConfig config) throws IOException {
+        this.askSources = config.getInt("stub.ask.sources", 5);
+        this.askChunkChars = config.getInt("stub.ask.chunk-chars", 1000);
+        this.articlesPerFaculty = config.getInt("stub.publications-upload.articles", 200);
+        this.summaryChars = config.getInt("stub.summarize.summary-chars", 1500);
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", config.getInt("stub.port", 18000)), 512);
+        server.setExecutor(executor);
+        route("/ask", "POST", Endpoint.of(config, "ask", "lognormal:1500,p99=6000", 0.01), this::ask);
+        route("/upload", "POST", Endpoint.of(config, "upload", "uniform:200-800", 0), this::upload);
+        route("/publications/upload", "POST", Endpoint.of(config, "publications-upload", "lognormal:3000,p99=15000", 0.02),
+                this::publicationsUpload);
+        route("/publications/summarize", "POST", Endpoint.of(config, "summarize", "lognormal:4000,p99=20000", 0.02),
+                this::summarize);
+        route("/documents/", "DELETE", Endpoint.of(config, "delete", "fixed:50", 0), this::deleteDocument);
+    }
+
+    public void start() {
+        server.start();
+        logger.info("Stub RAG service listening on http://127.0.0.1:{}", port());
+        endpoints.forEach(e -> logger.info("  {}: latency {}, error rate {}", e.name(), e.latency(), e.errorRate()));
+    }
+
+    public void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String summary() {
+        StringBuilder out = new StringBuilder("Stub RAG service calls:\n");
+        endpoints.forEach(e -> out.append(String.format("  %-20s %8d calls %6d injected failures%n",
+                e.name(), e.calls().get(), e.failures().get())));
+        return out.toString();
+    }
+
+    private void route(String path, String method, Endpoint endpoint, Handler handler) {
+        endpoints.add(endpoint);
+        server.createContext(path, exchange -> {
+            try {
+                if (!method.equals(exchange.getRequestMethod())) {
+                    respond(exchange, 405, objectMapper.createObjectNode().put("detail", "Method Not Allowed"));
+                    return;
+                }
+                byte[] body = exchange.getRequestBody().readAllBytes();
+                endpoint.calls().incrementAndGet();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                Thread.sleep(endpoint.latency().sampleMillis(random));
+                if (random.nextDouble() < endpoint.errorRate()) {
+                    endpoint.failures().incrementAndGet();
+                    respond(exchange, 500, objectMapper.createObjectNode().put("detail", "Injected stub failure"));
+                    return;
+                }
+                respond(exchange, 200, handler.handle(exchange, body));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                logger.warn("Stub {} failed: {}", path, e.getMessage());
+                respond(exchange, 400, objectMapper.createObjectNode().put("detail", String.valueOf(e.getMessage())));
+            } finally {
+                exchange.close();
+            }
+        });
+    }
+
+    private Object ask(HttpExchange exchange, byte[] body) throws IOException {
+        JsonNode request = objectMapper.readTree(body);
+        Random random = ThreadLocalRandom.current();
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("answer", text(Math.min(askChunkChars, 800)));
+        ArrayNode sources = response.putArray("sources");
+        for (int i = 0; i < askSources; i++) {
+            sources.addObject()
+                    .put("text", text(askChunkChars))
+                    .put("metadata", "{\"page\": " + (1 + random.nextInt(30)) + "}")
+                    .put("relevance_score", 1.0 - i * 0.05)
+                    .put("section_type", i % 2 == 0 ? "methods" : "results");
+        }
+        response.put("success", true);
+        response.put("document_id", request.path("document_id").asText());
+        response.putObject("processing_info")
+                .put("chunks_used", askSources)
+                .put("question_processed", true)
+                .put("model_used", "stub");
+        return response;
+    }
+
+    private Object upload(HttpExchange exchange, byte[] body) {
+        return objectMapper.createObjectNode()
+                .put("success", true)
+                .put("document_id", UUID.randomUUID().toString())
+                .put("message", "Document processed by stub")
+                .put("chunks_processed", 1 + body.length / 4000);
+    }
+
+    /**
+     * Returns a scraped profile for every row of the uploaded sheet (id, name, ...), like process_faculty_excel.
+     * Titles are stable per faculty so re-uploads exercise the dedup path; citation counts drift a little.
+     */
+    private Object publicationsUpload(HttpExchange exchange, byte[] body) throws IOException {
+        byte[] sheet = Multipart.filePart(exchange.getRequestHeaders().getFirst("Content-Type"), body);
+        Random random = ThreadLocalRandom.current();
+        ArrayNode result = objectMapper.createArrayNode();
+        DataFormatter formatter = new DataFormatter();
+        try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(sheet))) {
+            Sheet rows = workbook.getSheetAt(0);
+            for (Row row : rows) {
+                if (row.getRowNum() == 0) {
+                    continue;
+                }
+                String facultyId = formatter.formatCellValue(row.getCell(0));
+                String name = formatter.formatCellValue(row.getCell(1));
+                if (facultyId.isBlank()) {
+                    continue;
+                }
+                ObjectNode faculty = result.addObject();
+                faculty.put("faculty_id", facultyId);
+                faculty.put("google_scholar_author_id", "stub" + Math.abs(facultyId.hashCode()));
+                ObjectNode profile = faculty.putObject("author_profile");
+                profile.put("name", name.isBlank() ? "Faculty " + facultyId : name);
+                profile.put("affiliations", formatter.formatCellValue(row.getCell(2)));
+                profile.put("thumbnail", "");
+                profile.putArray("interests").add("Information Retrieval").add("Machine Learning");
+                int totalCitations = 0;
+                ArrayNode articles = faculty.putArray("articles");
+                for (int i = 0; i < articlesPerFaculty; i++) {
+                    int citations = (i * 37) % 400 + (random.nextInt(20) == 0 ? 1 : 0);
+                    totalCitations += citations;
+                    articles.addObject()
+                            .put("title", "Study " + i + " of " + facultyId + " on retrieval and learning")
+                            .put("authors", name + ", A Coauthor" + (i % 13) + ", B Coauthor" + (i % 29))
+                            .put("publication", VENUES[i % VENUES.length])
+                            .put("year", 2000 + i % 25)
+                            .put("citations", citations)
+                            .put("link", "https://example.org/" + facultyId + "/" + i);
+                }
+                faculty.putObject("citation_metrics")
+                        .put("total_citations", totalCitations)
+                        .put("h_index", Math.min(articlesPerFaculty, 40))
+                        .put("i10_index", articlesPerFaculty / 2);
+            }
+        }
+        return result;
+    }
+
+    private Object summarize(HttpExchange exchange, byte[] body) {
+        return objectMapper.createObjectNode().put("summary", text(summaryChars));
+    }
+
+    private Object deleteDocument(HttpExchange exchange, byte[] body) {
+        String id = exchange.getRequestURI().getPath().substring("/documents/".length());
+        return objectMapper.createObjectNode().put("message", "Document " + id + " deleted successfully");
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(body);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        } catch (IOException e) {
+            logger.debug("Could not write stub response: {}", e.getMessage());
+        }
+    }
+
+    private static String text(int chars) {
+        StringBuilder builder = new StringBuilder(chars + SENTENCE.length());
+        while (builder.length() < chars) {
+            builder.append(SENTENCE);
+        }
+        return builder.substring(0, chars);
+    }
+
+    /**
+     * Just enough multipart/form-data parsing to pull the {@code file} part out of a request body.
+     */
+    static final class Multipart {
+
+        private Multipart() {
+        }
+
+        static byte[] filePart(String contentType, byte[] body) {
+            if (contentType == null || !contentType.contains("boundary=")) {
+                throw new IllegalArgumentException("Expected a multipart/form-data request");
+            }
+            String boundary = contentType.substring(contentType.indexOf("boundary=") + 9).replace("\"", "");
+            byte[] delimiter = ("--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+            byte[] headerEnd = "\r\n\r\n".getBytes(StandardCharsets.ISO_8859_1);
+            int from = indexOf(body, delimiter, 0);
+            while (from >= 0) {
+                int headersStart = from + delimiter.length + 2;
+                int contentStart = indexOf(body, headerEnd, headersStart);
+                if (contentStart < 0) {
+                    break;
+                }
+                String headers = new String(body, headersStart, contentStart - headersStart, StandardCharsets.ISO_8859_1);
+                int next = indexOf(body, delimiter, contentStart);
+                if (next < 0) {
+                    break;
+                }
+                if (headers.contains("name=\"file\"")) {
+                    // The part ends with CRLF before the next delimiter
+                    int start = contentStart + headerEnd.length;
+                    byte[] part = new byte[next - 2 - start];
+                    System.arraycopy(body, start, part, 0, part.length);
+                    return part;
+                }
+                from = next;
+            }
+            throw new IllegalArgumentException("No file part in the multipart request");
+        }
+
+        private static int indexOf(byte[] haystack, byte[] needle, int from) {
+            outer:
+            for (int i = from; i <= haystack.length - needle.length; i++) {
+                for (int j = 0; j < needle.length; j++) {
+                    if (haystack[i + j] != needle[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.researchrag.backend.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stand-in for {@code worker.py}: pops jobs from the document processing queue, "processes" each for a sample of
+ * {@code stub.worker.latency}, fails {@code stub.worker.error-rate} of them, and reports the result on
+ * {@code /api/v1/documents/callback/status} exactly like the Python worker, including removing the uploaded file.
+ */
+public class StubWorker {
+
+    private static final Logger logger = LoggerFactory.getLogger(StubWorker.class);
+    private static final String PROCESSING_QUEUE = "doc-processing-queue";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private final RedisClient redisClient;
+    private final URI callbackUri;
+    private final LatencyDistribution latency;
+    private final double errorRate;
+    private final int threads;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private volatile boolean running;
+
+    public StubWorker(LoadTestConfig config, String backendUrl) {
+        this.redisClient = RedisClient.create(config.get("loadtest.redis.url", "redis://localhost:6379"));
+        this.callbackUri = URI.create(backendUrl + "/api/v1/documents/callback/status");
+        this.latency = config.getLatency("stub.worker.latency", "lognormal:5000,p99=30000");
+        this.errorRate = config.getDouble("stub.worker.error-rate", 0.05);
+        this.threads = config.getInt("stub.worker.threads", 2);
+    }
+
+    public void start() {
+        running = true;
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(this::run, "stub-worker-" + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+        logger.info("Stub worker: {} threads, latency {}, error rate {}", threads, latency, errorRate);
+    }
+
+    public void stop() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        redisClient.shutdown();
+    }
+
+    public String summary() {
+        return String.format("Stub worker: %d documents completed, %d failed%n", completed.get(), failed.get());
+    }
+
+    private void run() {
+        try (StatefulRedisConnection<String, String> connection = redisClient.connect()) {
+            while (running) {
+                KeyValue<String, String> job = connection.sync().blpop(1, PROCESSING_QUEUE);
+                if (job != null && job.hasValue()) {
+                    process(job.getValue());
+                }
+            }
+        } catch (Exception e) {
+            if (running) {
+                logger.error("Stub worker stopped: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    private void process(String jobJson) throws IOException, InterruptedException {
+        JsonNode job = objectMapper.readTree(jobJson);
+        long documentId = job.path("documentId").asLong();
+        long startedAt = System.currentTimeMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Thread.sleep(latency.sampleMillis(random));
+
+        ObjectNode payload = objectMapper.createObjectNode().put("documentId", documentId);
+        if (random.nextDouble() < errorRate) {
+            payload.put("status", "FAILED").put("errorMessage", "Injected stub worker failure");
+            failed.incrementAndGet();
+        } else {
+            payload.put("status", "COMPLETED").put("pythonDocumentId", UUID.randomUUID().toString());
+            completed.incrementAndGet();
+        }
+        payload.put("sequence", System.currentTimeMillis());
+        payload.put("startedAt", startedAt);
+        payload.set("enqueuedAt", job.path("enqueuedAt"));
+        String traceparent = job.path("traceparent").asText();
+        HttpRequest.Builder request = HttpRequest.newBuilder(callbackUri)
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (!traceparent.isEmpty()) {
+            payload.put("traceparent", traceparent);
+            request.header("traceparent", traceparent);
+        }
+        request.POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(payload)));
+        HttpResponse<Void> response = httpClient.send(request.build(), HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() >= 300) {
+            logger.warn("Callback for document {} returned {}", documentId, response.statusCode());
+        }
+        String filePath = job.path("filePath").asText();
+        if (!filePath.isEmpty()) {
+            Files.deleteIfExists(Path.of(filePath));
+        }
+    }
+}
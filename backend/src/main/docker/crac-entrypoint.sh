@@ -0,0 +1,49 @@
+#!/bin/sh
+# Entrypoint of the crac image (docker build --target crac).
+#
+#   run         restore from /application/checkpoint if the image has one, otherwise start normally
+#   checkpoint  start the backend, wait until /actuator/health answers (MySQL and Redis reachable), warm it up,
+#               and write the checkpoint; the JVM exits afterwards. Commit that container as the image to deploy:
+#
+#   docker run --name backend-checkpoint --cap-add CHECKPOINT_RESTORE --cap-add SYS_PTRACE <env> backend:crac checkpoint
+#   docker commit --change 'CMD ["run"]' backend-checkpoint backend:crac-restore
+#
+# Spring stops its lifecycle beans before the checkpoint (Hikari pool, Lettuce connections, the WebClient
+# connection pool, the web server, the publication index) and starts them again after the restore. The
+# configuration is captured in the checkpoint, so restore with the same environment it was taken with.
+set -e
+
+CHECKPOINT_DIR=/application/checkpoint
+JAR=/application/backend-0.0.1-SNAPSHOT.jar
+# Native Netty transports keep file descriptors CRaC cannot snapshot; the NIO transport is handled by the JDK
+JAVA_OPTS="$JAVA_OPTS -Dio.netty.transport.noNative=true -Dspring.aot.enabled=true"
+HEALTH_URL=${HEALTH_URL:-http://127.0.0.1:8081/actuator/health}
+WARMUP_REQUESTS=${WARMUP_REQUESTS:-200}
+
+case "$1" in
+  run)
+    if [ -d "$CHECKPOINT_DIR" ]; then
+      exec java -XX:CRaCRestoreFrom="$CHECKPOINT_DIR"
+    fi
+    exec java $JAVA_OPTS -jar "$JAR"
+    ;;
+  checkpoint)
+    java -XX:CRaCCheckpointTo="$CHECKPOINT_DIR" $JAVA_OPTS -jar "$JAR" &
+    pid=$!
+    until curl -sf -o /dev/null "$HEALTH_URL"; do
+      kill -0 "$pid" 2>/dev/null || { echo "The backend exited before it became healthy" >&2; exit 1; }
+      sleep 1
+    done
+    i=0
+    while [ "$i" -lt "$WARMUP_REQUESTS" ]; do
+      curl -sf -o /dev/null "$HEALTH_URL" || true
+      i=$((i + 1))
+    done
+    jcmd "$pid" JDK.checkpoint
+    wait "$pid" || true
+    [ -d "$CHECKPOINT_DIR" ] || { echo "No checkpoint was written" >&2; exit 1; }
+    ;;
+  *)
+    exec "$@"
+    ;;
+esac
@@ -1,9 +1,11 @@
 package com.researchrag.backend;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.actuate.autoconfigure.tracing.otlp.OtlpTracingAutoConfiguration;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
-@SpringBootApplication
+// The OTLP span exporter is configured in TracingConfig, independently of build-time AOT conditions
+@SpringBootApplication(exclude = OtlpTracingAutoConfiguration.class)
 public class BackendApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,98 @@
+package com.researchrag.backend.common.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Cluster-wide invalidation of node-local caches. A component registers a handler for a namespace; publishing
+ * a key runs that handler locally after the current transaction commits and broadcasts the key over Redis
+ * pub/sub, so every other backend node runs its own handler for the same key.
+ */
+@Component
+public class CacheInvalidationBus implements MessageListener {
+
+    public static final String CHANNEL = "cache:invalidate";
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final char SEPARATOR = '|';
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Consumer<String>> handlers = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public void register(String namespace, Consumer<String> handler) {
+        if (handlers.putIfAbsent(namespace, handler) != null) {
+            throw new IllegalStateException("A cache invalidation handler is already registered for " + namespace);
+        }
+    }
+
+    /**
+     * Invalidates {@code key} in {@code namespace} on every node. Inside a transaction this waits for the commit,
+     * so no node can reload the old state in between.
+     */
+    public void publish(String namespace, String key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(namespace, key);
+                }
+            });
+        } else {
+            invalidate(namespace, key);
+        }
+    }
+
+    private void invalidate(String namespace, String key) {
+        dispatch(namespace, key);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId + SEPARATOR + namespace + SEPARATOR + key);
+        } catch (Exception e) {
+            // Other nodes fall back to the cache TTL for this entry
+            logger.warn("Failed to broadcast invalidation of {} {}: {}", namespace, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int first = body.indexOf(SEPARATOR);
+        int second = body.indexOf(SEPARATOR, first + 1);
+        if (first < 0 || second < 0) {
+            logger.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(body.substring(0, first))) {
+            return;
+        }
+        dispatch(body.substring(first + 1, second), body.substring(second + 1));
+    }
+
+    private void dispatch(String namespace, String key) {
+        Consumer<String> handler = handlers.get(namespace);
+        if (handler == null) {
+            return;
+        }
+        try {
+            handler.accept(key);
+        } catch (Exception e) {
+            logger.error("Cache invalidation of {} {} failed: {}", namespace, key, e.getMessage(), e);
+        }
+    }
+}
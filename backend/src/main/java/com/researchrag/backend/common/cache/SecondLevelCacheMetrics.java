@@ -0,0 +1,64 @@
+package com.researchrag.backend.common.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per-region gauges for the Hibernate second-level cache, exposed through the actuator metrics endpoint.
+ * Requires hibernate.generate_statistics=true; without it the counters stay at zero.
+ */
+@Component
+public class SecondLevelCacheMetrics implements MeterBinder {
+
+    private final Statistics statistics;
+
+    public SecondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (String region : statistics.getSecondLevelCacheRegionNames()) {
+            Gauge.builder("hibernate.l2.hit.ratio", statistics, stats -> hitRatio(stats.getCacheRegionStatistics(region)))
+                    .tag("region", region)
+                    .description("Share of second-level cache lookups served from the region")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.l2.requests", statistics, stats -> hits(stats.getCacheRegionStatistics(region)))
+                    .tags("region", region, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.l2.requests", statistics, stats -> misses(stats.getCacheRegionStatistics(region)))
+                    .tags("region", region, "result", "miss")
+                    .register(registry);
+            FunctionCounter.builder("hibernate.l2.puts", statistics, stats -> puts(stats.getCacheRegionStatistics(region)))
+                    .tag("region", region)
+                    .register(registry);
+        }
+    }
+
+    private static double hitRatio(CacheRegionStatistics region) {
+        if (region == null) {
+            return Double.NaN;
+        }
+        long lookups = region.getHitCount() + region.getMissCount();
+        return lookups == 0 ? Double.NaN : (double) region.getHitCount() / lookups;
+    }
+
+    private static double hits(CacheRegionStatistics region) {
+        return region != null ? region.getHitCount() : 0;
+    }
+
+    private static double misses(CacheRegionStatistics region) {
+        return region != null ? region.getMissCount() : 0;
+    }
+
+    private static double puts(CacheRegionStatistics region) {
+        return region != null ? region.getPutCount() : 0;
+    }
+}
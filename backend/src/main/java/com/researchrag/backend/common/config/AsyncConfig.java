@@ -0,0 +1,120 @@
+package com.researchrag.backend.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutor facultyIngestionExecutor(
+            @Value("${publications.ingestion.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${publications.ingestion.queue-capacity:10}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("faculty-ingest-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor batchExportExecutor(
+            @Value("${publications.export.max-threads:4}") int maxThreads,
+            @Value("${publications.export.queue-capacity:50}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxThreads);
+        executor.setMaxPoolSize(maxThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("batch-export-");
+        // When saturated, the requesting thread renders the report itself instead of failing mid-download
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * One thread per running batch summarization job; the job fans its faculty out to summarizationWorkerExecutor.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor summarizationJobExecutor(
+            @Value("${rag.summary.batch.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${rag.summary.batch.queue-capacity:10}") int queueCapacity
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs);
+        executor.setMaxPoolSize(maxConcurrentJobs);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("summary-job-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor summarizationWorkerExecutor(
+            @Value("${rag.summary.batch.max-concurrent-jobs:2}") int maxConcurrentJobs,
+            @Value("${rag.summary.batch.max-parallelism:4}") int maxParallelism
+    ) {
+        // Sized so every admitted job can run its full parallelism; actual LLM calls are capped separately
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentJobs * maxParallelism);
+        executor.setMaxPoolSize(maxConcurrentJobs * maxParallelism);
+        executor.setQueueCapacity(maxConcurrentJobs * maxParallelism);
+        executor.setThreadNamePrefix("summary-worker-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor analyticsBackfillExecutor(
+            @Value("${publications.analytics.backfill-threads:4}") int threads
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("analytics-backfill-");
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor facultyRefreshExecutor(
+            @Value("${publications.refresh.max-concurrent-batches:2}") int maxConcurrentBatches
+    ) {
+        // Bounded on purpose: each thread holds one scrape request open against the Python service
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrentBatches);
+        executor.setMaxPoolSize(maxConcurrentBatches);
+        executor.setThreadNamePrefix("faculty-refresh-");
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * BCrypt runs here instead of on request threads, so a login storm is capped at a few cores and
+     * callers beyond the queue are turned away with a 503 instead of stalling other traffic.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordHashingExecutor(
+            @Value("${application.security.password.hashing.threads:0}") int threads,
+            @Value("${application.security.password.hashing.queue-capacity:64}") int queueCapacity
+    ) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-hash-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,93 @@
+package com.researchrag.backend.common.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * Picks the BCrypt work factor. An explicit {@code application.security.password.bcrypt.strength} wins;
+ * otherwise the first node to start measures hash times on its own hardware and publishes the result in Redis,
+ * so every node hashes with the same cost and logins on different nodes do not keep rehashing each other's work.
+ * Delete {@link #COST_KEY} to recalibrate. A node that cannot read the shared cost uses the default cost
+ * rather than its own measurement, since a cost picked by a faster node could make its logins far too slow.
+ */
+@Component
+public class BCryptCostCalibrator {
+
+    static final String COST_KEY = "auth:bcrypt:cost";
+
+    private static final Logger logger = LoggerFactory.getLogger(BCryptCostCalibrator.class);
+    // BCryptPasswordEncoder's default, which every existing hash was created with
+    private static final int MIN_STRENGTH = 10;
+    private static final int MAX_STRENGTH = 16;
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${application.security.password.bcrypt.strength:0}")
+    private int configuredStrength;
+
+    @Value("${application.security.password.bcrypt.target-millis:250}")
+    private long targetMillis;
+
+    public BCryptCostCalibrator(RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public int resolveStrength() {
+        if (configuredStrength > 0) {
+            return configuredStrength;
+        }
+        try {
+            String shared = redisTemplate.opsForValue().get(COST_KEY);
+            if (shared != null) {
+                return Integer.parseInt(shared);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not read the shared BCrypt cost; using the default cost {}: {}", MIN_STRENGTH, e.getMessage());
+            return MIN_STRENGTH;
+        }
+
+        int calibrated = calibrate(targetMillis);
+        try {
+            // Another node may have calibrated at the same time; whichever wrote first is used everywhere
+            redisTemplate.opsForValue().setIfAbsent(COST_KEY, String.valueOf(calibrated));
+            String shared = redisTemplate.opsForValue().get(COST_KEY);
+            if (shared != null) {
+                return Integer.parseInt(shared);
+            }
+        } catch (Exception e) {
+            logger.warn("Could not publish the calibrated BCrypt cost: {}", e.getMessage());
+        }
+        return calibrated;
+    }
+
+    /**
+     * @return the highest cost whose hash time stays within {@code targetMillis}, but never below the default of 10
+     */
+    public static int calibrate(long targetMillis) {
+        // Warm up first so the measurements are not dominated by interpretation and class loading
+        BCryptPasswordEncoder warmup = new BCryptPasswordEncoder(MIN_STRENGTH);
+        warmup.encode("calibration");
+        warmup.encode("calibration");
+
+        int strength = MIN_STRENGTH;
+        long millis = measure(strength);
+        // Each step doubles the work, so stop before the next one would overshoot the target
+        while (strength < MAX_STRENGTH && millis * 2 <= targetMillis) {
+            strength++;
+            millis = measure(strength);
+        }
+        logger.info("Calibrated BCrypt cost {} ({} ms per hash, target {} ms)", strength, millis, targetMillis);
+        return strength;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
@@ -0,0 +1,67 @@
+package com.researchrag.backend.common.config;
+
+import io.opentelemetry.exporter.logging.otlp.OtlpJsonLoggingSpanExporter;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.logging.Formatter;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.StreamHandler;
+
+/**
+ * Appends finished spans to a file as OTLP JSON, one export batch per line. {@link OtlpJsonLoggingSpanExporter}
+ * writes each batch to its java.util.logging logger; this exporter routes that logger to the file instead of
+ * the application log, and closes the file on {@link #shutdown()}.
+ */
+class FileSpanExporter implements SpanExporter {
+
+    // Held strongly: java.util.logging only keeps weak references to its loggers, and would drop the handler
+    private final Logger logger = Logger.getLogger(OtlpJsonLoggingSpanExporter.class.getName());
+    private final StreamHandler handler;
+    private final SpanExporter delegate = OtlpJsonLoggingSpanExporter.create();
+
+    FileSpanExporter(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        handler = new StreamHandler(new FileOutputStream(path.toFile(), true), new Formatter() {
+            @Override
+            public String format(LogRecord record) {
+                return record.getMessage() + System.lineSeparator();
+            }
+        });
+        handler.setLevel(Level.INFO);
+        logger.setLevel(Level.INFO);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+    }
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        CompletableResultCode result = delegate.export(spans);
+        handler.flush();
+        return result;
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        handler.flush();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        delegate.shutdown();
+        logger.removeHandler(handler);
+        handler.close();
+        return CompletableResultCode.ofSuccess();
+    }
+}
@@ -1,7 +1,12 @@
 package com.researchrag.backend.common.config;
 
 
+import com.researchrag.backend.userapi.token.Token;
+import com.researchrag.backend.userapi.token.TokenDenylist;
 import com.researchrag.backend.userapi.token.TokenRepository;
+import com.researchrag.backend.userapi.user.User;
+import com.researchrag.backend.userapi.user.UserPrincipalCache;
+import io.jsonwebtoken.Claims;
 import io.micrometer.common.lang.NonNull;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -10,20 +15,25 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 
+/**
+ * Authenticates bearer tokens without touching the database on the hot path: one signature/expiry check
+ * with the cached key, a revocation check against the in-memory denylist and the principal from
+ * {@link UserPrincipalCache}. Only tokens issued before the {@code typ} claim existed are still checked
+ * against the token table.
+ */
 @Component
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenDenylist tokenDenylist;
     private final TokenRepository tokenRepository;
 
     @Override
@@ -33,24 +43,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             @NonNull FilterChain filterChain
     ) throws ServletException, IOException {
         final String authHeader = request.getHeader("Authorization");
-        final String jwt;
-        final String userEmail;
         if (authHeader == null || !authHeader.startsWith("Bearer ")){
             filterChain.doFilter(request, response);
             return;
         }
-        jwt = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(jwt);
-        if(userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null){
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userEmail);
-            var isTokenValid = tokenRepository.findByToken(jwt)
-                    .map(t -> !t.isExpired() && !t.isRevoked())
-                    .orElse(false);
-            if(jwtService.isTokenValid(jwt, userDetails) && isTokenValid){
+        final String jwt = authHeader.substring(7);
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            User user = authenticate(jwt);
+            if (user != null) {
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        user,
                         null,
-                        userDetails.getAuthorities()
+                        user.getAuthorities()
                 );
                 authToken.setDetails(
                         new WebAuthenticationDetailsSource().buildDetails(request)
@@ -60,4 +64,26 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * @return the user the access token belongs to, or {@code null} if it must not authenticate the request
+     */
+    User authenticate(String jwt) {
+        Claims claims = jwtService.parseValidClaims(jwt);
+        if (claims == null || claims.getSubject() == null || tokenDenylist.isDenied(jwt)) {
+            return null;
+        }
+        Object type = claims.get(JwtService.TYPE_CLAIM);
+        if (type == null) {
+            boolean active = tokenRepository.findByTokenHash(Token.hashOf(jwt))
+                    .map(t -> !t.isExpired() && !t.isRevoked())
+                    .orElse(false);
+            if (!active) {
+                return null;
+            }
+        } else if (!JwtService.ACCESS_TYPE.equals(type)) {
+            return null;
+        }
+        return userPrincipalCache.get(claims.getSubject());
+    }
 }
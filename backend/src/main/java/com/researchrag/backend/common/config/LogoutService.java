@@ -1,5 +1,7 @@
 package com.researchrag.backend.common.config;
 
+import com.researchrag.backend.userapi.token.Token;
+import com.researchrag.backend.userapi.token.TokenDenylist;
 import com.researchrag.backend.userapi.token.TokenRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -9,11 +11,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.logout.LogoutHandler;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class LogoutService implements LogoutHandler {
 
   private final TokenRepository tokenRepository;
+  private final TokenDenylist tokenDenylist;
+  private final JwtService jwtService;
 
   @Override
   public void logout(
@@ -27,12 +33,8 @@ public class LogoutService implements LogoutHandler {
       return;
     }
     jwt = authHeader.substring(7);
-    var storedToken = tokenRepository.findByToken(jwt)
-        .orElse(null);
-    if (storedToken != null) {
-      storedToken.setExpired(true);
-      storedToken.setRevoked(true);
-      tokenRepository.save(storedToken);
+    tokenDenylist.deny(jwt, jwtService.parseValidClaims(jwt));
+    if (tokenRepository.revokeByTokenHash(Token.hashOf(jwt), LocalDateTime.now()) > 0) {
       SecurityContextHolder.clearContext();
     }
   }
@@ -0,0 +1,68 @@
+package com.researchrag.backend.common.config;
+
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporterBuilder;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.tracing.otlp.OtlpTracingProperties;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Spans for the pieces Spring Boot does not instrument on its own. Controllers, WebClient calls and (through
+ * datasource-micrometer) JDBC statements are observed automatically; spans go to OTLP when
+ * {@code management.otlp.tracing.endpoint} is set, and to a local file when {@code tracing.file.path} is set.
+ *
+ * <p>The exporters are always registered and look at their properties when they are created. Boot's own OTLP
+ * exporter is conditional on the endpoint property, and an AOT-processed build (see the fast-startup profile)
+ * evaluates such conditions once at build time, so it is excluded in {@code BackendApplication} in favour of
+ * the bean here.
+ */
+@Configuration
+@EnableConfigurationProperties(OtlpTracingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public ClientResourcesBuilderCustomizer lettuceTracingCustomizer(
+            ObservationRegistry observationRegistry,
+            @Value("${spring.application.name:research-rag-backend}") String serviceName
+    ) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, serviceName + "-redis"));
+    }
+
+    /**
+     * Exports over OTLP/HTTP to {@code management.otlp.tracing.endpoint}, or does nothing when it is unset.
+     */
+    @Bean
+    public SpanExporter otlpSpanExporter(OtlpTracingProperties properties) {
+        if (properties.getEndpoint() == null || properties.getEndpoint().isBlank()) {
+            return SpanExporter.composite();
+        }
+        OtlpHttpSpanExporterBuilder builder = OtlpHttpSpanExporter.builder()
+                .setEndpoint(properties.getEndpoint())
+                .setTimeout(properties.getTimeout())
+                .setConnectTimeout(properties.getConnectTimeout())
+                .setCompression(properties.getCompression().name().toLowerCase());
+        properties.getHeaders().forEach(builder::addHeader);
+        return builder.build();
+    }
+
+    /**
+     * Appends finished spans as OTLP JSON to {@code tracing.file.path}, for offline analysis without a collector;
+     * does nothing when it is unset.
+     */
+    @Bean
+    public SpanExporter fileSpanExporter(@Value("${tracing.file.path:}") String path) throws IOException {
+        if (path.isBlank()) {
+            return SpanExporter.composite();
+        }
+        return new FileSpanExporter(Path.of(path));
+    }
+}
@@ -1,6 +1,7 @@
-
 package com.researchrag.backend.common.config;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.reactive.function.client.WebClientCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
@@ -10,11 +11,14 @@ import org.springframework.web.reactive.function.client.WebClient;
 public class WebClientConfig {
 
     @Bean
-    public WebClient.Builder webClientBuilder() {
+    public WebClient.Builder webClientBuilder(ObjectProvider<WebClientCustomizer> customizers) {
         final int size = 16 * 1024 * 1024; // 16 MB buffer size
         final ExchangeStrategies strategies = ExchangeStrategies.builder()
                 .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize(size))
                 .build();
-        return WebClient.builder().exchangeStrategies(strategies);
+        WebClient.Builder builder = WebClient.builder().exchangeStrategies(strategies);
+        // This bean replaces Boot's builder, so apply its customizers (observations, trace headers) ourselves
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
     }
 }
@@ -0,0 +1,65 @@
+package com.researchrag.backend.common.ratelimit;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+/**
+ * Endpoint groups that share one token bucket per user, because they all end up on the Python/LLM tier.
+ * Limits are read from {@code rate-limit.<property>.*}; the values here are the defaults.
+ */
+public enum RateLimitClass {
+
+    QA("qa", 20, 10, List.of(
+            new Route(HttpMethod.POST, "/api/v1/qa/ask"))),
+    SUMMARY("summary", 10, 5, List.of(
+            new Route(HttpMethod.GET, "/api/v1/publications/summary/**"),
+            new Route(HttpMethod.POST, "/api/v1/publications/batches/*/summaries/jobs"))),
+    UPLOAD("upload", 10, 5, List.of(
+            new Route(HttpMethod.POST, "/api/v1/documents"),
+            new Route(HttpMethod.POST, "/api/v1/publications/upload")));
+
+    private record Route(HttpMethod method, String pattern) {
+    }
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final String property;
+    private final int defaultCapacity;
+    private final int defaultRefillPerMinute;
+    private final List<Route> routes;
+
+    RateLimitClass(String property, int defaultCapacity, int defaultRefillPerMinute, List<Route> routes) {
+        this.property = property;
+        this.defaultCapacity = defaultCapacity;
+        this.defaultRefillPerMinute = defaultRefillPerMinute;
+        this.routes = routes;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    public int getDefaultRefillPerMinute() {
+        return defaultRefillPerMinute;
+    }
+
+    /**
+     * @return the class the request belongs to, or {@code null} if it is not rate limited
+     */
+    public static RateLimitClass match(String method, String path) {
+        for (RateLimitClass limitClass : values()) {
+            for (Route route : limitClass.routes) {
+                if (route.method().matches(method) && PATH_MATCHER.match(route.pattern(), path)) {
+                    return limitClass;
+                }
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,97 @@
+package com.researchrag.backend.common.ratelimit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.researchrag.backend.common.exception.ErrorResponse;
+import com.researchrag.backend.userapi.user.User;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Applies {@link RedisRateLimiter} to the endpoints listed in {@link RateLimitClass}. Runs right after
+ * {@code JwtAuthenticationFilter}, so authenticated callers are limited per user and anonymous ones per client
+ * address. Every limited response carries the {@code RateLimit-*} headers; a rejected one is a 429 with
+ * {@code Retry-After} and the same body {@code GlobalExceptionHandler} produces.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RedisRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        RateLimitClass limitClass = RateLimitClass.match(request.getMethod(), path);
+        if (limitClass == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Integer userId = currentUserId();
+        String subject = userId != null ? "u:" + userId : "ip:" + request.getRemoteAddr();
+        RedisRateLimiter.Decision decision = rateLimiter.tryAcquire(limitClass, subject, userId);
+
+        RedisRateLimiter.Limit limit = decision.limit();
+        response.setHeader("RateLimit-Policy", limit.capacity() + ";w=" + limit.windowSeconds());
+        response.setHeader("RateLimit-Limit", String.valueOf(limit.capacity()));
+        response.setHeader("RateLimit-Remaining", String.valueOf(decision.remaining()));
+        response.setHeader("RateLimit-Reset", String.valueOf(toSeconds(decision.resetMillis())));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, toSeconds(decision.retryAfterMillis()));
+        ErrorResponse errorResponse = ErrorResponse.builder()
+                .timestamp(LocalDateTime.now())
+                .status(HttpStatus.TOO_MANY_REQUESTS.value())
+                .error("Too Many Requests")
+                .message("Rate limit exceeded. Please retry in " + retryAfterSeconds + " seconds.")
+                .path(path)
+                .build();
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    private static Integer currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user.getId();
+        }
+        return null;
+    }
+
+    private static long toSeconds(long millis) {
+        return (millis + 999) / 1000;
+    }
+}
@@ -0,0 +1,188 @@
+package com.researchrag.backend.common.ratelimit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-user token buckets shared by all backend nodes. The bucket itself lives in Redis and is updated by one
+ * Lua script, so concurrent requests on different nodes cannot both take the last token. Local state keeps
+ * Redis out of most requests: limits are resolved once per (class, user); each call to Redis leases a few
+ * tokens, which the following requests on this node spend from memory; and a caller that has just been denied
+ * is denied locally until its next token is due. Leases are small and expire, so a node can only hold back a
+ * fraction of a bucket for a short time.
+ */
+@Component
+public class RedisRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RedisRateLimiter.class);
+    private static final String KEY_PREFIX = "ratelimit:";
+    private static final int MAX_LOCAL_ENTRIES = 10_000;
+
+    public record Limit(int capacity, int refillPerMinute) {
+
+        /**
+         * Seconds an empty bucket needs to fill up again, used as the window of the {@code RateLimit-Policy} header.
+         */
+        public long windowSeconds() {
+            return Math.max(1, (long) Math.ceil(capacity * 60.0 / refillPerMinute));
+        }
+    }
+
+    public record Decision(boolean allowed, Limit limit, long remaining, long retryAfterMillis, long resetMillis) {
+    }
+
+    /**
+     * What this node knows about one bucket. Times are System.currentTimeMillis().
+     */
+    private static final class LocalBucket {
+        // Before this time the bucket is known to be empty
+        long deniedUntil;
+        // Tokens taken from Redis and not yet spent, usable until leaseExpiresAt
+        int leased;
+        long leaseExpiresAt;
+        // Tokens left in Redis when the lease was taken
+        long sharedRemaining;
+    }
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Environment environment;
+    private final DefaultRedisScript<List> script;
+    // Both maps are keyed by user or IP address, so they are bounded and drop their least recently used entry
+    private final Map<String, Limit> limits = boundedMap();
+    private final Map<String, LocalBucket> localBuckets = boundedMap();
+
+    @Value("${rate-limit.fail-open:true}")
+    private boolean failOpen;
+
+    @Value("${rate-limit.lease-size:4}")
+    private int leaseSize;
+
+    @Value("${rate-limit.lease-ttl-ms:5000}")
+    private long leaseTtlMillis;
+
+    public RedisRateLimiter(RedisTemplate<String, String> redisTemplate, Environment environment) {
+        this.redisTemplate = redisTemplate;
+        this.environment = environment;
+        this.script = new DefaultRedisScript<>();
+        this.script.setLocation(new ClassPathResource("scripts/token_bucket.lua"));
+        this.script.setResultType(List.class);
+    }
+
+    /**
+     * Takes one token from the caller's bucket for {@code limitClass}.
+     *
+     * @param subject {@code u:<userId>} for authenticated users, {@code ip:<address>} otherwise
+     * @param userId  the user whose overrides apply, or {@code null} for anonymous callers
+     */
+    public Decision tryAcquire(RateLimitClass limitClass, String subject, Integer userId) {
+        Limit limit = limitFor(limitClass, userId);
+        String key = KEY_PREFIX + limitClass.getProperty() + ":" + subject;
+
+        long now = System.currentTimeMillis();
+        synchronized (localBuckets) {
+            LocalBucket local = localBuckets.get(key);
+            if (local != null && now < local.deniedUntil) {
+                long retryAfter = local.deniedUntil - now;
+                return new Decision(false, limit, 0, retryAfter, retryAfter + (limit.capacity() - 1) * refillIntervalMillis(limit));
+            }
+            if (local != null && local.leased > 0 && now < local.leaseExpiresAt) {
+                local.leased--;
+                long remaining = local.sharedRemaining + local.leased;
+                return new Decision(true, limit, remaining, 0, (limit.capacity() - remaining) * refillIntervalMillis(limit));
+            }
+        }
+
+        // A quarter of the bucket at most, so the other nodes serving this caller still find tokens in Redis
+        int lease = Math.max(1, Math.min(leaseSize, limit.capacity() / 4));
+        List<?> result;
+        try {
+            double refillPerMilli = limit.refillPerMinute() / 60_000.0;
+            result = redisTemplate.execute(script, List.of(key),
+                    String.valueOf(limit.capacity()), String.valueOf(refillPerMilli), String.valueOf(lease));
+        } catch (Exception e) {
+            logger.warn("Rate limiter unavailable for {}: {}", key, e.getMessage());
+            result = null;
+        }
+        if (result == null || result.size() < 4) {
+            // Without Redis there is no shared bucket; either let the request through or refuse it, as configured
+            return new Decision(failOpen, limit, failOpen ? limit.capacity() : 0, failOpen ? 0 : 1000, 0);
+        }
+
+        long taken = toLong(result.get(0));
+        long sharedRemaining = toLong(result.get(1));
+        long retryAfter = toLong(result.get(2));
+        long reset = toLong(result.get(3));
+        synchronized (localBuckets) {
+            LocalBucket local = localBuckets.computeIfAbsent(key, k -> new LocalBucket());
+            if (taken == 0) {
+                local.deniedUntil = now + retryAfter;
+            } else {
+                local.leased = (int) taken - 1;
+                local.leaseExpiresAt = now + leaseTtlMillis;
+                local.sharedRemaining = sharedRemaining;
+            }
+        }
+        return new Decision(taken > 0, limit, sharedRemaining + Math.max(0, taken - 1), retryAfter, reset);
+    }
+
+    /**
+     * Limits come from {@code rate-limit.<class>.capacity} / {@code refill-per-minute}, overridden for one user by
+     * {@code rate-limit.<class>.users.<userId>.capacity} / {@code refill-per-minute}.
+     */
+    Limit limitFor(RateLimitClass limitClass, Integer userId) {
+        String cacheKey = limitClass.getProperty() + ":" + (userId != null ? userId : "");
+        synchronized (limits) {
+            Limit cached = limits.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Limit limit = resolveLimit(limitClass, userId);
+        synchronized (limits) {
+            limits.put(cacheKey, limit);
+        }
+        return limit;
+    }
+
+    private Limit resolveLimit(RateLimitClass limitClass, Integer userId) {
+        String base = "rate-limit." + limitClass.getProperty();
+        int capacity = environment.getProperty(base + ".capacity", Integer.class, limitClass.getDefaultCapacity());
+        int refill = environment.getProperty(base + ".refill-per-minute", Integer.class, limitClass.getDefaultRefillPerMinute());
+        if (userId != null) {
+            String userBase = base + ".users." + userId;
+            capacity = environment.getProperty(userBase + ".capacity", Integer.class, capacity);
+            refill = environment.getProperty(userBase + ".refill-per-minute", Integer.class, refill);
+        }
+        return new Limit(Math.max(1, capacity), Math.max(1, refill));
+    }
+
+    /**
+     * Access-ordered, so every access reorders it; callers hold the map's lock.
+     */
+    private static <V> Map<String, V> boundedMap() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > MAX_LOCAL_ENTRIES;
+            }
+        };
+    }
+
+    private static long refillIntervalMillis(Limit limit) {
+        return (long) Math.ceil(60_000.0 / limit.refillPerMinute());
+    }
+
+    private static long toLong(Object value) {
+        return value instanceof Number number ? number.longValue() : Long.parseLong(String.valueOf(value));
+    }
+}
@@ -0,0 +1,22 @@
+package com.researchrag.backend.common.web;
+
+import org.springframework.http.CacheControl;
+
+/**
+ * Cheap aggregate over a set of rows (row count, highest id and a sum of change counters) that changes
+ * whenever a row is added, removed or updated. Selected with a JPQL constructor expression and turned
+ * into a strong ETag, so conditional GETs can answer 304 without loading the rows themselves.
+ */
+public record ChangeStamp(Long count, Long maxId, Long total) {
+
+    /** Lets clients keep the response but forces them to revalidate it with If-None-Match on every use. */
+    public static final CacheControl CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
+    public static ChangeStamp ofVersion(Long id, long version) {
+        return new ChangeStamp(1L, id, version);
+    }
+
+    public String etag(String scope) {
+        return "\"" + scope + "-" + count + "." + maxId + "." + total + "\"";
+    }
+}
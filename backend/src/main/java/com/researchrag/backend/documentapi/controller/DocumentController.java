@@ -1,6 +1,9 @@
 package com.researchrag.backend.documentapi.controller;
 
+import com.researchrag.backend.common.exception.TooManyRequestsException;
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.researchrag.backend.documentapi.dto.DocumentMetadataDto;
+import com.researchrag.backend.documentapi.dto.StatusUpdateBatchResponse;
 import com.researchrag.backend.documentapi.dto.StatusUpdateRequest;
 import com.researchrag.backend.documentapi.service.DocumentService;
 import com.researchrag.backend.userapi.user.User;
@@ -9,6 +12,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -27,10 +31,15 @@ public class DocumentController {
 
     @GetMapping
     public ResponseEntity<List<DocumentMetadataDto>> getAllDocuments(
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        String etag = documentService.getDocumentsStamp(user).etag("documents");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<DocumentMetadataDto> documents = documentService.getAllDocuments(user);
-        return ResponseEntity.ok(documents);
+        return ResponseEntity.ok().cacheControl(ChangeStamp.CACHE_CONTROL).eTag(etag).body(documents);
     }
 
     @PostMapping
@@ -41,6 +50,9 @@ public class DocumentController {
         try {
             DocumentMetadataDto metadata = documentService.uploadAndProcessDocument(file, user);
             return new ResponseEntity<>(metadata, HttpStatus.ACCEPTED);
+        } catch (TooManyRequestsException e) {
+            // Rendered as 429 with Retry-After by GlobalExceptionHandler
+            throw e;
         } catch (IOException e) {
             logger.error("IOException during file upload: " + e.getMessage(), e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -60,11 +72,22 @@ public class DocumentController {
     public ResponseEntity<Void> updateStatus(@RequestBody StatusUpdateRequest request) {
         try {
             logger.info("Received status update callback: {}", request);
-            documentService.updateDocumentStatus(request.getDocumentId(), request.getStatus(), request.getPythonDocumentId());
+            documentService.updateDocumentStatus(request);
             return ResponseEntity.ok().build();
         } catch (Exception e) {
             logger.error("Error processing status update callback: " + e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    @PostMapping("/callback/status/batch")
+    public ResponseEntity<StatusUpdateBatchResponse> updateStatusBatch(@RequestBody List<StatusUpdateRequest> requests) {
+        try {
+            logger.info("Received batch status update callback with {} items", requests.size());
+            return ResponseEntity.ok(documentService.applyStatusUpdates(requests));
+        } catch (Exception e) {
+            logger.error("Error processing batch status update callback: " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 }
@@ -18,4 +18,5 @@ public class DocumentMetadataDto {
     private LocalDateTime uploadDate;
     private DocumentStatus status;
     private String pythonDocumentId; // New field
+    private String errorMessage;
 }
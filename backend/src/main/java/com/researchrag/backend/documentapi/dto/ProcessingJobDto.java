@@ -12,4 +12,6 @@ import lombok.NoArgsConstructor;
 public class ProcessingJobDto {
     private Long documentId;
     private String filePath;
+    private String traceparent; // W3C trace context of the upload, so the worker's callback joins the same trace
+    private Long enqueuedAt; // Epoch millis when the job was pushed, for the queue-wait span
 }
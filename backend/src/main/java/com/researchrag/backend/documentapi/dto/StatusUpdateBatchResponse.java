@@ -0,0 +1,15 @@
+package com.researchrag.backend.documentapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusUpdateBatchResponse {
+    private int received;
+    private int applied;
+}
@@ -15,4 +15,9 @@ public class StatusUpdateRequest {
     private DocumentStatus status;
     private String pythonDocumentId; // Can be null if status is FAILED
     private String errorMessage;
+    private Long sequence; // Monotonic per job; retried callbacks reuse the same value
+    // Echoed from the ProcessingJobDto, plus the epoch millis the worker picked the job up; all optional
+    private String traceparent;
+    private Long enqueuedAt;
+    private Long startedAt;
 }
@@ -27,8 +27,21 @@ public class Document {
     private DocumentStatus status;
     private LocalDateTime uploadDate;
     private String pythonDocumentId; // New field to store Python's UUID
+    @Column(length = 2000)
+    private String errorMessage; // Reason reported by the worker when status is FAILED
+    private Long statusSequence; // Highest worker callback sequence applied so far
+
+    // Change counter for ETags. Not @Version: worker callbacks update rows with plain SQL and must not
+    // turn a concurrent delete into an optimistic-lock failure
+    @Column(nullable = false)
+    private long version;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
+
+    @PreUpdate
+    void bumpVersion() {
+        version++;
+    }
 }
@@ -2,6 +2,7 @@ package com.researchrag.backend.documentapi.model;
 
 public enum DocumentStatus {
     UPLOADING,
+    DEFERRED,
     PROCESSING,
     COMPLETED,
     FAILED
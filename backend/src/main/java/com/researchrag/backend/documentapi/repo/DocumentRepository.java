@@ -1,13 +1,40 @@
 package com.researchrag.backend.documentapi.repo;
 
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.researchrag.backend.documentapi.model.Document;
+import com.researchrag.backend.documentapi.model.DocumentStatus;
 import com.researchrag.backend.userapi.user.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface DocumentRepository extends JpaRepository<Document, Long> {
+public interface DocumentRepository extends JpaRepository<Document, Long>, DocumentRepositoryCustom {
     List<Document> findByUser(User user);
+
+    @Query("SELECT new com.researchrag.backend.common.web.ChangeStamp(COUNT(d), COALESCE(MAX(d.id), 0), COALESCE(SUM(d.version), 0)) " +
+           "FROM Document d WHERE d.user = :user")
+    ChangeStamp findChangeStampByUser(@Param("user") User user);
+
+    long countByUserAndStatusIn(User user, Collection<DocumentStatus> statuses);
+
+    long countByStatus(DocumentStatus status);
+
+    Optional<Document> findFirstByUserAndStatusInOrderByUploadDateAsc(User user, Collection<DocumentStatus> statuses);
+
+    long countByStatusInAndUploadDateBefore(Collection<DocumentStatus> statuses, LocalDateTime uploadDate);
+
+    List<Document> findByStatusOrderByUploadDateAsc(DocumentStatus status, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Document d SET d.status = :to, d.version = d.version + 1 WHERE d.id = :id AND d.status = :from")
+    int transitionStatus(@Param("id") Long id, @Param("from") DocumentStatus from, @Param("to") DocumentStatus to);
 }
@@ -0,0 +1,19 @@
+package com.researchrag.backend.documentapi.repo;
+
+import com.researchrag.backend.documentapi.dto.StatusUpdateRequest;
+import com.researchrag.backend.documentapi.model.DocumentStatus;
+
+import java.util.List;
+
+public interface DocumentRepositoryCustom {
+
+    /**
+     * Applies the given updates, all carrying {@code status}, as a single UPDATE statement (split only for
+     * very large groups). Rows whose stored sequence is already at or beyond the update's sequence are left
+     * untouched, so retried callbacks are no-ops. Must run in a transaction: the rows are locked while the
+     * sequences are compared.
+     *
+     * @return the updates that actually changed their row, in the order given
+     */
+    List<StatusUpdateRequest> applyStatusUpdates(DocumentStatus status, List<StatusUpdateRequest> updates);
+}
@@ -0,0 +1,112 @@
+package com.researchrag.backend.documentapi.repo;
+
+import com.researchrag.backend.documentapi.dto.StatusUpdateRequest;
+import com.researchrag.backend.documentapi.model.DocumentStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@RequiredArgsConstructor
+public class DocumentRepositoryImpl implements DocumentRepositoryCustom {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+    // Keeps each statement's parameter count well below the driver's limit
+    private static final int MAX_IDS_PER_STATEMENT = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<StatusUpdateRequest> applyStatusUpdates(DocumentStatus status, List<StatusUpdateRequest> updates) {
+        List<StatusUpdateRequest> applied = new ArrayList<>();
+        for (int from = 0; from < updates.size(); from += MAX_IDS_PER_STATEMENT) {
+            List<StatusUpdateRequest> chunk = updates.subList(from, Math.min(from + MAX_IDS_PER_STATEMENT, updates.size()));
+            List<StatusUpdateRequest> current = notYetApplied(chunk);
+            if (!current.isEmpty()) {
+                update(status, current);
+                applied.addAll(current);
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Locks the rows of the given updates and returns the updates whose sequence is newer than the stored one.
+     * The lock holds until the surrounding transaction ends, so the UPDATE that follows changes exactly these rows.
+     */
+    private List<StatusUpdateRequest> notYetApplied(List<StatusUpdateRequest> updates) {
+        Map<Long, Long> storedSequences = new HashMap<>();
+        jdbcTemplate.query("SELECT id, status_sequence FROM documents WHERE id IN (" + placeholders(updates.size()) + ") FOR UPDATE",
+                rs -> {
+                    long sequence = rs.getLong(2);
+                    storedSequences.put(rs.getLong(1), rs.wasNull() ? null : sequence);
+                },
+                updates.stream().map(StatusUpdateRequest::getDocumentId).toArray());
+
+        List<StatusUpdateRequest> current = new ArrayList<>();
+        for (StatusUpdateRequest update : updates) {
+            if (!storedSequences.containsKey(update.getDocumentId())) {
+                continue;
+            }
+            Long stored = storedSequences.get(update.getDocumentId());
+            if (update.getSequence() == null || stored == null || stored < update.getSequence()) {
+                current.add(update);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * One UPDATE for the whole group: the status is shared, the per-row values are picked by id.
+     */
+    private void update(DocumentStatus status, List<StatusUpdateRequest> updates) {
+        String cases = String.join(" ", Collections.nCopies(updates.size(), "WHEN ? THEN ?"));
+        String sql = "UPDATE documents SET status = ?, " +
+                "python_document_id = COALESCE(CASE id " + cases + " END, python_document_id), " +
+                "error_message = CASE id " + cases + " END, " +
+                "status_sequence = COALESCE(CASE id " + cases + " END, status_sequence), " +
+                "version = version + 1 " +
+                "WHERE id IN (" + placeholders(updates.size()) + ")";
+
+        List<Object> args = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        add(args, types, status.name(), Types.VARCHAR);
+        for (StatusUpdateRequest update : updates) {
+            add(args, types, update.getDocumentId(), Types.BIGINT);
+            add(args, types, update.getPythonDocumentId(), Types.VARCHAR);
+        }
+        for (StatusUpdateRequest update : updates) {
+            add(args, types, update.getDocumentId(), Types.BIGINT);
+            add(args, types, truncate(update.getErrorMessage()), Types.VARCHAR);
+        }
+        for (StatusUpdateRequest update : updates) {
+            add(args, types, update.getDocumentId(), Types.BIGINT);
+            add(args, types, update.getSequence(), Types.BIGINT);
+        }
+        for (StatusUpdateRequest update : updates) {
+            add(args, types, update.getDocumentId(), Types.BIGINT);
+        }
+        jdbcTemplate.update(sql, args.toArray(), types.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    private static void add(List<Object> args, List<Integer> types, Object value, int type) {
+        args.add(value);
+        types.add(type);
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_MESSAGE_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_MESSAGE_LENGTH);
+    }
+}
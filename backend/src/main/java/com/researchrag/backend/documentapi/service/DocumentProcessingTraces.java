@@ -0,0 +1,74 @@
+package com.researchrag.backend.documentapi.service;
+
+import com.researchrag.backend.documentapi.dto.StatusUpdateRequest;
+import com.researchrag.backend.documentapi.model.DocumentStatus;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carries the upload's trace through the Redis queue. The job payload holds the W3C {@code traceparent}; the
+ * worker echoes it on its callback together with when it picked the job up, and the callback then records
+ * the queue wait and the processing time as spans of the original upload trace.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentProcessingTraces {
+
+    private static final String TRACEPARENT = "traceparent";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    /**
+     * The {@code traceparent} header value of the current span, or null when nothing is being traced.
+     */
+    public String currentTraceparent() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        Map<String, String> carrier = new HashMap<>();
+        propagator.inject(span.context(), carrier, Map::put);
+        return carrier.get(TRACEPARENT);
+    }
+
+    /**
+     * Records {@code document.queue} (enqueued until picked up) and {@code document.process} (picked up until
+     * this callback) for a terminal update. Updates without trace context, or from workers that do not report
+     * timestamps, are skipped.
+     */
+    public void recordProcessing(StatusUpdateRequest update) {
+        if (update.getTraceparent() == null || update.getEnqueuedAt() == null
+                || (update.getStatus() != DocumentStatus.COMPLETED && update.getStatus() != DocumentStatus.FAILED)) {
+            return;
+        }
+        long finishedAt = System.currentTimeMillis();
+        long startedAt = update.getStartedAt() != null ? update.getStartedAt() : update.getEnqueuedAt();
+
+        if (update.getStartedAt() != null) {
+            childOf(update, "document.queue", update.getEnqueuedAt())
+                    .end(startedAt, TimeUnit.MILLISECONDS);
+        }
+        Span process = childOf(update, "document.process", startedAt)
+                .tag("document.status", update.getStatus().name());
+        if (update.getErrorMessage() != null) {
+            process.tag("error", update.getErrorMessage());
+        }
+        process.end(Math.max(finishedAt, startedAt), TimeUnit.MILLISECONDS);
+    }
+
+    private Span childOf(StatusUpdateRequest update, String name, long startMillis) {
+        return propagator.extract(Map.of(TRACEPARENT, update.getTraceparent()), Map::get)
+                .name(name)
+                .tag("document.id", String.valueOf(update.getDocumentId()))
+                .startTimestamp(startMillis, TimeUnit.MILLISECONDS)
+                .start();
+    }
+}
@@ -1,5 +1,6 @@
 package com.researchrag.backend.documentapi.service;
 
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.researchrag.backend.documentapi.dto.*;
 import com.researchrag.backend.documentapi.model.Document;
 import com.researchrag.backend.documentapi.model.DocumentStatus;
@@ -10,10 +11,13 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -28,6 +32,10 @@ import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import java.util.List;
@@ -46,6 +54,9 @@ public class DocumentService {
     private final WebClient.Builder webClientBuilder;
     private final RedisTemplate<String, String> redisTemplate;
     private final ObjectMapper objectMapper;
+    private final UploadAdmissionService uploadAdmissionService;
+    private final DocumentProcessingTraces processingTraces;
+    private final TransactionTemplate transactionTemplate;
 
     private static final long CACHE_TTL_SECONDS = 300; // 5 minutes
 
@@ -61,49 +72,58 @@ public class DocumentService {
                         .uploadDate(doc.getUploadDate())
                         .status(doc.getStatus())
                         .pythonDocumentId(doc.getPythonDocumentId())
+                        .errorMessage(doc.getErrorMessage())
                         .build())
                 .collect(Collectors.toList());
     }
 
+    public ChangeStamp getDocumentsStamp(User user) {
+        return documentRepository.findChangeStampByUser(user);
+    }
+
     public DocumentMetadataDto uploadAndProcessDocument(MultipartFile file, User user) throws IOException {
-        // 1. Save file to a temporary local directory
-        File uploadDir = new File(UPLOAD_DIR);
-        if (!uploadDir.exists()) {
-            uploadDir.mkdirs();
-        }
-        String uniqueFileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
-        Path filePath = Paths.get(UPLOAD_DIR + uniqueFileName);
-        Files.copy(file.getInputStream(), filePath);
-
-        // 2. Create a document record in the database with PROCESSING status
-        Document document = Document.builder()
-                .fileName(file.getOriginalFilename())
-                .storageFileName(uniqueFileName)
-                .contentType(file.getContentType())
-                .size(file.getSize())
-                .uploadDate(LocalDateTime.now())
-                .status(DocumentStatus.PROCESSING) // Set status to PROCESSING
-                .user(user)
-                .build();
-        final Document savedDocument = documentRepository.save(document);
+        // 1. Reserve a queue slot before anything touches the disk; released once the document is saved and queued
+        final Document savedDocument;
+        try (UploadAdmissionService.Admission admission = uploadAdmissionService.admit(user)) {
+            // 2. Save file to a temporary local directory
+            File uploadDir = new File(UPLOAD_DIR);
+            if (!uploadDir.exists()) {
+                uploadDir.mkdirs();
+            }
+            String uniqueFileName = UUID.randomUUID().toString() + "_" + file.getOriginalFilename();
+            Path filePath = Paths.get(UPLOAD_DIR + uniqueFileName);
+            Files.copy(file.getInputStream(), filePath);
 
-        // 3. Create a job payload and push it to the Redis queue
-        try {
-            ProcessingJobDto job = new ProcessingJobDto(savedDocument.getId(), filePath.toAbsolutePath().toString());
-            String jobJson = objectMapper.writeValueAsString(job);
-            redisTemplate.opsForList().leftPush(PROCESSING_QUEUE, jobJson);
-            logger.info("Enqueued document {} for processing.", savedDocument.getId());
-        } catch (JsonProcessingException e) {
-            logger.error("Failed to serialize processing job for document id: {}", savedDocument.getId(), e);
-            // If queuing fails, mark document as FAILED
-            savedDocument.setStatus(DocumentStatus.FAILED);
-            documentRepository.save(savedDocument);
-            // Clean up the saved file
-            Files.delete(filePath);
-            throw new RuntimeException("Could not enqueue document for processing.", e);
+            // 3. Create a document record in the database; deferred uploads wait for queue headroom
+            boolean deferred = admission.decision() == UploadAdmissionService.Decision.DEFER;
+            Document document = Document.builder()
+                    .fileName(file.getOriginalFilename())
+                    .storageFileName(uniqueFileName)
+                    .contentType(file.getContentType())
+                    .size(file.getSize())
+                    .uploadDate(LocalDateTime.now())
+                    .status(deferred ? DocumentStatus.DEFERRED : DocumentStatus.PROCESSING)
+                    .user(user)
+                    .build();
+            savedDocument = documentRepository.save(document);
+
+            // 4. Create a job payload and push it to the Redis queue
+            if (!deferred) {
+                try {
+                    enqueue(savedDocument.getId(), filePath);
+                } catch (JsonProcessingException e) {
+                    logger.error("Failed to serialize processing job for document id: {}", savedDocument.getId(), e);
+                    // If queuing fails, mark document as FAILED
+                    savedDocument.setStatus(DocumentStatus.FAILED);
+                    documentRepository.save(savedDocument);
+                    // Clean up the saved file
+                    Files.delete(filePath);
+                    throw new RuntimeException("Could not enqueue document for processing.", e);
+                }
+            }
         }
 
-        // 4. Return immediately to the user
+        // 5. Return immediately to the user
         return DocumentMetadataDto.builder()
                 .id(savedDocument.getId())
                 .fileName(savedDocument.getFileName())
@@ -112,16 +132,99 @@ public class DocumentService {
                 .build();
     }
 
-    public void updateDocumentStatus(Long documentId, DocumentStatus status, String pythonDocumentId) {
-        Document document = documentRepository.findById(documentId)
-                .orElseThrow(() -> new RuntimeException("Document not found with ID: " + documentId));
+    private void enqueue(Long documentId, Path filePath) throws JsonProcessingException {
+        ProcessingJobDto job = ProcessingJobDto.builder()
+                .documentId(documentId)
+                .filePath(filePath.toAbsolutePath().toString())
+                .traceparent(processingTraces.currentTraceparent())
+                .enqueuedAt(System.currentTimeMillis())
+                .build();
+        String jobJson = objectMapper.writeValueAsString(job);
+        redisTemplate.opsForList().leftPush(PROCESSING_QUEUE, jobJson);
+        logger.info("Enqueued document {} for processing.", documentId);
+    }
 
-        document.setStatus(status);
-        if (pythonDocumentId != null) {
-            document.setPythonDocumentId(pythonDocumentId);
+    /**
+     * Moves deferred uploads into the processing queue, oldest first, as far as the queue has headroom.
+     * The DEFERRED -> PROCESSING transition is a conditional update, so only one node enqueues each document.
+     * Each transition commits before its job is pushed: a Redis push cannot be rolled back, so a job must never
+     * be queued for a document whose transition might still roll back to DEFERRED and be promoted again.
+     */
+    @Scheduled(fixedDelayString = "${rag.upload.admission.promote-interval-ms:30000}")
+    public void promoteDeferredDocuments() {
+        long headroom = uploadAdmissionService.queueHeadroom();
+        if (headroom == 0) {
+            return;
+        }
+        List<Document> deferred = documentRepository.findByStatusOrderByUploadDateAsc(
+                DocumentStatus.DEFERRED, PageRequest.of(0, (int) Math.min(headroom, Integer.MAX_VALUE)));
+        for (Document document : deferred) {
+            if (!transition(document.getId(), DocumentStatus.DEFERRED, DocumentStatus.PROCESSING)) {
+                continue;
+            }
+            try {
+                enqueue(document.getId(), Paths.get(UPLOAD_DIR + document.getStorageFileName()));
+            } catch (JsonProcessingException e) {
+                logger.error("Failed to serialize processing job for deferred document id: {}", document.getId(), e);
+                transition(document.getId(), DocumentStatus.PROCESSING, DocumentStatus.FAILED);
+            } catch (RuntimeException e) {
+                // Not queued, so hand the document back to a later run rather than leave it PROCESSING forever
+                logger.error("Failed to enqueue deferred document id: {}", document.getId(), e);
+                transition(document.getId(), DocumentStatus.PROCESSING, DocumentStatus.DEFERRED);
+                return;
+            }
         }
-        documentRepository.save(document);
-        logger.info("Updated status for document {} to {}", documentId, status);
+    }
+
+    private boolean transition(Long documentId, DocumentStatus from, DocumentStatus to) {
+        return Boolean.TRUE.equals(transactionTemplate.execute(status ->
+                documentRepository.transitionStatus(documentId, from, to) == 1));
+    }
+
+    @Transactional
+    public void updateDocumentStatus(StatusUpdateRequest update) {
+        if (applyStatusUpdates(List.of(update)).getApplied() == 0
+                && update.getDocumentId() != null && !documentRepository.existsById(update.getDocumentId())) {
+            // A stale or repeated callback also applies nothing, but for a document that exists
+            logger.warn("Ignoring status update for unknown document id: {}", update.getDocumentId());
+        }
+    }
+
+    @Transactional
+    public StatusUpdateBatchResponse applyStatusUpdates(List<StatusUpdateRequest> updates) {
+        // Collapse to one update per document, keeping the latest by sequence (or by arrival order)
+        Map<Long, StatusUpdateRequest> latestByDocument = new LinkedHashMap<>();
+        for (StatusUpdateRequest update : updates) {
+            if (update.getDocumentId() == null || update.getStatus() == null) {
+                logger.warn("Ignoring malformed status update: {}", update);
+                continue;
+            }
+            latestByDocument.merge(update.getDocumentId(), update, (current, candidate) ->
+                    current.getSequence() != null && candidate.getSequence() != null
+                            && candidate.getSequence() < current.getSequence() ? current : candidate);
+        }
+
+        Map<DocumentStatus, List<StatusUpdateRequest>> byStatus = latestByDocument.values().stream()
+                .collect(Collectors.groupingBy(StatusUpdateRequest::getStatus,
+                        () -> new EnumMap<>(DocumentStatus.class), Collectors.toList()));
+
+        List<StatusUpdateRequest> applied = new ArrayList<>();
+        int drained = 0;
+        for (Map.Entry<DocumentStatus, List<StatusUpdateRequest>> entry : byStatus.entrySet()) {
+            List<StatusUpdateRequest> changed = documentRepository.applyStatusUpdates(entry.getKey(), entry.getValue());
+            applied.addAll(changed);
+            if (entry.getKey() == DocumentStatus.COMPLETED || entry.getKey() == DocumentStatus.FAILED) {
+                drained += changed.size();
+            }
+        }
+        uploadAdmissionService.recordDrained(drained);
+        // Stale or retried callbacks were rejected by the sequence check and must not add a second set of spans
+        applied.forEach(processingTraces::recordProcessing);
+        logger.info("Applied {} of {} status updates", applied.size(), updates.size());
+        return StatusUpdateBatchResponse.builder()
+                .received(updates.size())
+                .applied(applied.size())
+                .build();
     }
 
     @Transactional
@@ -0,0 +1,225 @@
+package com.researchrag.backend.documentapi.service;
+
+import com.researchrag.backend.common.exception.TooManyRequestsException;
+import com.researchrag.backend.documentapi.model.DocumentStatus;
+import com.researchrag.backend.documentapi.repo.DocumentRepository;
+import com.researchrag.backend.userapi.user.User;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether a new upload may enter the processing queue, based on the live queue depth,
+ * the drain rate measured from worker callbacks, and the number of documents a user already has in flight.
+ *
+ * <p>Admission reserves its slot in Redis ({@code scripts/upload_admission.lua}) before the upload is saved or
+ * queued, so concurrent uploads on any node count each other; the reservation is held until the document is
+ * saved and queued, see {@link Admission}.
+ */
+@Service
+@RequiredArgsConstructor
+public class UploadAdmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UploadAdmissionService.class);
+    private static final String DRAINED_KEY_PREFIX = "doc-processing:drained:";
+    private static final String QUEUE_RESERVATIONS_KEY = "doc-processing:reservations";
+    private static final String USER_RESERVATIONS_KEY_PREFIX = "doc-processing:reservations:user:";
+    private static final List<DocumentStatus> IN_FLIGHT_STATUSES = List.of(DocumentStatus.PROCESSING, DocumentStatus.DEFERRED);
+
+    public enum Decision {
+        ENQUEUE,
+        DEFER
+    }
+
+    private final DocumentRepository documentRepository;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final DefaultRedisScript<List> reserveScript = reserveScript();
+
+    @Value("${rag.upload.admission.max-queue-depth:200}")
+    private long maxQueueDepth;
+
+    @Value("${rag.upload.admission.max-in-flight-per-user:5}")
+    private long maxInFlightPerUser;
+
+    @Value("${rag.upload.admission.defer-when-saturated:false}")
+    private boolean deferWhenSaturated;
+
+    @Value("${rag.upload.admission.max-deferred:500}")
+    private long maxDeferred;
+
+    @Value("${rag.upload.admission.drain-window-minutes:15}")
+    private int drainWindowMinutes;
+
+    @Value("${rag.upload.admission.default-retry-after-seconds:60}")
+    private long defaultRetryAfterSeconds;
+
+    @Value("${rag.upload.admission.reservation-ttl-ms:120000}")
+    private long reservationTtlMs;
+
+    /**
+     * A reserved upload slot. Close it once the document is saved and, unless deferred, pushed onto the queue:
+     * from then on the queue length and the user's in-flight documents count it instead.
+     */
+    public final class Admission implements AutoCloseable {
+
+        private final Decision decision;
+        private final String token;
+        private final String userKey;
+        private boolean released;
+
+        private Admission(Decision decision, String token, String userKey) {
+            this.decision = decision;
+            this.token = token;
+            this.userKey = userKey;
+        }
+
+        public Decision decision() {
+            return decision;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            try {
+                redisTemplate.opsForZSet().remove(QUEUE_RESERVATIONS_KEY, token);
+                redisTemplate.opsForZSet().remove(userKey, token);
+            } catch (Exception e) {
+                // The reservation expires on its own
+                logger.warn("Failed to release upload reservation {}: {}", token, e.getMessage());
+            }
+        }
+    }
+
+    public Admission admit(User user) {
+        String token = UUID.randomUUID().toString();
+        String userKey = USER_RESERVATIONS_KEY_PREFIX + user.getId();
+        List<?> result = redisTemplate.execute(reserveScript,
+                List.of(DocumentService.PROCESSING_QUEUE, QUEUE_RESERVATIONS_KEY, userKey),
+                token, String.valueOf(maxQueueDepth), String.valueOf(reservationTtlMs));
+        boolean queued = ((Number) result.get(0)).longValue() == 1;
+        long queueDepth = ((Number) result.get(1)).longValue();
+        long userReservations = ((Number) result.get(2)).longValue();
+        Admission admission = new Admission(queued ? Decision.ENQUEUE : Decision.DEFER, token, userKey);
+
+        try {
+            // Counted after reserving: a concurrent upload by the same user still holds its reservation here,
+            // or has already saved its document, so at most one of two racing uploads takes the last slot
+            long inFlight = documentRepository.countByUserAndStatusIn(user, IN_FLIGHT_STATUSES) + userReservations - 1;
+            if (inFlight >= maxInFlightPerUser) {
+                throw new TooManyRequestsException(
+                        "You already have " + inFlight + " documents being processed. Please wait for them to finish.",
+                        estimateSecondsToFreeUserSlot(user));
+            }
+
+            if (queued) {
+                return admission;
+            }
+
+            long retryAfter = estimateSecondsToDrain(queueDepth - maxQueueDepth + 1);
+            if (deferWhenSaturated && documentRepository.countByStatus(DocumentStatus.DEFERRED) < maxDeferred) {
+                logger.info("Processing queue is saturated ({} jobs); deferring upload for user {}", queueDepth, user.getId());
+                return admission;
+            }
+            throw new TooManyRequestsException(
+                    "The processing queue is full (" + queueDepth + " jobs waiting). Please retry later.", retryAfter);
+        } catch (RuntimeException e) {
+            admission.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Number of additional jobs that can be pushed before the queue reaches its configured limit, leaving room
+     * for uploads that have been admitted but not yet queued.
+     */
+    public long queueHeadroom() {
+        Long reserved = redisTemplate.opsForZSet().size(QUEUE_RESERVATIONS_KEY);
+        return Math.max(0, maxQueueDepth - queueDepth() - (reserved != null ? reserved : 0));
+    }
+
+    public long queueDepth() {
+        Long size = redisTemplate.opsForList().size(DocumentService.PROCESSING_QUEUE);
+        return size != null ? size : 0;
+    }
+
+    /**
+     * Records documents that left the queue (completed or failed) in a per-minute counter shared by all backend nodes.
+     */
+    public void recordDrained(int count) {
+        if (count <= 0) {
+            return;
+        }
+        try {
+            String key = DRAINED_KEY_PREFIX + currentMinute();
+            redisTemplate.opsForValue().increment(key, count);
+            redisTemplate.expire(key, drainWindowMinutes + 1L, TimeUnit.MINUTES);
+        } catch (Exception e) {
+            logger.warn("Failed to record drained documents: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Documents finished per second, averaged over the configured window.
+     */
+    public double drainRatePerSecond() {
+        long minute = currentMinute();
+        List<String> keys = new ArrayList<>(drainWindowMinutes);
+        for (int i = 0; i < drainWindowMinutes; i++) {
+            keys.add(DRAINED_KEY_PREFIX + (minute - i));
+        }
+        List<String> values = redisTemplate.opsForValue().multiGet(keys);
+        long drained = 0;
+        if (values != null) {
+            for (String value : values) {
+                if (value != null) {
+                    drained += Long.parseLong(value);
+                }
+            }
+        }
+        return drained / (drainWindowMinutes * 60.0);
+    }
+
+    /**
+     * The user gets a slot back when their oldest in-flight document finishes: estimated as the time to drain
+     * the in-flight documents uploaded before it, and itself.
+     */
+    private long estimateSecondsToFreeUserSlot(User user) {
+        return documentRepository.findFirstByUserAndStatusInOrderByUploadDateAsc(user, IN_FLIGHT_STATUSES)
+                .map(oldest -> estimateSecondsToDrain(
+                        documentRepository.countByStatusInAndUploadDateBefore(IN_FLIGHT_STATUSES, oldest.getUploadDate()) + 1))
+                // Only reservations so far, which are released within seconds
+                .orElse(defaultRetryAfterSeconds);
+    }
+
+    private long estimateSecondsToDrain(long jobs) {
+        double rate = drainRatePerSecond();
+        if (rate <= 0) {
+            return defaultRetryAfterSeconds;
+        }
+        return Math.max(1, (long) Math.ceil(jobs / rate));
+    }
+
+    private static DefaultRedisScript<List> reserveScript() {
+        DefaultRedisScript<List> script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/upload_admission.lua"));
+        script.setResultType(List.class);
+        return script;
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,80 @@
+package com.researchrag.backend.publications;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accumulates changes to one faculty's analytics rows so they can be applied in a few batched upserts.
+ */
+class AnalyticsDelta {
+
+    private static final int MAX_VENUE_LENGTH = 255;
+
+    record Counts(int publications, long citations) {
+        Counts plus(int morePublications, long moreCitations) {
+            return new Counts(publications + morePublications, citations + moreCitations);
+        }
+    }
+
+    record Coauthor(String displayName, int publications) {
+    }
+
+    private final String facultyName;
+    private final Map<Integer, Counts> years = new HashMap<>();
+    private final Map<String, Counts> venues = new HashMap<>();
+    private final Map<String, Coauthor> coauthors = new HashMap<>();
+
+    AnalyticsDelta(String facultyName) {
+        this.facultyName = facultyName;
+    }
+
+    void addPublication(int year, String venue, String authors, long citations) {
+        years.merge(year, new Counts(1, citations), (a, b) -> a.plus(b.publications(), b.citations()));
+        String venueKey = venueKey(venue);
+        if (venueKey != null) {
+            venues.merge(venueKey, new Counts(1, citations), (a, b) -> a.plus(b.publications(), b.citations()));
+        }
+        for (String author : AuthorNames.split(authors)) {
+            if (AuthorNames.samePerson(facultyName, author)) {
+                continue;
+            }
+            coauthors.merge(AuthorNames.key(author), new Coauthor(author, 1),
+                    (a, b) -> new Coauthor(a.displayName(), a.publications() + b.publications()));
+        }
+    }
+
+    void addCitations(int year, String venue, long citationDelta) {
+        if (citationDelta == 0) {
+            return;
+        }
+        years.merge(year, new Counts(0, citationDelta), (a, b) -> a.plus(0, b.citations()));
+        String venueKey = venueKey(venue);
+        if (venueKey != null) {
+            venues.merge(venueKey, new Counts(0, citationDelta), (a, b) -> a.plus(0, b.citations()));
+        }
+    }
+
+    boolean isEmpty() {
+        return years.isEmpty() && venues.isEmpty() && coauthors.isEmpty();
+    }
+
+    Map<Integer, Counts> years() {
+        return years;
+    }
+
+    Map<String, Counts> venues() {
+        return venues;
+    }
+
+    Map<String, Coauthor> coauthors() {
+        return coauthors;
+    }
+
+    private static String venueKey(String venue) {
+        if (venue == null || venue.isBlank()) {
+            return null;
+        }
+        String trimmed = venue.trim();
+        return trimmed.length() > MAX_VENUE_LENGTH ? trimmed.substring(0, MAX_VENUE_LENGTH) : trimmed;
+    }
+}
@@ -0,0 +1,53 @@
+package com.researchrag.backend.publications;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position after the last article of a page: the sort key of that row plus its id as tie-breaker.
+ * Serialized as an opaque URL-safe continuation token. The sort key is {@code null} when that row has no
+ * value for it.
+ */
+public record ArticleCursor(ArticleSortField sort, boolean ascending, String value, Long id) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    public static ArticleCursor after(Publication last, ArticleSortField sort, boolean ascending) {
+        Object value = switch (sort) {
+            case YEAR -> last.getYear();
+            case CITATIONS -> last.getCitations();
+            case TITLE -> last.getTitle();
+        };
+        return new ArticleCursor(sort, ascending, value != null ? String.valueOf(value) : null, last.getId());
+    }
+
+    /**
+     * @return the sort key, or {@code null} if the row had none
+     */
+    public Comparable<?> typedValue() {
+        if (value == null || sort == ArticleSortField.TITLE) {
+            return value;
+        }
+        return Integer.valueOf(value);
+    }
+
+    public String encode() {
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(MAPPER.writeValueAsBytes(this));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not encode article cursor", e);
+        }
+    }
+
+    public static ArticleCursor decode(String token) {
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(token.getBytes(StandardCharsets.US_ASCII));
+            return MAPPER.readValue(json, ArticleCursor.class);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("Invalid continuation token.", e);
+        }
+    }
+}
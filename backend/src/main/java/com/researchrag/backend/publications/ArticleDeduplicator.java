@@ -0,0 +1,43 @@
+package com.researchrag.backend.publications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns the scraped article list of one faculty into unique, unsaved {@link Publication} rows keyed by
+ * {@link Publication#dedupHash(String, Integer)}. Duplicates against what is already stored are resolved by the
+ * database unique key, so this is a single linear pass regardless of how many publications the faculty has.
+ */
+public final class ArticleDeduplicator {
+
+    private ArticleDeduplicator() {
+    }
+
+    public static List<Publication> dedupe(JsonNode articlesNode) {
+        if (articlesNode == null || !articlesNode.isArray()) {
+            return List.of();
+        }
+        Map<String, Publication> byHash = new LinkedHashMap<>(articlesNode.size() * 2);
+        for (JsonNode articleNode : articlesNode) {
+            String title = articleNode.path("title").asText();
+            int year = articleNode.path("year").asInt(0);
+            String hash = Publication.dedupHash(title, year);
+
+            Publication publication = new Publication();
+            publication.setDedupHash(hash);
+            publication.setTitle(title);
+            publication.setAuthors(articleNode.path("authors").asText());
+            publication.setPublicationSource(articleNode.path("publication").asText());
+            publication.setYear(year);
+            publication.setCitations(articleNode.path("citations").asInt(0));
+            publication.setLink(articleNode.path("link").asText());
+            // Last occurrence wins so the freshest citation count is kept
+            byHash.put(hash, publication);
+        }
+        return new ArrayList<>(byHash.values());
+    }
+}
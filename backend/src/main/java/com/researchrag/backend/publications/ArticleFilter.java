@@ -0,0 +1,7 @@
+package com.researchrag.backend.publications;
+
+/**
+ * Optional restrictions on a faculty's article list; {@code null} means unrestricted.
+ */
+public record ArticleFilter(Integer fromYear, Integer toYear, Integer minCitations) {
+}
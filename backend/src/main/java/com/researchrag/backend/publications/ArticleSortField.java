@@ -0,0 +1,26 @@
+package com.researchrag.backend.publications;
+
+public enum ArticleSortField {
+    YEAR("year"),
+    CITATIONS("citations"),
+    TITLE("title");
+
+    private final String attribute;
+
+    ArticleSortField(String attribute) {
+        this.attribute = attribute;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public static ArticleSortField fromParameter(String value) {
+        for (ArticleSortField field : values()) {
+            if (field.attribute.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort field: " + value);
+    }
+}
@@ -0,0 +1,136 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.PublicationDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the author and publication_author tables.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuthorIndexRepository {
+
+    static final int CHUNK_SIZE = 500;
+
+    /** A stored publication whose author string still has to be linked. */
+    record UnlinkedPublication(long id, String authors) {
+    }
+
+    /** Author row as needed to label graph results. */
+    record AuthorRow(long id, String displayName, Long facultyId) {
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<UnlinkedPublication> findPublications(Long facultyId, Collection<String> dedupHashes) {
+        List<UnlinkedPublication> publications = new ArrayList<>();
+        for (List<String> chunk : chunks(new ArrayList<>(dedupHashes))) {
+            jdbcTemplate.query("SELECT id, authors FROM publication WHERE faculty_id = :facultyId AND dedup_hash IN (:hashes)",
+                    new MapSqlParameterSource("facultyId", facultyId).addValue("hashes", chunk),
+                    (RowCallbackHandler) rs -> publications.add(new UnlinkedPublication(rs.getLong("id"), rs.getString("authors"))));
+        }
+        return publications;
+    }
+
+    public List<UnlinkedPublication> findUnlinkedPublications(Long facultyId) {
+        return jdbcTemplate.query("SELECT p.id, p.authors FROM publication p WHERE p.faculty_id = :facultyId " +
+                        "AND NOT EXISTS (SELECT 1 FROM publication_author pa WHERE pa.publication_id = p.id)",
+                new MapSqlParameterSource("facultyId", facultyId),
+                (rs, rowNum) -> new UnlinkedPublication(rs.getLong("id"), rs.getString("authors")));
+    }
+
+    public List<Long> findFacultyIdsWithUnlinkedPublications() {
+        return jdbcTemplate.getJdbcTemplate().queryForList("SELECT DISTINCT p.faculty_id FROM publication p " +
+                "WHERE NOT EXISTS (SELECT 1 FROM publication_author pa WHERE pa.publication_id = p.id) ORDER BY p.faculty_id", Long.class);
+    }
+
+    /**
+     * Inserts missing authors and returns the ids of all given keys. Existing display names are kept.
+     */
+    public Map<String, Long> upsertAuthors(Map<String, String> displayNamesByKey) {
+        List<Map.Entry<String, String>> entries = new ArrayList<>(displayNamesByKey.entrySet());
+        jdbcTemplate.getJdbcTemplate().batchUpdate("INSERT IGNORE INTO author (name_key, display_name) VALUES (?, ?)",
+                entries, CHUNK_SIZE, (ps, entry) -> {
+                    ps.setString(1, entry.getKey());
+                    ps.setString(2, entry.getValue());
+                });
+
+        Map<String, Long> ids = new HashMap<>(displayNamesByKey.size() * 2);
+        for (List<String> chunk : chunks(new ArrayList<>(displayNamesByKey.keySet()))) {
+            jdbcTemplate.query("SELECT id, name_key FROM author WHERE name_key IN (:keys)",
+                    new MapSqlParameterSource("keys", chunk),
+                    (RowCallbackHandler) rs -> ids.put(rs.getString("name_key"), rs.getLong("id")));
+        }
+        return ids;
+    }
+
+    public void linkAuthors(List<long[]> publicationAuthorPositions) {
+        jdbcTemplate.getJdbcTemplate().batchUpdate(
+                "INSERT IGNORE INTO publication_author (publication_id, author_id, position) VALUES (?, ?, ?)",
+                publicationAuthorPositions, CHUNK_SIZE, (ps, link) -> {
+                    ps.setLong(1, link[0]);
+                    ps.setLong(2, link[1]);
+                    ps.setInt(3, (int) link[2]);
+                });
+    }
+
+    public void markFacultyAuthors(Long facultyId, Collection<Long> authorIds) {
+        if (authorIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update("UPDATE author SET faculty_id = :facultyId WHERE id IN (:ids) AND faculty_id IS NULL",
+                new MapSqlParameterSource("facultyId", facultyId).addValue("ids", authorIds));
+    }
+
+    public Long findAuthorIdByKey(String nameKey) {
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM author WHERE name_key = :key",
+                new MapSqlParameterSource("key", nameKey), Long.class);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    public Map<Long, AuthorRow> findAuthors(Collection<Long> ids) {
+        Map<Long, AuthorRow> authors = new HashMap<>();
+        for (List<Long> chunk : chunks(new ArrayList<>(ids))) {
+            jdbcTemplate.query("SELECT id, display_name, faculty_id FROM author WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", chunk),
+                    (RowCallbackHandler) rs -> {
+                        long facultyId = rs.getLong("faculty_id");
+                        authors.put(rs.getLong("id"), new AuthorRow(rs.getLong("id"), rs.getString("display_name"),
+                                rs.wasNull() ? null : facultyId));
+                    });
+        }
+        return authors;
+    }
+
+    /**
+     * Papers on which both authors appear, one per distinct (title, year) even when several of our faculty own a copy.
+     */
+    public List<PublicationDto> findSharedPublications(long authorA, long authorB, int limit) {
+        return jdbcTemplate.query("SELECT MIN(p.title) AS title, MIN(p.authors) AS authors, MIN(p.publication_source) AS publication_source, " +
+                        "MIN(p.year) AS year, MAX(p.citations) AS citations, MIN(p.link) AS link " +
+                        "FROM publication_author a JOIN publication_author b ON b.publication_id = a.publication_id AND b.author_id = :b " +
+                        "JOIN publication p ON p.id = a.publication_id " +
+                        "WHERE a.author_id = :a GROUP BY p.dedup_hash ORDER BY year DESC LIMIT :limit",
+                new MapSqlParameterSource("a", authorA).addValue("b", authorB).addValue("limit", limit),
+                (rs, rowNum) -> new PublicationDto(rs.getString("title"), rs.getString("authors"), rs.getString("publication_source"),
+                        rs.getInt("year"), rs.getInt("citations"), rs.getString("link")));
+    }
+
+    private static <T> List<List<T>> chunks(List<T> values) {
+        List<List<T>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+}
@@ -0,0 +1,144 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.AuthorIndexRepository.UnlinkedPublication;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Ingestion stage that parses the free-text author strings of new publications into normalized
+ * {@code author} rows and {@code publication_author} links, and recognises the faculty member's own entry.
+ */
+@Service
+public class AuthorIndexService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthorIndexService.class);
+
+    private final AuthorIndexRepository authorIndexRepository;
+    private final FacultyRepository facultyRepository;
+    private final CoauthorGraphService coauthorGraphService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor analyticsBackfillExecutor;
+
+    @Value("${publications.authors.backfill-on-startup:true}")
+    private boolean backfillOnStartup;
+
+    @Value("${publications.analytics.backfill-chunk-size:100}")
+    private int backfillChunkSize;
+
+    public AuthorIndexService(AuthorIndexRepository authorIndexRepository,
+                              FacultyRepository facultyRepository,
+                              CoauthorGraphService coauthorGraphService,
+                              TransactionTemplate transactionTemplate,
+                              @Qualifier("analyticsBackfillExecutor") ThreadPoolTaskExecutor analyticsBackfillExecutor) {
+        this.authorIndexRepository = authorIndexRepository;
+        this.facultyRepository = facultyRepository;
+        this.coauthorGraphService = coauthorGraphService;
+        this.transactionTemplate = transactionTemplate;
+        this.analyticsBackfillExecutor = analyticsBackfillExecutor;
+    }
+
+    /**
+     * Links the authors of the given, just inserted publications. Runs in the ingestion transaction;
+     * publications that already existed keep their links because the upsert never changes their authors.
+     */
+    public void indexNewPublications(Long facultyId, String facultyName, Collection<String> newDedupHashes) {
+        if (newDedupHashes.isEmpty()) {
+            return;
+        }
+        link(facultyId, facultyName, authorIndexRepository.findPublications(facultyId, newDedupHashes));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if (!backfillOnStartup) {
+            return;
+        }
+        List<Long> facultyIds = authorIndexRepository.findFacultyIdsWithUnlinkedPublications();
+        if (facultyIds.isEmpty()) {
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < facultyIds.size(); from += backfillChunkSize) {
+            List<Long> chunk = facultyIds.subList(from, Math.min(from + backfillChunkSize, facultyIds.size()));
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (Long facultyId : chunk) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> {
+                            String facultyName = facultyRepository.findById(facultyId).map(Faculty::getName).orElse(null);
+                            link(facultyId, facultyName, authorIndexRepository.findUnlinkedPublications(facultyId));
+                        });
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        logger.error("Author backfill failed for faculty {}: {}", facultyId, e.getMessage());
+                    }
+                }
+            }, analyticsBackfillExecutor));
+        }
+        logger.info("Started author backfill for {} faculty in {} chunks", facultyIds.size(), chunks.size());
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            logger.info("Author backfill finished in {} ms ({} faculty failed)", System.currentTimeMillis() - start, failed.get());
+            coauthorGraphService.markDirty();
+        });
+    }
+
+    private void link(Long facultyId, String facultyName, List<UnlinkedPublication> publications) {
+        if (publications.isEmpty()) {
+            return;
+        }
+        Map<String, String> displayNamesByKey = new LinkedHashMap<>();
+        Map<Long, List<String>> keysByPublication = new LinkedHashMap<>();
+        Set<String> facultyKeys = new HashSet<>();
+        for (UnlinkedPublication publication : publications) {
+            List<String> keys = new ArrayList<>();
+            for (String name : AuthorNames.split(publication.authors())) {
+                String key = AuthorNames.key(name);
+                if (key.isEmpty()) {
+                    continue;
+                }
+                displayNamesByKey.putIfAbsent(key, name);
+                keys.add(key);
+                if (AuthorNames.samePerson(facultyName, name)) {
+                    facultyKeys.add(key);
+                }
+            }
+            keysByPublication.put(publication.id(), keys);
+        }
+        if (displayNamesByKey.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> authorIds = authorIndexRepository.upsertAuthors(displayNamesByKey);
+        List<long[]> links = new ArrayList<>();
+        keysByPublication.forEach((publicationId, keys) -> {
+            Set<Long> seen = new HashSet<>();
+            for (int position = 0; position < keys.size(); position++) {
+                Long authorId = authorIds.get(keys.get(position));
+                if (authorId != null && seen.add(authorId)) {
+                    links.add(new long[]{publicationId, authorId, position});
+                }
+            }
+        });
+        authorIndexRepository.linkAuthors(links);
+        authorIndexRepository.markFacultyAuthors(facultyId, facultyKeys.stream().map(authorIds::get).filter(id -> id != null).toList());
+    }
+}
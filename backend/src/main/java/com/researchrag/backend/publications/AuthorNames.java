@@ -0,0 +1,68 @@
+package com.researchrag.backend.publications;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Parsing helpers for the comma-separated author strings scraped from Google Scholar,
+ * e.g. {@code "J Smith, AB Doe, ..."}.
+ */
+public final class AuthorNames {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern PUNCTUATION = Pattern.compile("[.\\-'’]");
+    private static final int MAX_KEY_LENGTH = 191;
+    private static final int MAX_DISPLAY_LENGTH = 255;
+
+    private AuthorNames() {
+    }
+
+    /**
+     * Splits an author string into trimmed display names, dropping blanks and Scholar's "..." truncation marker.
+     */
+    public static List<String> split(String authors) {
+        if (authors == null || authors.isBlank()) {
+            return List.of();
+        }
+        List<String> names = new ArrayList<>();
+        for (String part : authors.split(",")) {
+            String name = WHITESPACE.matcher(part).replaceAll(" ").trim();
+            if (name.isEmpty() || name.equals("...") || name.equals("…")) {
+                continue;
+            }
+            names.add(name.length() > MAX_DISPLAY_LENGTH ? name.substring(0, MAX_DISPLAY_LENGTH) : name);
+        }
+        return names;
+    }
+
+    /**
+     * Case-, accent- and punctuation-insensitive key for grouping the same spelling of a name,
+     * e.g. "J.-P. Müller" and "J P Muller" both become "j p muller".
+     */
+    public static String key(String name) {
+        String folded = COMBINING_MARKS.matcher(Normalizer.normalize(name, Normalizer.Form.NFD)).replaceAll("");
+        String spaced = PUNCTUATION.matcher(folded.toLowerCase(Locale.ROOT)).replaceAll(" ");
+        String key = WHITESPACE.matcher(spaced).replaceAll(" ").trim();
+        return key.length() > MAX_KEY_LENGTH ? key.substring(0, MAX_KEY_LENGTH) : key;
+    }
+
+    /**
+     * Whether an author entry plausibly refers to the given full name: same surname and same first initial,
+     * which is how Scholar abbreviates names ("John A. Smith" appears as "JA Smith").
+     */
+    public static boolean samePerson(String fullName, String author) {
+        if (fullName == null || author == null) {
+            return false;
+        }
+        String[] full = key(fullName).split(" ");
+        String[] other = key(author).split(" ");
+        if (full.length == 0 || other.length == 0 || full[0].isEmpty() || other[0].isEmpty()) {
+            return false;
+        }
+        return full[full.length - 1].equals(other[other.length - 1]) && full[0].charAt(0) == other[0].charAt(0);
+    }
+}
@@ -0,0 +1,210 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.PublicationDto;
+import com.researchrag.backend.userapi.user.User;
+import org.apache.poi.ss.util.WorkbookUtil;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Exports every faculty of an upload batch, either as a ZIP of per-faculty reports rendered in parallel
+ * or as one workbook with a sheet per faculty. Reports are spooled to temp files and copied into the
+ * archive as they finish, so memory depends on the number of reports in flight, not the batch size.
+ */
+@Service
+public class BatchExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(BatchExportService.class);
+    private static final int MAX_SHEET_NAME_LENGTH = 31;
+
+    private final FacultyUploadBatchRepository facultyUploadBatchRepository;
+    private final FacultyRepository facultyRepository;
+    private final PublicationRepository publicationRepository;
+    private final PublicationsService publicationsService;
+    private final ExportService exportService;
+    private final ThreadPoolTaskExecutor batchExportExecutor;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    @Value("${publications.export.max-in-flight-per-request:4}")
+    private int maxInFlightPerRequest;
+
+    public BatchExportService(FacultyUploadBatchRepository facultyUploadBatchRepository,
+                              FacultyRepository facultyRepository,
+                              PublicationRepository publicationRepository,
+                              PublicationsService publicationsService,
+                              ExportService exportService,
+                              @Qualifier("batchExportExecutor") ThreadPoolTaskExecutor batchExportExecutor,
+                              PlatformTransactionManager transactionManager) {
+        this.facultyUploadBatchRepository = facultyUploadBatchRepository;
+        this.facultyRepository = facultyRepository;
+        this.publicationRepository = publicationRepository;
+        this.publicationsService = publicationsService;
+        this.exportService = exportService;
+        this.batchExportExecutor = batchExportExecutor;
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public void requireBatchOwner(Long batchId, User user) {
+        Integer ownerId = facultyUploadBatchRepository.findOwnerIdById(batchId)
+                .orElseThrow(() -> new RuntimeException("Batch not found"));
+        if (!ownerId.equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to access this batch.");
+        }
+    }
+
+    public void writeZipArchive(Long batchId, ExportFormat format, OutputStream out) throws IOException {
+        List<String> facultyIds = facultyRepository.findFacultyIdsByBatchId(batchId);
+        ExecutorCompletionService<RenderedReport> completionService = new ExecutorCompletionService<>(batchExportExecutor);
+        Iterator<String> pending = facultyIds.iterator();
+        List<String> failures = new ArrayList<>();
+        int inFlight = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        try {
+            while (inFlight < maxInFlightPerRequest && pending.hasNext()) {
+                submitReport(completionService, pending.next(), format);
+                inFlight++;
+            }
+            while (inFlight > 0) {
+                RenderedReport report = takeReport(completionService);
+                inFlight--;
+                if (pending.hasNext()) {
+                    submitReport(completionService, pending.next(), format);
+                    inFlight++;
+                }
+
+                if (report.file() == null) {
+                    failures.add(report.facultyId() + ": " + report.error());
+                    continue;
+                }
+                try {
+                    zip.putNextEntry(new ZipEntry(safeFileName(report.facultyId()) + "_report." + format.getExtension()));
+                    Files.copy(report.file(), zip);
+                    zip.closeEntry();
+                } finally {
+                    Files.deleteIfExists(report.file());
+                }
+            }
+
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("export_errors.txt"));
+                zip.write(String.join(System.lineSeparator(), failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+        } finally {
+            // On client disconnect, wait for the reports still rendering and remove their temp files
+            for (; inFlight > 0; inFlight--) {
+                try {
+                    RenderedReport report = takeReport(completionService);
+                    if (report.file() != null) {
+                        Files.deleteIfExists(report.file());
+                    }
+                } catch (IOException e) {
+                    logger.warn("Failed to clean up batch export temp file: {}", e.getMessage());
+                }
+            }
+        }
+        logger.info("Exported {} faculty reports for batch {} ({} failed)", facultyIds.size() - failures.size(), batchId, failures.size());
+    }
+
+    /**
+     * Writes one Excel workbook with a sheet per faculty. A single SXSSF workbook cannot be written from several
+     * threads, so faculty are rendered one after another; only the row window of the current sheet stays in memory.
+     */
+    public void writeConsolidatedWorkbook(Long batchId, OutputStream out) throws IOException {
+        List<String> facultyIds = facultyRepository.findFacultyIdsByBatchId(batchId);
+        SXSSFWorkbook workbook = exportService.newStreamingWorkbook();
+        try {
+            for (String facultyId : facultyIds) {
+                readOnlyTransactionTemplate.executeWithoutResult(status -> facultyRepository.findByFacultyId(facultyId).ifPresent(faculty -> {
+                    Hibernate.initialize(faculty.getInterests());
+                    String sheetName = uniqueSheetName(workbook, faculty.getName() != null && !faculty.getName().isBlank()
+                            ? faculty.getName() : facultyId);
+                    SXSSFSheet sheet = workbook.createSheet(sheetName);
+                    try (Stream<PublicationDto> publications = publicationRepository.streamByFacultyId(faculty.getId())) {
+                        exportService.writeFacultySheet(sheet, faculty, publications);
+                        // Each sheet keeps its own row window; flush the finished one so windows do not add up per faculty
+                        sheet.flushRows();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+            }
+            workbook.write(out);
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private void submitReport(ExecutorCompletionService<RenderedReport> completionService, String facultyId, ExportFormat format) {
+        completionService.submit(() -> {
+            Path file = Files.createTempFile("faculty-export-", "." + format.getExtension());
+            try (OutputStream fileOut = Files.newOutputStream(file)) {
+                publicationsService.exportFacultyProfile(facultyId, format, fileOut);
+                return new RenderedReport(facultyId, file, null);
+            } catch (Exception e) {
+                logger.error("Failed to export faculty {}: {}", facultyId, e.getMessage(), e);
+                Files.deleteIfExists(file);
+                return new RenderedReport(facultyId, null, e.getMessage());
+            }
+        });
+    }
+
+    private static RenderedReport takeReport(ExecutorCompletionService<RenderedReport> completionService) throws IOException {
+        try {
+            return completionService.take().get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for faculty reports");
+        } catch (ExecutionException e) {
+            throw new IOException("Faculty report task failed", e.getCause());
+        }
+    }
+
+    private static String uniqueSheetName(SXSSFWorkbook workbook, String name) {
+        String base = WorkbookUtil.createSafeSheetName(name);
+        String candidate = base;
+        // Sheet names are compared case-insensitively by Excel
+        for (int suffix = 2; workbook.getSheetIndex(candidate) >= 0; suffix++) {
+            String tail = " (" + suffix + ")";
+            candidate = base.substring(0, Math.min(base.length(), MAX_SHEET_NAME_LENGTH - tail.length())) + tail;
+        }
+        return candidate;
+    }
+
+    private static String safeFileName(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]", "_");
+    }
+
+    private record RenderedReport(String facultyId, Path file, String error) {
+    }
+}
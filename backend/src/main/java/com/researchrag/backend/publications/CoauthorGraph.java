@@ -0,0 +1,286 @@
+package com.researchrag.backend.publications;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Immutable co-author graph in compressed sparse row form. Nodes are dense ints mapped to author ids
+ * through a sorted {@code long[]}; edge weights count the distinct papers two authors share. The whole
+ * graph lives in a handful of primitive arrays, so a snapshot of millions of edges stays compact and
+ * traversals never touch the database.
+ */
+final class CoauthorGraph {
+
+    static final CoauthorGraph EMPTY = new CoauthorGraph(new long[0], new long[0], new int[]{0}, new int[0], new int[0]);
+
+    record Neighbor(int node, int weight) {
+    }
+
+    record Reached(int node, int hops) {
+    }
+
+    private final long[] authorIds;
+    private final long[] facultyOf;
+    private final int[] offsets;
+    private final int[] neighbors;
+    private final int[] weights;
+    private final Map<Long, int[]> nodesByFaculty;
+
+    private CoauthorGraph(long[] authorIds, long[] facultyOf, int[] offsets, int[] neighbors, int[] weights) {
+        this.authorIds = authorIds;
+        this.facultyOf = facultyOf;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+        this.weights = weights;
+
+        Map<Long, List<Integer>> grouped = new HashMap<>();
+        for (int node = 0; node < facultyOf.length; node++) {
+            if (facultyOf[node] != 0) {
+                grouped.computeIfAbsent(facultyOf[node], k -> new ArrayList<>()).add(node);
+            }
+        }
+        Map<Long, int[]> byFaculty = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((facultyId, nodes) -> byFaculty.put(facultyId, nodes.stream().mapToInt(Integer::intValue).toArray()));
+        this.nodesByFaculty = byFaculty;
+    }
+
+    int nodeCount() {
+        return authorIds.length;
+    }
+
+    long edgeCount() {
+        return neighbors.length / 2;
+    }
+
+    /** Dense node for an author id, or -1 when the author has no node. */
+    int nodeOf(long authorId) {
+        int index = Arrays.binarySearch(authorIds, authorId);
+        return index >= 0 ? index : -1;
+    }
+
+    long authorId(int node) {
+        return authorIds[node];
+    }
+
+    /** Faculty primary key the author was recognised as, or 0. */
+    long facultyOf(int node) {
+        return facultyOf[node];
+    }
+
+    int[] nodesOfFaculty(long facultyId) {
+        return nodesByFaculty.getOrDefault(facultyId, new int[0]);
+    }
+
+    List<Neighbor> topNeighbors(int node, int limit) {
+        int from = offsets[node];
+        int to = offsets[node + 1];
+        List<Neighbor> result = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            result.add(new Neighbor(neighbors[i], weights[i]));
+        }
+        result.sort((a, b) -> Integer.compare(b.weight(), a.weight()));
+        return result.size() > limit ? result.subList(0, limit) : result;
+    }
+
+    /**
+     * Breadth-first search up to {@code maxHops}, excluding the start node. Stops after {@code maxNodes}
+     * nodes so hubs cannot turn a query into a scan of the whole graph.
+     */
+    List<Reached> withinHops(int start, int maxHops, int maxNodes) {
+        BitSet visited = new BitSet(authorIds.length);
+        visited.set(start);
+        List<Reached> reached = new ArrayList<>();
+        ArrayDeque<int[]> queue = new ArrayDeque<>();
+        queue.add(new int[]{start, 0});
+        while (!queue.isEmpty() && reached.size() < maxNodes) {
+            int[] current = queue.poll();
+            if (current[1] == maxHops) {
+                continue;
+            }
+            for (int i = offsets[current[0]]; i < offsets[current[0] + 1] && reached.size() < maxNodes; i++) {
+                int next = neighbors[i];
+                if (!visited.get(next)) {
+                    visited.set(next);
+                    reached.add(new Reached(next, current[1] + 1));
+                    queue.add(new int[]{next, current[1] + 1});
+                }
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Faculty adjacent to the node, with the number of papers shared with their strongest name variant.
+     */
+    Map<Long, Integer> facultyNeighbors(int node) {
+        Map<Long, Integer> result = new LinkedHashMap<>();
+        for (int i = offsets[node]; i < offsets[node + 1]; i++) {
+            long facultyId = facultyOf[neighbors[i]];
+            if (facultyId != 0) {
+                result.merge(facultyId, weights[i], Math::max);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Groups the given faculty into connected components, where two faculty are connected when any of their
+     * author nodes co-authored directly. Singletons are returned as one-element clusters.
+     */
+    List<List<Long>> facultyClusters(Collection<Long> facultyIds) {
+        List<Long> members = new ArrayList<>(facultyIds);
+        Map<Long, Integer> indexOf = new HashMap<>(members.size() * 2);
+        for (int i = 0; i < members.size(); i++) {
+            indexOf.put(members.get(i), i);
+        }
+        int[] parent = new int[members.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        for (int i = 0; i < members.size(); i++) {
+            for (int node : nodesOfFaculty(members.get(i))) {
+                for (int e = offsets[node]; e < offsets[node + 1]; e++) {
+                    Integer other = indexOf.get(facultyOf[neighbors[e]]);
+                    if (other != null) {
+                        union(parent, i, other);
+                    }
+                }
+            }
+        }
+
+        Map<Integer, List<Long>> clusters = new LinkedHashMap<>();
+        for (int i = 0; i < members.size(); i++) {
+            clusters.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(members.get(i));
+        }
+        List<List<Long>> result = new ArrayList<>(clusters.values());
+        result.sort((a, b) -> Integer.compare(b.size(), a.size()));
+        return result;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[rootB] = rootA;
+        }
+    }
+
+    /**
+     * Collects (paper, author) rows ordered by paper and turns each paper's author set into weighted edges.
+     */
+    static final class Builder {
+
+        private final long[] authorIds;
+        private final long[] facultyOf;
+        private final int maxAuthorsPerPaper;
+        private long[] packedEdges = new long[1 << 16];
+        private int edgeCount;
+        private String currentPaper;
+        private int[] paperNodes = new int[16];
+        private int paperSize;
+
+        /**
+         * @param authorIds          every author id, ascending
+         * @param facultyOf          faculty primary key per author (0 for none), aligned with {@code authorIds}
+         * @param maxAuthorsPerPaper papers with more authors are skipped, as their clique adds noise and quadratic edges
+         */
+        Builder(long[] authorIds, long[] facultyOf, int maxAuthorsPerPaper) {
+            this.authorIds = authorIds;
+            this.facultyOf = facultyOf;
+            this.maxAuthorsPerPaper = maxAuthorsPerPaper;
+        }
+
+        void add(String paperKey, long authorId) {
+            if (!Objects.equals(paperKey, currentPaper)) {
+                flushPaper();
+                currentPaper = paperKey;
+            }
+            int node = Arrays.binarySearch(authorIds, authorId);
+            if (node < 0) {
+                return;
+            }
+            for (int i = 0; i < paperSize; i++) {
+                if (paperNodes[i] == node) {
+                    return;
+                }
+            }
+            if (paperSize == paperNodes.length) {
+                paperNodes = Arrays.copyOf(paperNodes, paperSize * 2);
+            }
+            paperNodes[paperSize++] = node;
+        }
+
+        CoauthorGraph build() {
+            flushPaper();
+            long[] edges = Arrays.copyOf(packedEdges, edgeCount);
+            Arrays.parallelSort(edges);
+
+            int nodeCount = authorIds.length;
+            int[] degree = new int[nodeCount];
+            int unique = 0;
+            for (int i = 0; i < edges.length; i++) {
+                if (i == 0 || edges[i] != edges[i - 1]) {
+                    degree[(int) (edges[i] >>> 32)]++;
+                    degree[(int) edges[i]]++;
+                    unique++;
+                }
+            }
+
+            int[] offsets = new int[nodeCount + 1];
+            for (int node = 0; node < nodeCount; node++) {
+                offsets[node + 1] = offsets[node] + degree[node];
+            }
+            int[] cursor = Arrays.copyOf(offsets, nodeCount);
+            int[] neighbors = new int[unique * 2];
+            int[] weights = new int[unique * 2];
+            for (int i = 0; i < edges.length; ) {
+                int j = i;
+                while (j < edges.length && edges[j] == edges[i]) {
+                    j++;
+                }
+                int a = (int) (edges[i] >>> 32);
+                int b = (int) edges[i];
+                int weight = j - i;
+                neighbors[cursor[a]] = b;
+                weights[cursor[a]++] = weight;
+                neighbors[cursor[b]] = a;
+                weights[cursor[b]++] = weight;
+                i = j;
+            }
+            return new CoauthorGraph(authorIds, facultyOf, offsets, neighbors, weights);
+        }
+
+        private void flushPaper() {
+            if (paperSize > 1 && paperSize <= maxAuthorsPerPaper) {
+                for (int i = 0; i < paperSize; i++) {
+                    for (int j = i + 1; j < paperSize; j++) {
+                        int a = Math.min(paperNodes[i], paperNodes[j]);
+                        int b = Math.max(paperNodes[i], paperNodes[j]);
+                        if (edgeCount == packedEdges.length) {
+                            packedEdges = Arrays.copyOf(packedEdges, edgeCount * 2);
+                        }
+                        packedEdges[edgeCount++] = ((long) a << 32) | b;
+                    }
+                }
+            }
+            paperSize = 0;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.CoauthorDto;
+import com.researchrag.backend.publications.dto.CollaborationClusterDto;
+import com.researchrag.backend.publications.dto.FacultyCollaboratorDto;
+import com.researchrag.backend.publications.dto.PublicationDto;
+import com.researchrag.backend.userapi.user.User;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/publications")
+public class CoauthorGraphController {
+
+    private final CoauthorGraphService coauthorGraphService;
+
+    public CoauthorGraphController(CoauthorGraphService coauthorGraphService) {
+        this.coauthorGraphService = coauthorGraphService;
+    }
+
+    @GetMapping("/authors/collaborators")
+    public ResponseEntity<List<CoauthorDto>> getCollaborators(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(coauthorGraphService.getCollaborators(name, limit));
+    }
+
+    @GetMapping("/authors/network")
+    public ResponseEntity<List<CoauthorDto>> getNetwork(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "2") int hops,
+            @RequestParam(defaultValue = "200") int limit) {
+        return ResponseEntity.ok(coauthorGraphService.getNetwork(name, hops, limit));
+    }
+
+    @GetMapping("/authors/faculty")
+    public ResponseEntity<List<FacultyCollaboratorDto>> getFacultyCollaborators(@RequestParam String name) {
+        return ResponseEntity.ok(coauthorGraphService.getFacultyCollaborators(name));
+    }
+
+    @GetMapping("/authors/shared-papers")
+    public ResponseEntity<List<PublicationDto>> getSharedPapers(
+            @RequestParam String name,
+            @RequestParam("with") String otherName,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(coauthorGraphService.getSharedPapers(name, otherName, limit));
+    }
+
+    @GetMapping("/batches/{batchId}/collaboration-clusters")
+    public ResponseEntity<List<CollaborationClusterDto>> getCollaborationClusters(
+            @PathVariable Long batchId,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(coauthorGraphService.getBatchClusters(batchId, user));
+    }
+}
@@ -0,0 +1,244 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import com.researchrag.backend.publications.AuthorIndexRepository.AuthorRow;
+import com.researchrag.backend.publications.dto.CoauthorDto;
+import com.researchrag.backend.publications.dto.CollaborationClusterDto;
+import com.researchrag.backend.publications.dto.FacultyCollaboratorDto;
+import com.researchrag.backend.publications.dto.PublicationDto;
+import com.researchrag.backend.userapi.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves co-author traversals from an in-memory {@link CoauthorGraph} snapshot. Ingestion marks the graph dirty
+ * on every node and a scheduled task rebuilds it from {@code publication_author}, so queries always read a
+ * consistent, immutable snapshot and never wait for a rebuild.
+ */
+@Service
+public class CoauthorGraphService {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoauthorGraphService.class);
+    private static final int MAX_LIMIT = 1000;
+    private static final int MAX_HOPS = 3;
+    private static final String GRAPH_DIRTY = "coauthor-graph-dirty";
+
+    private static final String PAPER_AUTHORS_SQL =
+            "SELECT p.dedup_hash, pa.author_id FROM publication_author pa " +
+            "JOIN publication p ON p.id = pa.publication_id ORDER BY p.dedup_hash";
+
+    private final AuthorIndexRepository authorIndexRepository;
+    private final FacultyRepository facultyRepository;
+    private final FacultyUploadBatchRepository facultyUploadBatchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile CoauthorGraph graph = CoauthorGraph.EMPTY;
+
+    @Value("${publications.graph.max-authors-per-paper:50}")
+    private int maxAuthorsPerPaper;
+
+    public CoauthorGraphService(AuthorIndexRepository authorIndexRepository, FacultyRepository facultyRepository,
+                                FacultyUploadBatchRepository facultyUploadBatchRepository,
+                                JdbcTemplate jdbcTemplate, DataSource dataSource,
+                                CacheInvalidationBus cacheInvalidationBus) {
+        this.authorIndexRepository = authorIndexRepository;
+        this.facultyRepository = facultyRepository;
+        this.facultyUploadBatchRepository = facultyUploadBatchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(GRAPH_DIRTY, key -> dirty.set(true));
+    }
+
+    /**
+     * Schedules a rebuild on every node, after the current transaction commits. Ingestion only runs on one node,
+     * but each node serves from its own snapshot.
+     */
+    public void markDirty() {
+        cacheInvalidationBus.publish(GRAPH_DIRTY, "all");
+    }
+
+    /**
+     * Runs before the commit because {@link #markDirty()} defers its broadcast to after the commit itself; an
+     * after-commit listener runs during transaction completion, when a newly registered callback never fires.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onFacultyPublicationsChanged(FacultyPublicationsChangedEvent event) {
+        markDirty();
+    }
+
+    @Scheduled(fixedDelayString = "${publications.graph.rebuild-delay-ms:30000}")
+    public void rebuildIfDirty() {
+        if (dirty.getAndSet(false)) {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                dirty.set(true);
+                logger.error("Failed to rebuild co-author graph: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    void rebuild() {
+        long start = System.currentTimeMillis();
+        List<long[]> rows = new ArrayList<>();
+        jdbcTemplate.query("SELECT id, faculty_id FROM author ORDER BY id",
+                (RowCallbackHandler) rs -> rows.add(new long[]{rs.getLong(1), rs.getLong(2)}));
+        long[] authorIds = new long[rows.size()];
+        long[] facultyOf = new long[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            authorIds[i] = rows.get(i)[0];
+            facultyOf[i] = rows.get(i)[1];
+        }
+
+        CoauthorGraph.Builder builder = new CoauthorGraph.Builder(authorIds, facultyOf, maxAuthorsPerPaper);
+        streamingJdbcTemplate.query(PAPER_AUTHORS_SQL, (RowCallbackHandler) rs -> builder.add(rs.getString(1), rs.getLong(2)));
+        CoauthorGraph built = builder.build();
+        graph = built;
+        logger.info("Rebuilt co-author graph: {} authors, {} edges in {} ms",
+                built.nodeCount(), built.edgeCount(), System.currentTimeMillis() - start);
+    }
+
+    public List<CoauthorDto> getCollaborators(String authorName, int limit) {
+        CoauthorGraph snapshot = graph;
+        int node = requireNode(snapshot, authorName);
+        List<CoauthorGraph.Neighbor> neighbors = snapshot.topNeighbors(node, clamp(limit));
+        Map<Long, AuthorRow> authors = authorIndexRepository.findAuthors(
+                neighbors.stream().map(n -> snapshot.authorId(n.node())).toList());
+        Map<Long, Faculty> faculty = loadFaculty(authors.values());
+        return neighbors.stream()
+                .map(n -> toDto(authors.get(snapshot.authorId(n.node())), faculty, n.weight(), 1))
+                .toList();
+    }
+
+    public List<CoauthorDto> getNetwork(String authorName, int hops, int limit) {
+        if (hops < 1 || hops > MAX_HOPS) {
+            throw new IllegalArgumentException("hops must be between 1 and " + MAX_HOPS);
+        }
+        CoauthorGraph snapshot = graph;
+        int node = requireNode(snapshot, authorName);
+        List<CoauthorGraph.Reached> reached = snapshot.withinHops(node, hops, clamp(limit));
+        Map<Long, AuthorRow> authors = authorIndexRepository.findAuthors(
+                reached.stream().map(r -> snapshot.authorId(r.node())).toList());
+        Map<Long, Faculty> faculty = loadFaculty(authors.values());
+        return reached.stream()
+                .map(r -> toDto(authors.get(snapshot.authorId(r.node())), faculty, null, r.hops()))
+                .toList();
+    }
+
+    /**
+     * Our faculty who have co-authored with the given author.
+     */
+    public List<FacultyCollaboratorDto> getFacultyCollaborators(String authorName) {
+        CoauthorGraph snapshot = graph;
+        Map<Long, Integer> shared = snapshot.facultyNeighbors(requireNode(snapshot, authorName));
+        Map<Long, Faculty> faculty = facultyRepository.findAllById(shared.keySet()).stream()
+                .collect(Collectors.toMap(Faculty::getId, Function.identity()));
+        return shared.entrySet().stream()
+                .filter(entry -> faculty.containsKey(entry.getKey()))
+                .sorted(Map.Entry.<Long, Integer>comparingByValue().reversed())
+                .map(entry -> FacultyCollaboratorDto.builder()
+                        .facultyId(faculty.get(entry.getKey()).getFacultyId())
+                        .name(faculty.get(entry.getKey()).getName())
+                        .sharedPapers(entry.getValue())
+                        .build())
+                .toList();
+    }
+
+    public List<PublicationDto> getSharedPapers(String authorName, String otherAuthorName, int limit) {
+        Long authorId = requireAuthorId(authorName);
+        Long otherId = requireAuthorId(otherAuthorName);
+        return authorIndexRepository.findSharedPublications(authorId, otherId, clamp(limit));
+    }
+
+    public List<CollaborationClusterDto> getBatchClusters(Long batchId, User user) {
+        Integer ownerId = facultyUploadBatchRepository.findOwnerIdById(batchId)
+                .orElseThrow(() -> new RuntimeException("Batch not found"));
+        if (!ownerId.equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to access this batch.");
+        }
+        List<Faculty> members = facultyRepository.findByBatchId(batchId);
+        Map<Long, Faculty> byId = members.stream().collect(Collectors.toMap(Faculty::getId, Function.identity()));
+        return graph.facultyClusters(byId.keySet()).stream()
+                .map(cluster -> CollaborationClusterDto.builder()
+                        .size(cluster.size())
+                        .members(cluster.stream()
+                                .map(byId::get)
+                                .map(f -> FacultyCollaboratorDto.builder().facultyId(f.getFacultyId()).name(f.getName()).build())
+                                .toList())
+                        .build())
+                .toList();
+    }
+
+    private Long requireAuthorId(String authorName) {
+        if (authorName == null || authorName.isBlank()) {
+            throw new IllegalArgumentException("An author name is required.");
+        }
+        Long authorId = authorIndexRepository.findAuthorIdByKey(AuthorNames.key(authorName));
+        if (authorId == null) {
+            throw new RuntimeException("Author not found");
+        }
+        return authorId;
+    }
+
+    private int requireNode(CoauthorGraph snapshot, String authorName) {
+        int node = snapshot.nodeOf(requireAuthorId(authorName));
+        if (node < 0) {
+            // Known author that arrived after the last rebuild
+            throw new RuntimeException("Author not indexed yet");
+        }
+        return node;
+    }
+
+    private Map<Long, Faculty> loadFaculty(Collection<AuthorRow> authors) {
+        Set<Long> facultyIds = new HashSet<>();
+        for (AuthorRow author : authors) {
+            if (author.facultyId() != null) {
+                facultyIds.add(author.facultyId());
+            }
+        }
+        if (facultyIds.isEmpty()) {
+            return Map.of();
+        }
+        return facultyRepository.findAllById(facultyIds).stream()
+                .collect(Collectors.toMap(Faculty::getId, Function.identity()));
+    }
+
+    private static CoauthorDto toDto(AuthorRow author, Map<Long, Faculty> faculty, Integer sharedPapers, int hops) {
+        Faculty match = author != null && author.facultyId() != null ? faculty.get(author.facultyId()) : null;
+        return CoauthorDto.builder()
+                .authorId(author != null ? author.id() : null)
+                .name(author != null ? author.displayName() : null)
+                .facultyId(match != null ? match.getFacultyId() : null)
+                .facultyName(match != null ? match.getName() : null)
+                .sharedPapers(sharedPapers)
+                .hops(hops)
+                .build();
+    }
+
+    private static int clamp(int limit) {
+        return Math.max(1, Math.min(limit, MAX_LIMIT));
+    }
+}
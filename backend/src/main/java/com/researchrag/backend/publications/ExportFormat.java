@@ -0,0 +1,35 @@
+package com.researchrag.backend.publications;
+
+import org.springframework.http.MediaType;
+
+public enum ExportFormat {
+    EXCEL("excel", "xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
+    WORD("word", "docx", "application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+
+    private final String parameter;
+    private final String extension;
+    private final MediaType mediaType;
+
+    ExportFormat(String parameter, String extension, String mediaType) {
+        this.parameter = parameter;
+        this.extension = extension;
+        this.mediaType = MediaType.valueOf(mediaType);
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public static ExportFormat fromParameter(String value) {
+        for (ExportFormat format : values()) {
+            if (format.parameter.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Invalid export format specified.");
+    }
+}
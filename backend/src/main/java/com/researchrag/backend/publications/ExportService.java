@@ -1,66 +1,49 @@
 package com.researchrag.backend.publications;
 
-import com.researchrag.backend.publications.Faculty;
-import com.researchrag.backend.publications.Publication;
-import org.apache.poi.ss.usermodel.Cell;
+import com.researchrag.backend.publications.dto.PublicationDto;
 import org.apache.poi.ss.usermodel.Row;
 import org.apache.poi.ss.usermodel.Sheet;
-import org.apache.poi.ss.usermodel.Workbook;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.usermodel.XWPFRun;
 import org.apache.poi.xwpf.usermodel.XWPFTable;
 import org.apache.poi.xwpf.usermodel.XWPFTableRow;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.util.List;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @Service
 public class ExportService {
 
-    public ByteArrayInputStream generateExcelReport(Faculty faculty) throws IOException {
-        try (Workbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    // Rows kept in memory per sheet; older rows are flushed to a compressed temp file
+    static final int ROW_ACCESS_WINDOW = 100;
+
+    private static final String[] PUBLICATION_HEADERS = {"Title", "Authors", "Year", "Citations", "Publication Source", "Link"};
+
+    public void writeExcelReport(Faculty faculty, Stream<PublicationDto> publications, OutputStream out) throws IOException {
+        SXSSFWorkbook workbook = newStreamingWorkbook();
+        try {
             // Profile Sheet
             Sheet profileSheet = workbook.createSheet("Profile");
-            profileSheet.createRow(0).createCell(0).setCellValue("Name");
-            profileSheet.getRow(0).createCell(1).setCellValue(faculty.getName());
-            profileSheet.createRow(1).createCell(0).setCellValue("Affiliations");
-            profileSheet.getRow(1).createCell(1).setCellValue(faculty.getAffiliations());
-            profileSheet.createRow(2).createCell(0).setCellValue("Interests");
-            profileSheet.getRow(2).createCell(1).setCellValue(String.join(", ", faculty.getInterests()));
-            profileSheet.createRow(3).createCell(0).setCellValue("Summary");
-            profileSheet.getRow(3).createCell(1).setCellValue(faculty.getSummary());
+            writeProfileRows(profileSheet, faculty, 0);
 
             // Publications Sheet
             Sheet publicationsSheet = workbook.createSheet("Publications");
-            String[] headers = {"Title", "Authors", "Year", "Citations", "Publication Source", "Link"};
-            Row headerRow = publicationsSheet.createRow(0);
-            for (int i = 0; i < headers.length; i++) {
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(headers[i]);
-            }
-
-            int rowNum = 1;
-            for (Publication pub : faculty.getPublications()) {
-                Row row = publicationsSheet.createRow(rowNum++);
-                row.createCell(0).setCellValue(pub.getTitle());
-                row.createCell(1).setCellValue(pub.getAuthors());
-                row.createCell(2).setCellValue(pub.getYear());
-                row.createCell(3).setCellValue(pub.getCitations());
-                row.createCell(4).setCellValue(pub.getPublicationSource());
-                row.createCell(5).setCellValue(pub.getLink());
-            }
+            writePublicationRows(publicationsSheet, publications, 0);
 
             workbook.write(out);
-            return new ByteArrayInputStream(out.toByteArray());
+        } finally {
+            workbook.dispose();
+            workbook.close();
         }
     }
 
-    public ByteArrayInputStream generateWordReport(Faculty faculty) throws IOException {
-        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+    public void writeWordReport(Faculty faculty, Stream<PublicationDto> publications, OutputStream out) throws IOException {
+        // XWPF has no streaming mode; the document is built in memory but written straight to the response
+        try (XWPFDocument document = new XWPFDocument()) {
             XWPFRun titleRun = document.createParagraph().createRun();
             titleRun.setText("Research Profile: " + faculty.getName());
             titleRun.setBold(true);
@@ -85,7 +68,9 @@ public class ExportService {
             header.addNewTableCell().setText("Year");
             header.addNewTableCell().setText("Citations");
 
-            for (Publication pub : faculty.getPublications()) {
+            Iterator<PublicationDto> iterator = publications.iterator();
+            while (iterator.hasNext()) {
+                PublicationDto pub = iterator.next();
                 XWPFTableRow row = table.createRow();
                 row.getCell(0).setText(pub.getTitle());
                 row.getCell(1).setText(pub.getAuthors());
@@ -94,7 +79,67 @@ public class ExportService {
             }
 
             document.write(out);
-            return new ByteArrayInputStream(out.toByteArray());
         }
     }
+
+    /**
+     * Writes one faculty's profile and publications onto a single sheet, as used by the consolidated batch workbook.
+     */
+    void writeFacultySheet(Sheet sheet, Faculty faculty, Stream<PublicationDto> publications) {
+        int nextRow = writeProfileRows(sheet, faculty, 0);
+        writePublicationRows(sheet, publications, nextRow + 1);
+    }
+
+    SXSSFWorkbook newStreamingWorkbook() {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    /**
+     * Writes the label/value profile rows starting at {@code firstRow} and returns the next free row index.
+     */
+    int writeProfileRows(Sheet sheet, Faculty faculty, int firstRow) {
+        int rowNum = firstRow;
+        rowNum = writeLabelRow(sheet, rowNum, "Name", faculty.getName());
+        rowNum = writeLabelRow(sheet, rowNum, "Affiliations", faculty.getAffiliations());
+        rowNum = writeLabelRow(sheet, rowNum, "Interests", String.join(", ", faculty.getInterests()));
+        rowNum = writeLabelRow(sheet, rowNum, "Summary", faculty.getSummary());
+        return rowNum;
+    }
+
+    /**
+     * Writes the header and one row per publication starting at {@code firstRow}, consuming the stream as it goes.
+     */
+    int writePublicationRows(Sheet sheet, Stream<PublicationDto> publications, int firstRow) {
+        int rowNum = firstRow;
+        Row headerRow = sheet.createRow(rowNum++);
+        for (int i = 0; i < PUBLICATION_HEADERS.length; i++) {
+            headerRow.createCell(i).setCellValue(PUBLICATION_HEADERS[i]);
+        }
+
+        Iterator<PublicationDto> iterator = publications.iterator();
+        while (iterator.hasNext()) {
+            PublicationDto pub = iterator.next();
+            Row row = sheet.createRow(rowNum++);
+            row.createCell(0).setCellValue(pub.getTitle());
+            row.createCell(1).setCellValue(pub.getAuthors());
+            if (pub.getYear() != null) {
+                row.createCell(2).setCellValue(pub.getYear());
+            }
+            if (pub.getCitations() != null) {
+                row.createCell(3).setCellValue(pub.getCitations());
+            }
+            row.createCell(4).setCellValue(pub.getPublicationSource());
+            row.createCell(5).setCellValue(pub.getLink());
+        }
+        return rowNum;
+    }
+
+    private static int writeLabelRow(Sheet sheet, int rowNum, String label, String value) {
+        Row row = sheet.createRow(rowNum);
+        row.createCell(0).setCellValue(label);
+        row.createCell(1).setCellValue(value);
+        return rowNum + 1;
+    }
 }
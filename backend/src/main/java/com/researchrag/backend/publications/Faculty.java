@@ -4,17 +4,26 @@ package com.researchrag.backend.publications;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
+
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faculty")
+@NaturalIdCache(region = "faculty-natural-id")
 public class Faculty {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @NaturalId
     @Column(nullable = false, unique = true)
     private String facultyId;
 
@@ -27,6 +36,7 @@ public class Faculty {
     private String googleScholarId;
 
     @ElementCollection
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "faculty-interests")
     @CollectionTable(name = "faculty_interests", joinColumns = @JoinColumn(name = "faculty_id"))
     @Column(name = "interest")
     private List<String> interests;
@@ -48,4 +58,21 @@ public class Faculty {
 
     @Column(length = 2000)
     private String summary;
+
+    // When the profile was last scraped successfully; drives the staleness-based refresh
+    private LocalDateTime lastFetchedAt;
+
+    // SHA-256 of the last scraped payload, so an unchanged refresh is a no-op
+    @Column(columnDefinition = "CHAR(64)")
+    private String contentHash;
+
+    // Change counter for ETags. Not @Version: summaries are stored with plain SQL while an ingestion
+    // may hold the same row, and neither should fail with an optimistic-lock error
+    @Column(nullable = false)
+    private long version;
+
+    @PreUpdate
+    void bumpVersion() {
+        version++;
+    }
 }
@@ -0,0 +1,132 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.FacultyAnalyticsDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JDBC access to the faculty_*_stats tables. Deltas are applied with additive upserts so concurrent
+ * writers never overwrite each other's counts.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacultyAnalyticsRepository {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT_YEAR_SQL =
+            "INSERT INTO faculty_year_stats (faculty_id, year, publication_count, citation_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE publication_count = publication_count + VALUES(publication_count), " +
+            "citation_count = citation_count + VALUES(citation_count)";
+
+    private static final String UPSERT_VENUE_SQL =
+            "INSERT INTO faculty_venue_stats (faculty_id, venue, publication_count, citation_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE publication_count = publication_count + VALUES(publication_count), " +
+            "citation_count = citation_count + VALUES(citation_count)";
+
+    private static final String UPSERT_COAUTHOR_SQL =
+            "INSERT INTO faculty_coauthor_stats (faculty_id, coauthor_key, display_name, publication_count) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE publication_count = publication_count + VALUES(publication_count)";
+
+    /** Stored state of one publication, as needed to turn an ingestion into deltas. */
+    record PublicationState(int year, String venue, int citations) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes the faculty row lock so two ingestions of the same faculty cannot both count a publication as new.
+     */
+    public void lockFaculty(Long facultyId) {
+        jdbcTemplate.queryForList("SELECT id FROM faculty WHERE id = ? FOR UPDATE", Long.class, facultyId);
+    }
+
+    public Map<String, PublicationState> loadPublicationStates(Long facultyId) {
+        Map<String, PublicationState> states = new HashMap<>();
+        jdbcTemplate.query("SELECT dedup_hash, year, publication_source, citations FROM publication WHERE faculty_id = ?",
+                (RowCallbackHandler) rs -> states.put(rs.getString("dedup_hash"),
+                        new PublicationState(rs.getInt("year"), rs.getString("publication_source"), rs.getInt("citations"))),
+                facultyId);
+        return states;
+    }
+
+    public void forEachPublication(Long facultyId, RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT year, publication_source, authors, citations FROM publication WHERE faculty_id = ?",
+                handler, facultyId);
+    }
+
+    public void applyDelta(Long facultyId, AnalyticsDelta delta) {
+        if (!delta.years().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_YEAR_SQL, new ArrayList<>(delta.years().entrySet()), BATCH_SIZE, (ps, entry) -> {
+                ps.setLong(1, facultyId);
+                ps.setInt(2, entry.getKey());
+                ps.setInt(3, entry.getValue().publications());
+                ps.setLong(4, entry.getValue().citations());
+            });
+        }
+        if (!delta.venues().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_VENUE_SQL, new ArrayList<>(delta.venues().entrySet()), BATCH_SIZE, (ps, entry) -> {
+                ps.setLong(1, facultyId);
+                ps.setString(2, entry.getKey());
+                ps.setInt(3, entry.getValue().publications());
+                ps.setLong(4, entry.getValue().citations());
+            });
+        }
+        if (!delta.coauthors().isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_COAUTHOR_SQL, new ArrayList<>(delta.coauthors().entrySet()), BATCH_SIZE, (ps, entry) -> {
+                ps.setLong(1, facultyId);
+                ps.setString(2, entry.getKey());
+                ps.setString(3, entry.getValue().displayName());
+                ps.setInt(4, entry.getValue().publications());
+            });
+        }
+    }
+
+    public void deleteForFaculty(Long facultyId) {
+        jdbcTemplate.update("DELETE FROM faculty_year_stats WHERE faculty_id = ?", facultyId);
+        jdbcTemplate.update("DELETE FROM faculty_venue_stats WHERE faculty_id = ?", facultyId);
+        jdbcTemplate.update("DELETE FROM faculty_coauthor_stats WHERE faculty_id = ?", facultyId);
+    }
+
+    public List<FacultyAnalyticsDto.YearStat> findYearStats(Long facultyId) {
+        return jdbcTemplate.query("SELECT year, publication_count, citation_count FROM faculty_year_stats " +
+                        "WHERE faculty_id = ? ORDER BY year",
+                (rs, rowNum) -> new FacultyAnalyticsDto.YearStat(rs.getInt(1), rs.getInt(2), rs.getLong(3)), facultyId);
+    }
+
+    public List<FacultyAnalyticsDto.VenueStat> findTopVenues(Long facultyId, int limit) {
+        return jdbcTemplate.query("SELECT venue, publication_count, citation_count FROM faculty_venue_stats " +
+                        "WHERE faculty_id = ? ORDER BY publication_count DESC, citation_count DESC, venue LIMIT ?",
+                (rs, rowNum) -> new FacultyAnalyticsDto.VenueStat(rs.getString(1), rs.getInt(2), rs.getLong(3)), facultyId, limit);
+    }
+
+    public List<FacultyAnalyticsDto.CoauthorStat> findTopCoauthors(Long facultyId, int limit) {
+        return jdbcTemplate.query("SELECT display_name, publication_count FROM faculty_coauthor_stats " +
+                        "WHERE faculty_id = ? ORDER BY publication_count DESC, coauthor_key LIMIT ?",
+                (rs, rowNum) -> new FacultyAnalyticsDto.CoauthorStat(rs.getString(1), rs.getInt(2)), facultyId, limit);
+    }
+
+    public long countCoauthors(Long facultyId) {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM faculty_coauthor_stats WHERE faculty_id = ?", Long.class, facultyId);
+        return count != null ? count : 0;
+    }
+
+    public boolean hasStats(Long facultyId) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM faculty_year_stats WHERE faculty_id = ? LIMIT 1", Integer.class, facultyId).isEmpty();
+    }
+
+    public List<Long> findFacultyIds(boolean onlyMissingStats) {
+        String sql = "SELECT f.id FROM faculty f WHERE EXISTS (SELECT 1 FROM publication p WHERE p.faculty_id = f.id)";
+        if (onlyMissingStats) {
+            sql += " AND NOT EXISTS (SELECT 1 FROM faculty_year_stats s WHERE s.faculty_id = f.id)";
+        }
+        return jdbcTemplate.queryForList(sql + " ORDER BY f.id", Long.class);
+    }
+}
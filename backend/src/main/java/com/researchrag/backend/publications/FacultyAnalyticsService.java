@@ -0,0 +1,173 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.FacultyAnalyticsRepository.PublicationState;
+import com.researchrag.backend.publications.dto.FacultyAnalyticsDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Per-faculty bibliometric aggregates (per-year output and citations, venues, co-authors). Ingestion applies
+ * only the difference between what was stored and what was scraped; a chunked parallel backfill computes
+ * the aggregates from scratch for faculty ingested before the tables existed.
+ */
+@Service
+public class FacultyAnalyticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyAnalyticsService.class);
+    private static final int MAX_TOP_LIMIT = 100;
+
+    private final FacultyAnalyticsRepository facultyAnalyticsRepository;
+    private final FacultyRepository facultyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor analyticsBackfillExecutor;
+
+    @Value("${publications.analytics.backfill-on-startup:missing}")
+    private String backfillOnStartup;
+
+    @Value("${publications.analytics.backfill-chunk-size:100}")
+    private int backfillChunkSize;
+
+    public FacultyAnalyticsService(FacultyAnalyticsRepository facultyAnalyticsRepository,
+                                   FacultyRepository facultyRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("analyticsBackfillExecutor") ThreadPoolTaskExecutor analyticsBackfillExecutor) {
+        this.facultyAnalyticsRepository = facultyAnalyticsRepository;
+        this.facultyRepository = facultyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.analyticsBackfillExecutor = analyticsBackfillExecutor;
+    }
+
+    /**
+     * Locks the faculty and snapshots its stored publications. Must run in the ingestion transaction,
+     * before the publications are upserted.
+     */
+    public Map<String, PublicationState> lockAndLoadState(Long facultyId) {
+        facultyAnalyticsRepository.lockFaculty(facultyId);
+        return facultyAnalyticsRepository.loadPublicationStates(facultyId);
+    }
+
+    /**
+     * Applies the effect of an upsert of {@code scraped} on top of {@code before}: new publications are counted
+     * in full, existing ones only contribute their citation change. Runs in the ingestion transaction.
+     */
+    public void applyIngestion(Long facultyId, String facultyName, Map<String, PublicationState> before, List<Publication> scraped) {
+        if (!before.isEmpty() && !facultyAnalyticsRepository.hasStats(facultyId)) {
+            // Ingested before the analytics tables existed and not backfilled yet: a delta would undercount
+            recompute(facultyId, facultyName);
+            return;
+        }
+        AnalyticsDelta delta = new AnalyticsDelta(facultyName);
+        for (Publication publication : scraped) {
+            PublicationState stored = before.get(publication.getDedupHash());
+            if (stored == null) {
+                delta.addPublication(publication.getYear(), publication.getPublicationSource(),
+                        publication.getAuthors(), publication.getCitations());
+            } else {
+                // The upsert only rewrites citations, so the stored venue is the one to adjust
+                delta.addCitations(stored.year(), stored.venue(), (long) publication.getCitations() - stored.citations());
+            }
+        }
+        if (!delta.isEmpty()) {
+            facultyAnalyticsRepository.applyDelta(facultyId, delta);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public FacultyAnalyticsDto getAnalytics(String facultyId, int topVenues, int topCoauthors) {
+        Long facultyPk = facultyRepository.findIdByFacultyId(facultyId)
+                .orElseThrow(() -> new RuntimeException("Faculty not found"));
+
+        List<FacultyAnalyticsDto.YearStat> years = facultyAnalyticsRepository.findYearStats(facultyPk);
+        long totalPublications = 0;
+        long totalCitations = 0;
+        List<FacultyAnalyticsDto.YearStat> knownYears = new ArrayList<>(years.size());
+        for (FacultyAnalyticsDto.YearStat year : years) {
+            totalPublications += year.getPublications();
+            totalCitations += year.getCitations();
+            if (year.getYear() > 0) {
+                knownYears.add(year);
+            }
+        }
+
+        return FacultyAnalyticsDto.builder()
+                .facultyId(facultyId)
+                .totalPublications(totalPublications)
+                .totalCitations(totalCitations)
+                .years(knownYears)
+                .topVenues(facultyAnalyticsRepository.findTopVenues(facultyPk, clampLimit(topVenues)))
+                .topCoauthors(facultyAnalyticsRepository.findTopCoauthors(facultyPk, clampLimit(topCoauthors)))
+                .distinctCoauthors(facultyAnalyticsRepository.countCoauthors(facultyPk))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillOnStartup() {
+        if ("off".equalsIgnoreCase(backfillOnStartup)) {
+            return;
+        }
+        boolean onlyMissing = !"all".equalsIgnoreCase(backfillOnStartup);
+        List<Long> facultyIds = facultyAnalyticsRepository.findFacultyIds(onlyMissing);
+        if (!facultyIds.isEmpty()) {
+            backfill(facultyIds);
+        }
+    }
+
+    /**
+     * Recomputes analytics for the given faculty in parallel chunks, one short transaction per faculty.
+     */
+    public CompletableFuture<Void> backfill(List<Long> facultyIds) {
+        long start = System.currentTimeMillis();
+        AtomicInteger done = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < facultyIds.size(); from += backfillChunkSize) {
+            List<Long> chunk = facultyIds.subList(from, Math.min(from + backfillChunkSize, facultyIds.size()));
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (Long facultyId : chunk) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> recompute(facultyId));
+                        done.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        logger.error("Analytics backfill failed for faculty {}: {}", facultyId, e.getMessage());
+                    }
+                }
+            }, analyticsBackfillExecutor));
+        }
+        logger.info("Started analytics backfill for {} faculty in {} chunks", facultyIds.size(), chunks.size());
+        return CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> logger.info("Analytics backfill finished: {} faculty done, {} failed, {} ms",
+                        done.get(), failed.get(), System.currentTimeMillis() - start));
+    }
+
+    private void recompute(Long facultyId) {
+        facultyAnalyticsRepository.lockFaculty(facultyId);
+        recompute(facultyId, facultyRepository.findById(facultyId).map(Faculty::getName).orElse(null));
+    }
+
+    private void recompute(Long facultyId, String facultyName) {
+        AnalyticsDelta delta = new AnalyticsDelta(facultyName);
+        facultyAnalyticsRepository.forEachPublication(facultyId, rs -> delta.addPublication(
+                rs.getInt("year"), rs.getString("publication_source"), rs.getString("authors"), rs.getInt("citations")));
+        facultyAnalyticsRepository.deleteForFaculty(facultyId);
+        facultyAnalyticsRepository.applyDelta(facultyId, delta);
+    }
+
+    private static int clampLimit(int limit) {
+        return Math.max(0, Math.min(limit, MAX_TOP_LIMIT));
+    }
+}
@@ -0,0 +1,62 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts faculty data from the second-level cache on every node when it is written outside Hibernate
+ * (JDBC upserts, summaries, the orphan reclaimer). Changes made through the entity itself are written
+ * through the local cache by Hibernate, but other nodes still need the broadcast.
+ */
+@Component
+public class FacultyCacheInvalidator {
+
+    private static final String FACULTY = "faculty";
+    private static final String FACULTY_PUBLICATIONS = "faculty-publications";
+    private static final String FACULTY_REMOVED = "faculty-removed";
+    private static final String INTERESTS_ROLE = Faculty.class.getName() + ".interests";
+
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Cache cache;
+
+    public FacultyCacheInvalidator(CacheInvalidationBus cacheInvalidationBus, EntityManagerFactory entityManagerFactory) {
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cacheInvalidationBus.register(FACULTY, key -> evictFaculty(Long.valueOf(key)));
+        cacheInvalidationBus.register(FACULTY_PUBLICATIONS, key -> {
+            evictFaculty(Long.valueOf(key));
+            evictPublications();
+        });
+        cacheInvalidationBus.register(FACULTY_REMOVED, key -> {
+            evictFaculty(Long.valueOf(key));
+            evictPublications();
+            // The natural-id region cannot be evicted per key; a stale entry would map the id to a deleted row
+            cache.evictNaturalIdData(Faculty.class);
+        });
+    }
+
+    /**
+     * The faculty row or its interests changed, and with {@code publicationsChanged} also its publication rows.
+     */
+    public void facultyChanged(Long facultyPk, boolean publicationsChanged) {
+        cacheInvalidationBus.publish(publicationsChanged ? FACULTY_PUBLICATIONS : FACULTY, String.valueOf(facultyPk));
+    }
+
+    public void facultyRemoved(Long facultyPk) {
+        cacheInvalidationBus.publish(FACULTY_REMOVED, String.valueOf(facultyPk));
+    }
+
+    private void evictFaculty(Long facultyPk) {
+        cache.evictEntityData(Faculty.class, facultyPk);
+        cache.evictCollectionData(INTERESTS_ROLE, facultyPk);
+    }
+
+    private void evictPublications() {
+        // Publication rows are upserted with JDBC and carry no per-faculty cache key, so the region is cleared;
+        // this only happens at ingestion time, which is rare compared to profile reads
+        cache.evictEntityData(Publication.class);
+    }
+}
@@ -0,0 +1,46 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.userapi.user.User;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+public class FacultyIngestionJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain column rather than a foreign key, so deleting a batch never has to touch its job history
+    private Long batchId;
+
+    private String fileName;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    private IngestionJobStatus status;
+
+    private Integer totalFaculty;
+
+    private int processedFaculty;
+
+    private int failedFaculty;
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Refreshed while a node has the job queued or running; a stale value means that node went away
+    private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,54 @@
+package com.researchrag.backend.publications;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface FacultyIngestionJobRepository extends JpaRepository<FacultyIngestionJob, Long> {
+
+    @Modifying
+    @Query("UPDATE FacultyIngestionJob j SET j.processedFaculty = j.processedFaculty + 1 WHERE j.id = :id")
+    void incrementProcessed(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE FacultyIngestionJob j SET j.failedFaculty = j.failedFaculty + 1 WHERE j.id = :id")
+    void incrementFailed(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE FacultyIngestionJob j SET j.heartbeatAt = :now WHERE j.id IN :ids")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Fails queued or running jobs whose node stopped refreshing their heartbeat before {@code cutoff}.
+     */
+    @Modifying
+    @Query("UPDATE FacultyIngestionJob j SET j.status = :failed, j.errorMessage = :errorMessage, j.finishedAt = :now " +
+            "WHERE j.status IN :active AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff")
+    int failAbandoned(@Param("active") Collection<IngestionJobStatus> active, @Param("failed") IngestionJobStatus failed,
+                      @Param("errorMessage") String errorMessage, @Param("cutoff") LocalDateTime cutoff,
+                      @Param("now") LocalDateTime now);
+
+    /**
+     * Moves a queued job to RUNNING. Returns 0 if it is no longer queued, e.g. already failed as abandoned.
+     */
+    @Modifying
+    @Query("UPDATE FacultyIngestionJob j SET j.status = :running, j.startedAt = :now WHERE j.id = :id AND j.status = :queued")
+    int start(@Param("id") Long id, @Param("queued") IngestionJobStatus queued, @Param("running") IngestionJobStatus running,
+              @Param("now") LocalDateTime now);
+
+    /**
+     * Finishes a job that is still queued or running, so a job already failed as abandoned keeps that outcome.
+     */
+    @Modifying
+    @Query("UPDATE FacultyIngestionJob j SET j.status = :status, j.errorMessage = :errorMessage, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :active")
+    int finish(@Param("id") Long id, @Param("active") Collection<IngestionJobStatus> active,
+               @Param("status") IngestionJobStatus status, @Param("errorMessage") String errorMessage,
+               @Param("now") LocalDateTime now);
+}
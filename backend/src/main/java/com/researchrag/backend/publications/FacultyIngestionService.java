@@ -0,0 +1,256 @@
+package com.researchrag.backend.publications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.researchrag.backend.common.exception.TooManyRequestsException;
+import com.researchrag.backend.publications.dto.FacultyIngestionJobDto;
+import com.researchrag.backend.userapi.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs faculty-list ingestion as a background job: the Python scrape happens outside any transaction,
+ * and each faculty profile is then committed in its own short transaction so progress is visible as it goes.
+ * Jobs live only in the memory of the node that accepted them; while queued or running their heartbeat is
+ * refreshed, and any node fails jobs whose heartbeat stopped, e.g. after a restart or crash.
+ */
+@Service
+public class FacultyIngestionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyIngestionService.class);
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+    private static final List<IngestionJobStatus> ACTIVE = List.of(IngestionJobStatus.QUEUED, IngestionJobStatus.RUNNING);
+
+    private final WebClient webClient;
+    private final PublicationsService publicationsService;
+    private final FacultyIngestionJobRepository facultyIngestionJobRepository;
+    private final FacultyUploadBatchRepository facultyUploadBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor facultyIngestionExecutor;
+    // Jobs queued or running on this node
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${rag.service.base-url:http://localhost:8000}")
+    private String pythonApiUrl;
+
+    @Value("${publications.jobs.abandoned-after-ms:300000}")
+    private long abandonedAfterMs;
+
+    public FacultyIngestionService(WebClient.Builder webClientBuilder, PublicationsService publicationsService,
+                                   FacultyIngestionJobRepository facultyIngestionJobRepository,
+                                   FacultyUploadBatchRepository facultyUploadBatchRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("facultyIngestionExecutor") ThreadPoolTaskExecutor facultyIngestionExecutor) {
+        this.webClient = webClientBuilder.build();
+        this.publicationsService = publicationsService;
+        this.facultyIngestionJobRepository = facultyIngestionJobRepository;
+        this.facultyUploadBatchRepository = facultyUploadBatchRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.facultyIngestionExecutor = facultyIngestionExecutor;
+    }
+
+    public FacultyIngestionJobDto startIngestion(MultipartFile multipartFile, User user, Integer articlesLimit) throws IOException {
+        // The multipart upload is gone once the request ends, so keep our own copy for the job
+        File tempFile = convertMultiPartToFile(multipartFile);
+
+        FacultyUploadBatch batch = new FacultyUploadBatch();
+        batch.setFileName(multipartFile.getOriginalFilename());
+        batch.setUploadDate(LocalDateTime.now());
+        batch.setUser(user);
+        FacultyUploadBatch savedBatch = facultyUploadBatchRepository.save(batch);
+
+        FacultyIngestionJob job = new FacultyIngestionJob();
+        job.setBatchId(savedBatch.getId());
+        job.setFileName(multipartFile.getOriginalFilename());
+        job.setUser(user);
+        job.setStatus(IngestionJobStatus.QUEUED);
+        job.setCreatedAt(LocalDateTime.now());
+        job.setHeartbeatAt(job.getCreatedAt());
+        FacultyIngestionJob savedJob = facultyIngestionJobRepository.save(job);
+
+        activeJobs.add(savedJob.getId());
+        try {
+            facultyIngestionExecutor.execute(() -> runIngestion(savedJob.getId(), savedBatch.getId(), tempFile, articlesLimit));
+        } catch (TaskRejectedException e) {
+            logger.warn("Rejected faculty ingestion job {}: executor is saturated", savedJob.getId());
+            activeJobs.remove(savedJob.getId());
+            tempFile.delete();
+            // Nothing was ingested into the batch; do not leave an empty batch in the user's list
+            deleteBatch(savedBatch.getId());
+            finishJob(savedJob.getId(), IngestionJobStatus.FAILED, "Too many ingestion jobs are already running.");
+            throw new TooManyRequestsException("Too many faculty lists are being processed. Please retry later.", 60);
+        }
+        return toDto(savedJob);
+    }
+
+    @Transactional(readOnly = true)
+    public FacultyIngestionJobDto getJob(Long jobId, User user) {
+        FacultyIngestionJob job = facultyIngestionJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Ingestion job not found"));
+        if (!job.getUser().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to access this ingestion job.");
+        }
+        return toDto(job);
+    }
+
+    private void runIngestion(Long jobId, Long batchId, File tempFile, Integer articlesLimit) {
+        try {
+            Integer started = transactionTemplate.execute(status -> facultyIngestionJobRepository.start(
+                    jobId, IngestionJobStatus.QUEUED, IngestionJobStatus.RUNNING, LocalDateTime.now()));
+            if (started == null || started == 0) {
+                logger.warn("Faculty ingestion job {} is no longer queued; not running it", jobId);
+                deleteBatch(batchId);
+                return;
+            }
+
+            JsonNode responseNode;
+            try {
+                responseNode = fetchFacultyData(tempFile, articlesLimit);
+            } catch (Exception e) {
+                logger.error("Faculty ingestion job {} failed: {}", jobId, e.getMessage(), e);
+                // Nothing was ingested into the batch; do not leave an empty batch in the user's list
+                deleteBatch(batchId);
+                finishJob(jobId, IngestionJobStatus.FAILED, e.getMessage());
+                return;
+            }
+            int total = responseNode != null && responseNode.isArray() ? responseNode.size() : 0;
+            transactionTemplate.executeWithoutResult(status -> facultyIngestionJobRepository.findById(jobId)
+                    .ifPresent(job -> job.setTotalFaculty(total)));
+
+            if (total > 0) {
+                for (JsonNode facultyData : responseNode) {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> {
+                            publicationsService.saveFacultyProfile(facultyData, facultyUploadBatchRepository.getReferenceById(batchId));
+                            facultyIngestionJobRepository.incrementProcessed(jobId);
+                        });
+                    } catch (Exception e) {
+                        logger.error("Failed to save faculty {} for ingestion job {}: {}",
+                                facultyData.path("faculty_id").asText(), jobId, e.getMessage(), e);
+                        transactionTemplate.executeWithoutResult(status -> facultyIngestionJobRepository.incrementFailed(jobId));
+                    }
+                }
+            }
+            finishJob(jobId, IngestionJobStatus.COMPLETED, null);
+        } catch (Exception e) {
+            logger.error("Faculty ingestion job {} failed: {}", jobId, e.getMessage(), e);
+            finishJob(jobId, IngestionJobStatus.FAILED, e.getMessage());
+        } finally {
+            activeJobs.remove(jobId);
+            if (tempFile.exists()) {
+                tempFile.delete();
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${publications.jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (activeJobs.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    facultyIngestionJobRepository.heartbeat(List.copyOf(activeJobs), LocalDateTime.now()));
+        } catch (Exception e) {
+            logger.warn("Failed to refresh ingestion job heartbeats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Fails jobs whose node stopped refreshing them. Runs at startup, which recovers this node's own jobs from
+     * before a restart once they are stale, and periodically for nodes that went away.
+     */
+    @Scheduled(fixedDelayString = "${publications.jobs.heartbeat-interval-ms:30000}")
+    public void failAbandonedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer failed = transactionTemplate.execute(status -> facultyIngestionJobRepository.failAbandoned(
+                ACTIVE, IngestionJobStatus.FAILED, "Interrupted: the backend running this job stopped.",
+                now.minusNanos(abandonedAfterMs * 1_000_000), now));
+        if (failed != null && failed > 0) {
+            logger.warn("Failed {} abandoned faculty ingestion jobs", failed);
+        }
+    }
+
+    private JsonNode fetchFacultyData(File tempFile, Integer articlesLimit) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", new FileSystemResource(tempFile));
+        if (articlesLimit != null) {
+            builder.part("articles_limit", String.valueOf(articlesLimit));
+        }
+
+        return webClient.post()
+                .uri(pythonApiUrl + "/publications/upload")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .bodyValue(builder.build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .doOnError(error -> logger.error("### WebClient Error: " + error.getMessage(), error))
+                .timeout(Duration.ofMinutes(10))
+                .block();
+    }
+
+    private void finishJob(Long jobId, IngestionJobStatus status, String errorMessage) {
+        String message = errorMessage != null && errorMessage.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? errorMessage.substring(0, MAX_ERROR_MESSAGE_LENGTH) : errorMessage;
+        Integer finished = transactionTemplate.execute(tx ->
+                facultyIngestionJobRepository.finish(jobId, ACTIVE, status, message, LocalDateTime.now()));
+        if (finished == null || finished == 0) {
+            logger.warn("Faculty ingestion job {} already finished; not marking it {}", jobId, status);
+        }
+    }
+
+    private void deleteBatch(Long batchId) {
+        try {
+            transactionTemplate.executeWithoutResult(tx -> facultyUploadBatchRepository.deleteBatchById(batchId));
+        } catch (Exception e) {
+            logger.warn("Failed to delete empty faculty upload batch {}: {}", batchId, e.getMessage());
+        }
+    }
+
+    private File convertMultiPartToFile(MultipartFile file) throws IOException {
+        // Prefix with a UUID so concurrent jobs uploading the same file name do not clobber each other
+        File convFile = new File(System.getProperty("java.io.tmpdir"),
+                UUID.randomUUID() + "_" + new File(String.valueOf(file.getOriginalFilename())).getName());
+        Files.copy(file.getInputStream(), convFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return convFile;
+    }
+
+    private static FacultyIngestionJobDto toDto(FacultyIngestionJob job) {
+        return FacultyIngestionJobDto.builder()
+                .id(job.getId())
+                .batchId(job.getBatchId())
+                .fileName(job.getFileName())
+                .status(job.getStatus())
+                .totalFaculty(job.getTotalFaculty())
+                .processedFaculty(job.getProcessedFaculty())
+                .failedFaculty(job.getFailedFaculty())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
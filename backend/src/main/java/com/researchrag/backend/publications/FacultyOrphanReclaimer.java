@@ -0,0 +1,147 @@
+package com.researchrag.backend.publications;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removes faculty left without any upload batch, together with their publications. Publications are deleted
+ * in small chunks, each in its own short transaction with a pause in between, so neither the publication
+ * table nor the faculty row stays locked for long and uploads keep flowing while a large batch is reclaimed.
+ */
+@Component
+public class FacultyOrphanReclaimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyOrphanReclaimer.class);
+    private static final String LOCK_KEY = "publications:reclaim:lock";
+
+    private final FacultyReclaimRepository facultyReclaimRepository;
+    private final PublicationSearchIndex publicationSearchIndex;
+    private final CoauthorGraphService coauthorGraphService;
+    private final FacultyCacheInvalidator facultyCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${publications.reclaim.enabled:true}")
+    private boolean enabled;
+
+    @Value("${publications.reclaim.max-faculty-per-run:100}")
+    private int maxFacultyPerRun;
+
+    @Value("${publications.reclaim.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${publications.reclaim.pause-ms:200}")
+    private long pauseMs;
+
+    @Value("${publications.reclaim.lock-ttl-minutes:30}")
+    private long lockTtlMinutes;
+
+    public FacultyOrphanReclaimer(FacultyReclaimRepository facultyReclaimRepository,
+                                  PublicationSearchIndex publicationSearchIndex,
+                                  CoauthorGraphService coauthorGraphService,
+                                  FacultyCacheInvalidator facultyCacheInvalidator,
+                                  TransactionTemplate transactionTemplate,
+                                  RedisTemplate<String, String> redisTemplate) {
+        this.facultyReclaimRepository = facultyReclaimRepository;
+        this.publicationSearchIndex = publicationSearchIndex;
+        this.coauthorGraphService = coauthorGraphService;
+        this.facultyCacheInvalidator = facultyCacheInvalidator;
+        this.transactionTemplate = transactionTemplate;
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * Reclaims up to {@code max-faculty-per-run} orphans. A Redis lock keeps concurrent runs on other nodes
+     * from working through the same orphans.
+     */
+    @Scheduled(fixedDelayString = "${publications.reclaim.interval-ms:300000}")
+    public void reclaimOrphans() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockTtlMinutes, TimeUnit.MINUTES);
+        if (!Boolean.TRUE.equals(acquired)) {
+            logger.debug("Orphan reclaim is already running on another node; skipping this run");
+            return;
+        }
+        try {
+            runReclaim();
+        } finally {
+            if (lockToken.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    private void runReclaim() {
+        List<FacultyReclaimRepository.OrphanFaculty> orphans = facultyReclaimRepository.findOrphans(maxFacultyPerRun);
+        if (orphans.isEmpty()) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        int reclaimed = 0;
+        long publications = 0;
+        try {
+            for (FacultyReclaimRepository.OrphanFaculty orphan : orphans) {
+                long deleted = reclaim(orphan);
+                if (deleted >= 0) {
+                    reclaimed++;
+                    publications += deleted;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (reclaimed > 0) {
+                coauthorGraphService.markDirty();
+            }
+            logger.info("Reclaimed {} orphaned faculty and {} publications in {} ms",
+                    reclaimed, publications, System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * Returns the number of publications deleted, or -1 if the faculty was linked to a batch again meanwhile.
+     */
+    private long reclaim(FacultyReclaimRepository.OrphanFaculty orphan) throws InterruptedException {
+        long deleted = 0;
+        while (true) {
+            Integer chunk = transactionTemplate.execute(status -> facultyReclaimRepository.lockIfOrphan(orphan.id())
+                    ? facultyReclaimRepository.deletePublicationChunk(orphan.id(), chunkSize) : null);
+            if (chunk == null) {
+                logger.info("Faculty {} was added to a batch again; stopped reclaiming it", orphan.facultyId());
+                return -1;
+            }
+            deleted += chunk;
+            if (chunk < chunkSize) {
+                break;
+            }
+            TimeUnit.MILLISECONDS.sleep(pauseMs);
+        }
+
+        Boolean removed = transactionTemplate.execute(status -> {
+            if (!facultyReclaimRepository.lockIfOrphan(orphan.id())) {
+                return false;
+            }
+            facultyReclaimRepository.deleteFaculty(orphan.id());
+            return true;
+        });
+        if (!Boolean.TRUE.equals(removed)) {
+            return -1;
+        }
+        facultyCacheInvalidator.facultyRemoved(orphan.id());
+        publicationSearchIndex.removeFaculty(orphan.facultyId());
+        TimeUnit.MILLISECONDS.sleep(pauseMs);
+        return deleted;
+    }
+}
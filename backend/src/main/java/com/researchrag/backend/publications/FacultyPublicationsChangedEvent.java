@@ -0,0 +1,11 @@
+package com.researchrag.backend.publications;
+
+/**
+ * Published when a faculty profile and its publications have been written. Listeners that maintain
+ * derived data (search index, caches) react after the surrounding transaction commits.
+ *
+ * @param facultyPk primary key of the {@link Faculty} row
+ * @param facultyId external faculty identifier
+ */
+public record FacultyPublicationsChangedEvent(Long facultyPk, String facultyId) {
+}
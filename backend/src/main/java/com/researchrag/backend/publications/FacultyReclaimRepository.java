@@ -0,0 +1,60 @@
+package com.researchrag.backend.publications;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * JDBC access for removing faculty that no longer belong to any upload batch.
+ * Every statement re-checks the orphan condition, so a faculty re-linked by a concurrent upload is left alone.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FacultyReclaimRepository {
+
+    /** Primary key and business id of an orphaned faculty. */
+    record OrphanFaculty(long id, String facultyId) {
+    }
+
+    private static final String ORPHAN_CONDITION =
+            "NOT EXISTS (SELECT 1 FROM faculty_batch_association a WHERE a.faculty_id = f.id)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<OrphanFaculty> findOrphans(int limit) {
+        return jdbcTemplate.query("SELECT f.id, f.faculty_id FROM faculty f WHERE " + ORPHAN_CONDITION + " ORDER BY f.id LIMIT ?",
+                (rs, rowNum) -> new OrphanFaculty(rs.getLong("id"), rs.getString("faculty_id")), limit);
+    }
+
+    /**
+     * Locks the faculty row if it is still orphaned and clears its content hash, so a re-upload racing with the
+     * reclaimer rewrites every publication instead of trusting an unchanged hash. Returns false if it was re-linked.
+     */
+    public boolean lockIfOrphan(long facultyPk) {
+        List<Long> locked = jdbcTemplate.queryForList(
+                "SELECT f.id FROM faculty f WHERE f.id = ? AND " + ORPHAN_CONDITION + " FOR UPDATE", Long.class, facultyPk);
+        if (locked.isEmpty()) {
+            return false;
+        }
+        jdbcTemplate.update("UPDATE faculty SET content_hash = NULL WHERE id = ?", facultyPk);
+        return true;
+    }
+
+    /**
+     * Deletes up to {@code limit} publications of the faculty; publication_author rows go with them via the cascade.
+     */
+    public int deletePublicationChunk(long facultyPk, int limit) {
+        return jdbcTemplate.update("DELETE FROM publication WHERE faculty_id = ? LIMIT ?", facultyPk, limit);
+    }
+
+    /**
+     * Deletes the faculty row itself. Analytics, summary cache and association rows cascade; authors keep
+     * their publications from other faculty and just lose the faculty link.
+     */
+    public void deleteFaculty(long facultyPk) {
+        jdbcTemplate.update("DELETE FROM faculty_interests WHERE faculty_id = ?", facultyPk);
+        jdbcTemplate.update("DELETE FROM faculty WHERE id = ?", facultyPk);
+    }
+}
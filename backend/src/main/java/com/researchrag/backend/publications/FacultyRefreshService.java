@@ -0,0 +1,234 @@
+package com.researchrag.backend.publications;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Periodically re-scrapes faculty whose profile has not been fetched for a while, so citation counts stay
+ * current without re-uploading the faculty list. Stale faculty are sent to the Python service in small
+ * batches, a bounded number in parallel and spaced out by a minimum interval, and each returned profile
+ * is applied as a delta by {@link PublicationsService#saveFacultyProfile}.
+ */
+@Service
+public class FacultyRefreshService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultyRefreshService.class);
+    private static final String LOCK_KEY = "publications:refresh:lock";
+
+    private final WebClient webClient;
+    private final FacultyRepository facultyRepository;
+    private final PublicationsService publicationsService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor facultyRefreshExecutor;
+
+    // Earliest time (System.nanoTime) the next scrape request may be sent; shared by all refresh threads
+    private long nextRequestAt = System.nanoTime();
+
+    @Value("${rag.service.base-url:http://localhost:8000}")
+    private String pythonApiUrl;
+
+    @Value("${publications.refresh.enabled:false}")
+    private boolean enabled;
+
+    @Value("${publications.refresh.stale-after-hours:168}")
+    private long staleAfterHours;
+
+    @Value("${publications.refresh.max-per-run:500}")
+    private int maxPerRun;
+
+    @Value("${publications.refresh.batch-size:10}")
+    private int batchSize;
+
+    @Value("${publications.refresh.min-request-interval-ms:5000}")
+    private long minRequestIntervalMs;
+
+    @Value("${publications.refresh.articles-limit:0}")
+    private int articlesLimit;
+
+    @Value("${publications.refresh.request-timeout-minutes:10}")
+    private long requestTimeoutMinutes;
+
+    @Value("${publications.refresh.lock-ttl-minutes:180}")
+    private long lockTtlMinutes;
+
+    public FacultyRefreshService(WebClient.Builder webClientBuilder, FacultyRepository facultyRepository,
+                                 PublicationsService publicationsService, RedisTemplate<String, String> redisTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("facultyRefreshExecutor") ThreadPoolTaskExecutor facultyRefreshExecutor) {
+        this.webClient = webClientBuilder.build();
+        this.facultyRepository = facultyRepository;
+        this.publicationsService = publicationsService;
+        this.redisTemplate = redisTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.facultyRefreshExecutor = facultyRefreshExecutor;
+    }
+
+    /**
+     * Refreshes up to {@code max-per-run} stale faculty. A Redis lock keeps concurrent runs on other nodes
+     * from scraping the same profiles twice.
+     */
+    @Scheduled(cron = "${publications.refresh.cron:0 0 2 * * *}")
+    public void refreshStaleFaculty() {
+        if (!enabled) {
+            return;
+        }
+        String lockToken = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, lockToken, lockTtlMinutes, TimeUnit.MINUTES);
+        if (!Boolean.TRUE.equals(acquired)) {
+            logger.info("Faculty refresh is already running on another node; skipping this run");
+            return;
+        }
+        try {
+            runRefresh();
+        } finally {
+            if (lockToken.equals(redisTemplate.opsForValue().get(LOCK_KEY))) {
+                redisTemplate.delete(LOCK_KEY);
+            }
+        }
+    }
+
+    private void runRefresh() {
+        LocalDateTime cutoff = LocalDateTime.now().minusHours(staleAfterHours);
+        List<Faculty> stale = facultyRepository.findStale(cutoff, PageRequest.of(0, maxPerRun));
+        if (stale.isEmpty()) {
+            logger.info("No faculty profiles older than {} hours; nothing to refresh", staleAfterHours);
+            return;
+        }
+        logger.info("Refreshing {} stale faculty profiles in batches of {}", stale.size(), batchSize);
+
+        AtomicInteger refreshed = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        for (int from = 0; from < stale.size(); from += batchSize) {
+            List<Faculty> batch = stale.subList(from, Math.min(from + batchSize, stale.size()));
+            batches.add(CompletableFuture.runAsync(() -> refreshBatch(batch, refreshed, failed), facultyRefreshExecutor));
+        }
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+        logger.info("Faculty refresh finished: {} profiles applied, {} failed, {} requested",
+                refreshed.get(), failed.get(), stale.size());
+    }
+
+    private void refreshBatch(List<Faculty> batch, AtomicInteger refreshed, AtomicInteger failed) {
+        JsonNode responseNode;
+        try {
+            awaitRequestSlot();
+            responseNode = fetchFacultyData(toFacultyList(batch));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            logger.error("Refresh scrape failed for {} faculty: {}", batch.size(), e.getMessage(), e);
+            failed.addAndGet(batch.size());
+            return;
+        }
+        if (responseNode == null || !responseNode.isArray()) {
+            failed.addAndGet(batch.size());
+            return;
+        }
+        // Profiles the scraper could not find are left stale and retried on the next run
+        failed.addAndGet(batch.size() - responseNode.size());
+        for (JsonNode facultyData : responseNode) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> publicationsService.saveFacultyProfile(facultyData, null));
+                refreshed.incrementAndGet();
+            } catch (Exception e) {
+                logger.error("Failed to apply refreshed profile for faculty {}: {}",
+                        facultyData.path("faculty_id").asText(), e.getMessage(), e);
+                failed.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Blocks until at least {@code min-request-interval-ms} has passed since the previous scrape request,
+     * so parallel batches do not hit Google Scholar in bursts.
+     */
+    private void awaitRequestSlot() throws InterruptedException {
+        long sendAt;
+        synchronized (this) {
+            sendAt = Math.max(nextRequestAt, System.nanoTime());
+            nextRequestAt = sendAt + TimeUnit.MILLISECONDS.toNanos(minRequestIntervalMs);
+        }
+        long waitNanos = sendAt - System.nanoTime();
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private JsonNode fetchFacultyData(byte[] facultyList) {
+        MultipartBodyBuilder builder = new MultipartBodyBuilder();
+        builder.part("file", new ByteArrayResource(facultyList) {
+            @Override
+            public String getFilename() {
+                return "faculty-refresh.xlsx";
+            }
+        });
+        if (articlesLimit > 0) {
+            builder.part("articles_limit", String.valueOf(articlesLimit));
+        }
+
+        return webClient.post()
+                .uri(pythonApiUrl + "/publications/upload")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .bodyValue(builder.build())
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(Duration.ofMinutes(requestTimeoutMinutes))
+                .block();
+    }
+
+    /**
+     * The same sheet layout a user uploads (id, name, university), plus the known Scholar id so the
+     * scraper can skip the author search.
+     */
+    private static byte[] toFacultyList(List<Faculty> batch) throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            Sheet sheet = workbook.createSheet("Faculty");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("id");
+            header.createCell(1).setCellValue("name");
+            header.createCell(2).setCellValue("university");
+            header.createCell(3).setCellValue("scholar_id");
+            int rowNum = 1;
+            for (Faculty faculty : batch) {
+                Row row = sheet.createRow(rowNum++);
+                row.createCell(0).setCellValue(faculty.getFacultyId());
+                row.createCell(1).setCellValue(faculty.getName());
+                row.createCell(2).setCellValue(faculty.getAffiliations() != null ? faculty.getAffiliations() : "");
+                if (faculty.getGoogleScholarId() != null) {
+                    row.createCell(3).setCellValue(faculty.getGoogleScholarId());
+                }
+            }
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}
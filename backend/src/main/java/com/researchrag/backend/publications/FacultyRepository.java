@@ -1,18 +1,43 @@
 
 package com.researchrag.backend.publications;
 
+import com.researchrag.backend.common.web.ChangeStamp;
+import com.researchrag.backend.publications.dto.FacultySummaryDto;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface FacultyRepository extends JpaRepository<Faculty, Long> {
-    Optional<Faculty> findByFacultyId(String facultyId);
+public interface FacultyRepository extends JpaRepository<Faculty, Long>, FacultyRepositoryCustom {
+
+    @Query("SELECT f.id FROM Faculty f WHERE f.facultyId = :facultyId")
+    Optional<Long> findIdByFacultyId(@Param("facultyId") String facultyId);
 
     @Query("SELECT f FROM Faculty f JOIN f.batchAssociations ba WHERE ba.batch.id = :batchId")
     List<Faculty> findByBatchId(@Param("batchId") Long batchId);
+
+    @Query("SELECT f.facultyId FROM FacultyBatchAssociation ba JOIN ba.faculty f WHERE ba.batch.id = :batchId ORDER BY f.name, f.facultyId")
+    List<String> findFacultyIdsByBatchId(@Param("batchId") Long batchId);
+
+    @Query("SELECT new com.researchrag.backend.publications.dto.FacultySummaryDto(f.facultyId, f.name, COUNT(p.id)) " +
+           "FROM FacultyBatchAssociation ba JOIN ba.faculty f LEFT JOIN f.publications p " +
+           "WHERE ba.batch.id = :batchId " +
+           "GROUP BY f.id, f.facultyId, f.name")
+    List<FacultySummaryDto> findSummariesByBatchId(@Param("batchId") Long batchId);
+
+    @Query("SELECT new com.researchrag.backend.common.web.ChangeStamp(COUNT(ba.id), COALESCE(MAX(ba.id), 0), COALESCE(SUM(f.version), 0)) " +
+           "FROM FacultyBatchAssociation ba JOIN ba.faculty f WHERE ba.batch.id = :batchId")
+    ChangeStamp findChangeStampByBatchId(@Param("batchId") Long batchId);
+
+    /**
+     * Faculty not fetched since {@code cutoff}, never-fetched ones first and then oldest first.
+     */
+    @Query("SELECT f FROM Faculty f WHERE f.lastFetchedAt IS NULL OR f.lastFetchedAt < :cutoff ORDER BY f.lastFetchedAt ASC, f.id ASC")
+    List<Faculty> findStale(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
 }
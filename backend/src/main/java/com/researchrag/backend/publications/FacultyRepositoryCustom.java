@@ -0,0 +1,24 @@
+package com.researchrag.backend.publications;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface FacultyRepositoryCustom {
+
+    /**
+     * Looks the faculty up by its natural id, so repeated reads are served from the second-level cache
+     * instead of running a query. Replaces the derived query Spring Data would otherwise generate.
+     */
+    Optional<Faculty> findByFacultyId(String facultyId);
+
+    /**
+     * Stores a generated summary with plain JDBC. A bulk JPQL update would make Hibernate drop the whole
+     * faculty cache region, so callers evict just this faculty through {@link FacultyCacheInvalidator}.
+     */
+    void updateSummary(Long id, String summary);
+
+    /**
+     * Records a fetch that changed nothing. Leaves the version alone so the profile's ETag stays valid.
+     */
+    void markFetched(Long id, LocalDateTime fetchedAt);
+}
@@ -0,0 +1,34 @@
+package com.researchrag.backend.publications;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class FacultyRepositoryImpl implements FacultyRepositoryCustom {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Faculty> findByFacultyId(String facultyId) {
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(Faculty.class).loadOptional(facultyId);
+    }
+
+    @Override
+    public void updateSummary(Long id, String summary) {
+        jdbcTemplate.update("UPDATE faculty SET summary = ?, version = version + 1 WHERE id = ?", summary, id);
+    }
+
+    @Override
+    public void markFetched(Long id, LocalDateTime fetchedAt) {
+        jdbcTemplate.update("UPDATE faculty SET last_fetched_at = ? WHERE id = ?", fetchedAt, id);
+    }
+}
@@ -0,0 +1,42 @@
+package com.researchrag.backend.publications;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(name = "faculty_summary_cache",
+        uniqueConstraints = @UniqueConstraint(name = "uk_summary_cache_faculty_range", columnNames = {"faculty_id", "from_year", "to_year"}))
+public class FacultySummaryCache {
+
+    /** Stored in place of a missing year bound. */
+    public static final int OPEN_BOUND = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "faculty_id", nullable = false)
+    private Faculty faculty;
+
+    @Column(name = "from_year", nullable = false)
+    private int fromYear;
+
+    @Column(name = "to_year", nullable = false)
+    private int toYear;
+
+    @Column(nullable = false, columnDefinition = "CHAR(64)")
+    private String fingerprint;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String summary;
+
+    @Column(nullable = false)
+    private int publicationCount;
+
+    @Column(nullable = false)
+    private LocalDateTime generatedAt;
+}
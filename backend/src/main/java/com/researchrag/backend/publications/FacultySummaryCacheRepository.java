@@ -0,0 +1,34 @@
+package com.researchrag.backend.publications;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface FacultySummaryCacheRepository extends JpaRepository<FacultySummaryCache, Long> {
+
+    @Query("SELECT c.summary FROM FacultySummaryCache c " +
+           "WHERE c.faculty.id = :facultyId AND c.fromYear = :fromYear AND c.toYear = :toYear AND c.fingerprint = :fingerprint")
+    Optional<String> findSummary(@Param("facultyId") Long facultyId, @Param("fromYear") int fromYear,
+                                 @Param("toYear") int toYear, @Param("fingerprint") String fingerprint);
+
+    // Declares the touched table, otherwise Hibernate clears every second-level cache region after a native update
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "faculty_summary_cache"))
+    @Query(value = "INSERT INTO faculty_summary_cache (faculty_id, from_year, to_year, fingerprint, summary, publication_count, generated_at) " +
+                   "VALUES (:facultyId, :fromYear, :toYear, :fingerprint, :summary, :publicationCount, :generatedAt) " +
+                   "ON DUPLICATE KEY UPDATE fingerprint = VALUES(fingerprint), summary = VALUES(summary), " +
+                   "publication_count = VALUES(publication_count), generated_at = VALUES(generated_at)",
+           nativeQuery = true)
+    void upsert(@Param("facultyId") Long facultyId, @Param("fromYear") int fromYear, @Param("toYear") int toYear,
+                @Param("fingerprint") String fingerprint, @Param("summary") String summary,
+                @Param("publicationCount") int publicationCount, @Param("generatedAt") LocalDateTime generatedAt);
+}
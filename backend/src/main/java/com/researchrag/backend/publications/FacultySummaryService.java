@@ -0,0 +1,292 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.common.exception.TooManyRequestsException;
+import com.researchrag.backend.publications.dto.PublicationDto;
+import com.researchrag.backend.publications.dto.PythonSummarizationRequest;
+import com.researchrag.backend.publications.dto.PythonSummarizationResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves LLM faculty summaries from {@code faculty_summary_cache} while the fingerprint of the publications
+ * in the requested year range is unchanged. Misses call the Python service outside any transaction, and
+ * concurrent requests for the same summary on this node share a single call. All LLM calls on this node,
+ * interactive or from batch jobs, draw from one permit pool.
+ */
+@Service
+public class FacultySummaryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FacultySummaryService.class);
+    static final String SUMMARY_FAILED = "Failed to generate summary.";
+
+    private final WebClient webClient;
+    private final FacultyRepository facultyRepository;
+    private final PublicationRepository publicationRepository;
+    private final FacultySummaryCacheRepository facultySummaryCacheRepository;
+    private final FacultyCacheInvalidator facultyCacheInvalidator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ConcurrentMap<SummaryKey, Computation> inFlight = new ConcurrentHashMap<>();
+    // Summaries being generated by batch workers, by worker thread, so a cancelled job can interrupt them
+    private final ConcurrentMap<Thread, Computation> batchComputations = new ConcurrentHashMap<>();
+    private final Semaphore llmPermits;
+
+    @Value("${rag.service.base-url:http://localhost:8000}")
+    private String pythonApiUrl;
+
+    @Value("${rag.summary.llm-permit-timeout-seconds:30}")
+    private long llmPermitTimeoutSeconds;
+
+    public FacultySummaryService(WebClient.Builder webClientBuilder, FacultyRepository facultyRepository,
+                                 PublicationRepository publicationRepository,
+                                 FacultySummaryCacheRepository facultySummaryCacheRepository,
+                                 FacultyCacheInvalidator facultyCacheInvalidator,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${rag.summary.max-concurrent-llm-calls:4}") int maxConcurrentLlmCalls) {
+        this.llmPermits = new Semaphore(maxConcurrentLlmCalls, true);
+        this.webClient = webClientBuilder.build();
+        this.facultyRepository = facultyRepository;
+        this.publicationRepository = publicationRepository;
+        this.facultySummaryCacheRepository = facultySummaryCacheRepository;
+        this.facultyCacheInvalidator = facultyCacheInvalidator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public String getSummary(String facultyId, Integer fromYear, Integer toYear) {
+        return getSummary(facultyId, fromYear, toYear, true);
+    }
+
+    /**
+     * Batch variant: waits for an LLM permit as long as needed (until interrupted) instead of failing with 429.
+     */
+    public String getSummaryForBatch(String facultyId, Integer fromYear, Integer toYear) {
+        return getSummary(facultyId, fromYear, toYear, false);
+    }
+
+    private String getSummary(String facultyId, Integer fromYear, Integer toYear, boolean interactive) {
+        Lookup lookup = readOnlyTransactionTemplate.execute(status -> lookup(facultyId, fromYear, toYear));
+        if (lookup.cachedSummary().isPresent()) {
+            return lookup.cachedSummary().get();
+        }
+
+        Computation computation = new Computation();
+        while (true) {
+            Computation existing = inFlight.putIfAbsent(lookup.key(), computation);
+            if (existing == null) {
+                break;
+            }
+            if (existing.tryJoin()) {
+                logger.debug("Joining in-flight summary for faculty {} ({} - {})", facultyId, fromYear, toYear);
+                return join(existing.future);
+            }
+            // Its batch job was cancelled and is abandoning it; generate the summary here instead
+            if (inFlight.replace(lookup.key(), existing, computation)) {
+                break;
+            }
+        }
+
+        if (!interactive) {
+            batchComputations.put(Thread.currentThread(), computation);
+        }
+        try {
+            String summary = generate(lookup, fromYear, toYear, interactive);
+            computation.future.complete(summary);
+            return summary;
+        } catch (RuntimeException e) {
+            computation.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            if (!interactive) {
+                // Under the computation's lock, so interruptBatchSummary cannot interrupt this thread once it moved on
+                synchronized (computation) {
+                    batchComputations.remove(Thread.currentThread());
+                }
+            }
+            inFlight.remove(lookup.key(), computation);
+        }
+    }
+
+    /**
+     * Interrupts the batch summary {@code worker} is generating, unless another caller joined it: that summary is
+     * still wanted, so it runs to completion.
+     *
+     * @return whether the worker was interrupted
+     */
+    boolean interruptBatchSummary(Thread worker) {
+        Computation computation = batchComputations.get(worker);
+        if (computation == null) {
+            return false;
+        }
+        synchronized (computation) {
+            if (batchComputations.get(worker) != computation || !computation.abandonIfUnjoined()) {
+                return false;
+            }
+            worker.interrupt();
+            return true;
+        }
+    }
+
+    private Lookup lookup(String facultyId, Integer fromYear, Integer toYear) {
+        Faculty faculty = facultyRepository.findByFacultyId(facultyId)
+                .orElseThrow(() -> new RuntimeException("Faculty not found"));
+        List<String> entries = publicationRepository.findFingerprintEntries(faculty.getId(), fromYear, toYear);
+        SummaryKey key = new SummaryKey(faculty.getId(), bound(fromYear), bound(toYear), fingerprint(faculty.getName(), entries));
+        Optional<String> cached = facultySummaryCacheRepository.findSummary(key.facultyPk(), key.fromYear(), key.toYear(), key.fingerprint());
+        return new Lookup(key, faculty.getName(), cached);
+    }
+
+    private String generate(Lookup lookup, Integer fromYear, Integer toYear, boolean interactive) {
+        SummaryKey key = lookup.key();
+        List<PublicationDto> publications = readOnlyTransactionTemplate.execute(status ->
+                publicationRepository.findInYearRange(key.facultyPk(), fromYear, toYear));
+
+        PythonSummarizationRequest request = PythonSummarizationRequest.builder()
+                .name(lookup.facultyName())
+                .publications(publications)
+                .from_year(fromYear)
+                .to_year(toYear)
+                .build();
+
+        acquireLlmPermit(interactive);
+        PythonSummarizationResponse pythonResponse;
+        try {
+            pythonResponse = webClient.post()
+                    .uri(pythonApiUrl + "/publications/summarize")
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(PythonSummarizationResponse.class)
+                    .timeout(Duration.ofMinutes(2))
+                    .block();
+        } catch (WebClientResponseException e) {
+            logger.error("Error from Python summarization service: Status {}, Body {}", e.getRawStatusCode(), e.getResponseBodyAsString());
+            throw new RuntimeException("The summarization service failed to process the request. Details: " + e.getResponseBodyAsString());
+        } catch (Exception e) {
+            logger.error("An unexpected error occurred during summarization for faculty {}: {}", key.facultyPk(), e.getMessage());
+            throw new RuntimeException("An unexpected error occurred while generating the summary.");
+        } finally {
+            llmPermits.release();
+        }
+
+        if (pythonResponse == null || pythonResponse.getSummary() == null) {
+            return SUMMARY_FAILED;
+        }
+
+        String summary = pythonResponse.getSummary();
+        transactionTemplate.executeWithoutResult(status -> {
+            facultySummaryCacheRepository.upsert(key.facultyPk(), key.fromYear(), key.toYear(), key.fingerprint(),
+                    summary, publications.size(), LocalDateTime.now());
+            storeSummary(key.facultyPk(), summary);
+        });
+        return summary;
+    }
+
+    /**
+     * Keeps the latest summary on the faculty row. Expected to run inside the caller's transaction.
+     */
+    void storeSummary(Long facultyPk, String summary) {
+        facultyRepository.updateSummary(facultyPk, summary);
+        facultyCacheInvalidator.facultyChanged(facultyPk, false);
+    }
+
+    private void acquireLlmPermit(boolean interactive) {
+        try {
+            if (!interactive) {
+                llmPermits.acquire();
+            } else if (!llmPermits.tryAcquire(llmPermitTimeoutSeconds, TimeUnit.SECONDS)) {
+                throw new TooManyRequestsException("The summarization service is busy. Please retry later.", llmPermitTimeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting to generate the summary.");
+        }
+    }
+
+    /**
+     * SHA-256 over the faculty name and the sorted "dedupHash:citations" entries, so any added, removed
+     * or re-cited publication in the range produces a new fingerprint.
+     */
+    static String fingerprint(String facultyName, List<String> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(String.valueOf(facultyName).getBytes(StandardCharsets.UTF_8));
+            for (String entry : entries) {
+                digest.update((byte) '\n');
+                digest.update(entry.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static int bound(Integer year) {
+        return year != null ? year : FacultySummaryCache.OPEN_BOUND;
+    }
+
+    private static String join(CompletableFuture<String> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * A summary being generated, with the number of other callers waiting for it; guarded by its own monitor.
+     * An abandoned computation accepts no more callers, as its thread has been interrupted.
+     */
+    private static final class Computation {
+
+        private final CompletableFuture<String> future = new CompletableFuture<>();
+        private int joiners;
+        private boolean abandoned;
+
+        synchronized boolean tryJoin() {
+            if (abandoned) {
+                return false;
+            }
+            joiners++;
+            return true;
+        }
+
+        synchronized boolean abandonIfUnjoined() {
+            if (joiners > 0) {
+                return false;
+            }
+            abandoned = true;
+            return true;
+        }
+    }
+
+    private record SummaryKey(Long facultyPk, int fromYear, int toYear, String fingerprint) {
+    }
+
+    private record Lookup(SummaryKey key, String facultyName, Optional<String> cachedSummary) {
+    }
+}
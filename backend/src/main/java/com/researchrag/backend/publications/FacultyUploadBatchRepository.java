@@ -1,12 +1,40 @@
 package com.researchrag.backend.publications;
 
+import com.researchrag.backend.common.web.ChangeStamp;
+import com.researchrag.backend.publications.dto.FacultyUploadBatchDto;
 import com.researchrag.backend.userapi.user.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface FacultyUploadBatchRepository extends JpaRepository<FacultyUploadBatch, Long> {
     List<FacultyUploadBatch> findByUserOrderByUploadDateDesc(User user);
+
+    @Query("SELECT new com.researchrag.backend.publications.dto.FacultyUploadBatchDto(b.id, b.fileName, b.uploadDate, COUNT(a.id)) " +
+           "FROM FacultyUploadBatch b LEFT JOIN b.batchAssociations a " +
+           "WHERE b.user = :user " +
+           "GROUP BY b.id, b.fileName, b.uploadDate " +
+           "ORDER BY b.uploadDate DESC")
+    List<FacultyUploadBatchDto> findBatchSummariesByUser(@Param("user") User user);
+
+    @Query("SELECT new com.researchrag.backend.common.web.ChangeStamp(COUNT(DISTINCT b.id), COALESCE(MAX(b.id), 0), COUNT(a.id)) " +
+           "FROM FacultyUploadBatch b LEFT JOIN b.batchAssociations a WHERE b.user = :user")
+    ChangeStamp findChangeStampByUser(@Param("user") User user);
+
+    @Query("SELECT b.user.id FROM FacultyUploadBatch b WHERE b.id = :batchId")
+    Optional<Integer> findOwnerIdById(@Param("batchId") Long batchId);
+
+    /**
+     * Set-based delete that leaves the association rows to the ON DELETE CASCADE on faculty_batch_association;
+     * faculty left without a batch are removed later by {@link FacultyOrphanReclaimer}.
+     */
+    @Modifying
+    @Query("DELETE FROM FacultyUploadBatch b WHERE b.id = :batchId")
+    int deleteBatchById(@Param("batchId") Long batchId);
 }
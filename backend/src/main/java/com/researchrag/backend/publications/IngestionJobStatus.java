@@ -0,0 +1,8 @@
+package com.researchrag.backend.publications;
+
+public enum IngestionJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -4,11 +4,24 @@ package com.researchrag.backend.publications;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.regex.Pattern;
 
 @Entity
 @Data
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publication")
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_publication_faculty_hash", columnNames = {"faculty_id", "dedup_hash"}))
 public class Publication {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -28,8 +41,28 @@ public class Publication {
     @Column(length = 1000)
     private String link;
 
+    // SHA-256 of the normalized (title, year); unique per faculty
+    @Column(name = "dedup_hash", length = 64, nullable = false, columnDefinition = "CHAR(64)")
+    @JsonIgnore
+    private String dedupHash;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "faculty_id", nullable = false)
     @JsonIgnore
     private Faculty faculty;
+
+    /**
+     * Dedup key for a publication. Stored hashes were last recomputed by V12__Recompute_Publication_Dedup_Hash,
+     * which keeps its own copy of this normalization; changing it needs another such migration with its own copy.
+     */
+    public static String dedupHash(String title, Integer year) {
+        String normalizedTitle = title == null ? "" : WHITESPACE.matcher(title).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        String key = normalizedTitle + "|" + (year == null ? 0 : year);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -1,9 +1,45 @@
-
 package com.researchrag.backend.publications;
 
+import com.researchrag.backend.publications.dto.PublicationDto;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
-public interface PublicationRepository extends JpaRepository<Publication, Long> {
+public interface PublicationRepository extends JpaRepository<Publication, Long>, PublicationRepositoryCustom {
+
+    /**
+     * Streams a faculty's publications as unmanaged DTOs for exports. The MIN_VALUE fetch size makes MySQL
+     * Connector/J stream rows one by one instead of buffering the whole result; must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.researchrag.backend.publications.dto.PublicationDto(p.title, p.authors, p.publicationSource, p.year, p.citations, p.link) " +
+            "FROM Publication p WHERE p.faculty.id = :facultyId ORDER BY p.year DESC, p.id DESC")
+    Stream<PublicationDto> streamByFacultyId(@Param("facultyId") Long facultyId);
+
+    @Query("SELECT new com.researchrag.backend.publications.dto.PublicationDto(p.title, p.authors, p.publicationSource, p.year, p.citations, p.link) " +
+            "FROM Publication p WHERE p.faculty.id = :facultyId " +
+            "AND (:fromYear IS NULL OR p.year >= :fromYear) AND (:toYear IS NULL OR p.year <= :toYear)")
+    List<PublicationDto> findInYearRange(@Param("facultyId") Long facultyId, @Param("fromYear") Integer fromYear,
+                                         @Param("toYear") Integer toYear);
+
+    /**
+     * One "dedupHash:citations" entry per publication in the range, in a stable order, for summary fingerprints.
+     */
+    @Query("SELECT CONCAT(p.dedupHash, ':', CAST(COALESCE(p.citations, 0) AS String)) FROM Publication p " +
+            "WHERE p.faculty.id = :facultyId " +
+            "AND (:fromYear IS NULL OR p.year >= :fromYear) AND (:toYear IS NULL OR p.year <= :toYear) " +
+            "ORDER BY p.dedupHash")
+    List<String> findFingerprintEntries(@Param("facultyId") Long facultyId, @Param("fromYear") Integer fromYear,
+                                        @Param("toYear") Integer toYear);
 }
@@ -0,0 +1,21 @@
+package com.researchrag.backend.publications;
+
+import java.util.List;
+
+public interface PublicationRepositoryCustom {
+
+    /**
+     * Inserts the given publications for a faculty as JDBC batches. Rows that already exist
+     * (same faculty and dedup hash) keep their identity and only get their citation count refreshed.
+     */
+    void upsertAll(Long facultyId, List<Publication> publications);
+
+    /**
+     * One page of a faculty's publications, filtered and sorted in the database with {@code id} as tie-breaker.
+     * When {@code after} is given the page starts right after that keyset position and {@code offset} is ignored.
+     */
+    List<Publication> findArticles(Long facultyId, ArticleFilter filter, ArticleSortField sort, boolean ascending,
+                                   ArticleCursor after, int offset, int limit);
+
+    long countArticles(Long facultyId, ArticleFilter filter);
+}
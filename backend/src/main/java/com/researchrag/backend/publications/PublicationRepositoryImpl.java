@@ -0,0 +1,118 @@
+package com.researchrag.backend.publications;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class PublicationRepositoryImpl implements PublicationRepositoryCustom {
+
+    private static final int BATCH_SIZE = 500;
+
+    // VALUES() rather than the row-alias syntax so Connector/J can still rewrite the batch into multi-row inserts
+    private static final String UPSERT_SQL =
+            "INSERT INTO publication (faculty_id, dedup_hash, title, authors, publication_source, year, citations, link) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE citations = VALUES(citations)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public void upsertAll(Long facultyId, List<Publication> publications) {
+        if (publications.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_SQL, publications, BATCH_SIZE, (ps, publication) -> {
+            ps.setLong(1, facultyId);
+            ps.setString(2, publication.getDedupHash());
+            ps.setString(3, publication.getTitle());
+            ps.setString(4, publication.getAuthors());
+            ps.setString(5, publication.getPublicationSource());
+            ps.setInt(6, publication.getYear());
+            ps.setInt(7, publication.getCitations());
+            ps.setString(8, publication.getLink());
+        });
+    }
+
+    @Override
+    public List<Publication> findArticles(Long facultyId, ArticleFilter filter, ArticleSortField sort, boolean ascending,
+                                          ArticleCursor after, int offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Publication> query = cb.createQuery(Publication.class);
+        Root<Publication> publication = query.from(Publication.class);
+
+        List<Predicate> predicates = filterPredicates(cb, publication, facultyId, filter);
+        Expression<Comparable<Object>> sortKey = publication.get(sort.getAttribute());
+        Expression<Long> id = publication.get("id");
+        if (after != null) {
+            predicates.add(after(cb, sortKey, id, after, ascending));
+        }
+
+        query.select(publication)
+                .where(predicates.toArray(new Predicate[0]))
+                .orderBy(ascending ? cb.asc(sortKey) : cb.desc(sortKey), ascending ? cb.asc(id) : cb.desc(id));
+
+        TypedQuery<Publication> typedQuery = entityManager.createQuery(query).setMaxResults(limit);
+        if (after == null) {
+            typedQuery.setFirstResult(offset);
+        }
+        return typedQuery.getResultList();
+    }
+
+    /**
+     * Rows after the cursor in (sort key, id) order. NULL sort keys sort lowest, as MySQL orders them: first when
+     * ascending, last when descending. Plain comparisons never match NULL, so those rows are handled explicitly.
+     */
+    private static Predicate after(CriteriaBuilder cb, Expression<Comparable<Object>> sortKey, Expression<Long> id,
+                                   ArticleCursor after, boolean ascending) {
+        @SuppressWarnings("unchecked")
+        Comparable<Object> lastValue = (Comparable<Object>) after.typedValue();
+        if (lastValue == null) {
+            Predicate sameKey = cb.and(cb.isNull(sortKey), ascending ? cb.greaterThan(id, after.id()) : cb.lessThan(id, after.id()));
+            return ascending ? cb.or(sameKey, cb.isNotNull(sortKey)) : sameKey;
+        }
+        if (ascending) {
+            return cb.or(cb.greaterThan(sortKey, lastValue), cb.and(cb.equal(sortKey, lastValue), cb.greaterThan(id, after.id())));
+        }
+        return cb.or(cb.lessThan(sortKey, lastValue), cb.and(cb.equal(sortKey, lastValue), cb.lessThan(id, after.id())),
+                cb.isNull(sortKey));
+    }
+
+    @Override
+    public long countArticles(Long facultyId, ArticleFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Publication> publication = query.from(Publication.class);
+        query.select(cb.count(publication))
+                .where(filterPredicates(cb, publication, facultyId, filter).toArray(new Predicate[0]));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Publication> publication, Long facultyId, ArticleFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        predicates.add(cb.equal(publication.get("faculty").get("id"), facultyId));
+        if (filter.fromYear() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(publication.get("year"), filter.fromYear()));
+        }
+        if (filter.toYear() != null) {
+            predicates.add(cb.lessThanOrEqualTo(publication.get("year"), filter.toYear()));
+        }
+        if (filter.minCitations() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(publication.get("citations"), filter.minCitations()));
+        }
+        return predicates;
+    }
+}
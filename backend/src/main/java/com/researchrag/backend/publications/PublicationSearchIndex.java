@@ -0,0 +1,530 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import com.researchrag.backend.publications.dto.PublicationSearchHitDto;
+import com.researchrag.backend.publications.dto.PublicationSearchResultDto;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.FeatureField;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.IntPoint;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.FileSystemUtils;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lucene index over publication title, authors and venue. It is derived data: rebuilt from MySQL on startup
+ * and kept current by re-indexing a faculty after each committed ingestion. Every node holds its own index,
+ * so re-indexing is broadcast over the {@link CacheInvalidationBus} and each node reads the faculty back from
+ * MySQL. Ranking is BM25 over the text fields plus a saturating boost on citations.
+ *
+ * <p>The index lives in {@code publications.search.index-dir}, which must not be shared with another running
+ * instance (Lucene locks it); when unset, each instance uses a fresh temporary directory and deletes it on close.
+ *
+ * <p>A rebuild writes a new generation of the index in its own directory and swaps it in once complete, so
+ * searches keep reading the previous generation until then. The index files are closed while the context is stopped (e.g. around a CRaC checkpoint, which cannot
+ * snapshot open files) and rebuilt from MySQL when it starts again.
+ */
+@Component
+public class PublicationSearchIndex implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(PublicationSearchIndex.class);
+
+    static final String ID = "id";
+    static final String FACULTY_ID = "faculty_id";
+    static final String FACULTY_NAME = "faculty_name";
+    static final String TITLE = "title";
+    static final String AUTHORS = "authors";
+    static final String SOURCE = "publication_source";
+    static final String YEAR = "year";
+    static final String CITATIONS = "citations";
+    static final String LINK = "link";
+    static final String FEATURES = "features";
+
+    private static final Map<String, Float> FIELD_WEIGHTS = Map.of(TITLE, 2.0f, AUTHORS, 1.0f, SOURCE, 0.5f);
+    private static final String GENERATION_PREFIX = "generation-";
+    private static final String FACULTY_CHANGED = "publication-index-faculty";
+    private static final String FACULTY_REMOVED = "publication-index-faculty-removed";
+    private static final int FACULTY_LOCK_STRIPES = 16;
+    private static final long REBUILD_STOP_TIMEOUT_MS = 10_000;
+
+    private static final String SELECT_SQL =
+            "SELECT p.id, p.title, p.authors, p.publication_source, p.year, p.citations, p.link, f.faculty_id, f.name " +
+            "FROM publication p JOIN faculty f ON f.id = p.faculty_id";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Path indexPath;
+    private final boolean temporaryIndexPath;
+    private final AtomicLong generations = new AtomicLong();
+    // Serializes writes to the current generation with the swap to a rebuilt one. Held only for IndexWriter
+    // calls, never while reading MySQL
+    private final Object writeLock = new Object();
+    // Keeps the read and the write of one faculty's re-index together, so two re-indexes of the same faculty
+    // cannot apply their rows in the opposite order of reading them
+    private final Object[] facultyLocks = new Object[FACULTY_LOCK_STRIPES];
+    private volatile Generation current;
+    // Faculty written since a rebuild began streaming the table and not yet replayed into it (facultyId to pk,
+    // null when removed); guarded by writeLock
+    private Map<String, Long> changedDuringRebuild;
+    private volatile boolean open;
+    private volatile boolean ready;
+    private volatile Thread rebuildThread;
+    // Counts stop() calls; a rebuild begun before the latest stop is cancelled, even if the index was started again
+    private volatile long stops;
+
+    @Value("${publications.search.citation-boost:1.0}")
+    private float citationBoost;
+
+    @Value("${publications.search.citation-pivot:50}")
+    private float citationPivot;
+
+    public PublicationSearchIndex(DataSource dataSource, CacheInvalidationBus cacheInvalidationBus,
+                                  @Value("${publications.search.index-dir:}") String indexDir) throws IOException {
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        // Let Connector/J stream rows instead of buffering the full table during a rebuild
+        this.streamingJdbcTemplate.setFetchSize(Integer.MIN_VALUE);
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        for (int i = 0; i < facultyLocks.length; i++) {
+            facultyLocks[i] = new Object();
+        }
+
+        this.temporaryIndexPath = indexDir.isBlank();
+        this.indexPath = temporaryIndexPath ? Files.createTempDirectory("quriosity-publication-index-") : Path.of(indexDir);
+        Files.createDirectories(indexPath);
+        deleteStaleGenerations();
+        openIndex();
+
+        cacheInvalidationBus.register(FACULTY_CHANGED, key -> {
+            int separator = key.indexOf(':');
+            reindexFaculty(Long.valueOf(key.substring(0, separator)), key.substring(separator + 1));
+        });
+        cacheInvalidationBus.register(FACULTY_REMOVED, this::deleteFaculty);
+    }
+
+    /**
+     * One index build: its directory, writer and searchers, opened and closed together.
+     */
+    private record Generation(Path path, Directory directory, IndexWriter writer, SearcherManager searcherManager) {
+
+        static Generation create(Path path, Analyzer analyzer) throws IOException {
+            Directory directory = FSDirectory.open(path);
+            IndexWriterConfig config = new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE)
+                    .setRAMBufferSizeMB(64);
+            IndexWriter writer = new IndexWriter(directory, config);
+            return new Generation(path, directory, writer, new SearcherManager(writer, null));
+        }
+
+        /**
+         * Closes the generation and deletes its files. Searches still holding one of its searchers keep reading
+         * the already open files until they release it.
+         */
+        void discard() {
+            try {
+                searcherManager.close();
+                writer.close();
+                directory.close();
+                FileSystemUtils.deleteRecursively(path);
+            } catch (IOException e) {
+                logger.warn("Failed to discard publication search index {}: {}", path, e.getMessage());
+            }
+        }
+    }
+
+    private Generation newGeneration() throws IOException {
+        return Generation.create(indexPath.resolve(GENERATION_PREFIX + generations.incrementAndGet()), analyzer);
+    }
+
+    /**
+     * Generations left behind by an instance that did not shut down cleanly.
+     */
+    private void deleteStaleGenerations() throws IOException {
+        try (var children = Files.list(indexPath)) {
+            for (Path child : children.filter(path -> path.getFileName().toString().startsWith(GENERATION_PREFIX)).toList()) {
+                FileSystemUtils.deleteRecursively(child);
+            }
+        }
+    }
+
+    private void openIndex() throws IOException {
+        current = newGeneration();
+        open = true;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (open) {
+            return;
+        }
+        try {
+            openIndex();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        // The reopened index is empty, and the data may have changed while the context was stopped
+        rebuildOnStartup();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!open) {
+            return;
+        }
+        open = false;
+        ready = false;
+        // A running rebuild writes to its own generation; cancel it before closing, so it cannot swap in afterwards
+        stops++;
+        Thread rebuild = rebuildThread;
+        if (rebuild != null && rebuild != Thread.currentThread()) {
+            try {
+                // A rebuild stuck in a JDBC call cannot see the cancellation; do not hold up the shutdown for it
+                rebuild.join(REBUILD_STOP_TIMEOUT_MS);
+                if (rebuild.isAlive()) {
+                    logger.warn("Publication search index rebuild did not stop within {} ms; closing the index without it",
+                            REBUILD_STOP_TIMEOUT_MS);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (writeLock) {
+            current.discard();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return open;
+    }
+
+    /**
+     * Starts before and stops after the web server, so requests never see a closed index.
+     */
+    @Override
+    public int getPhase() {
+        return 0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        Thread rebuild = new Thread(this::rebuild, "publication-index-rebuild");
+        rebuild.setDaemon(true);
+        rebuildThread = rebuild;
+        rebuild.start();
+    }
+
+    /**
+     * Re-reads every publication from MySQL into a new generation and swaps it in. Faculty re-indexed by an
+     * ingestion meanwhile are written to both, since the stream may have read them before the ingestion committed.
+     */
+    public void rebuild() {
+        long start = System.nanoTime();
+        long stopsAtStart = stops;
+        Generation building;
+        try {
+            building = newGeneration();
+        } catch (IOException e) {
+            logger.error("Failed to create a publication search index generation: {}", e.getMessage(), e);
+            return;
+        }
+        synchronized (writeLock) {
+            changedDuringRebuild = new LinkedHashMap<>();
+        }
+        try {
+            AtomicLong indexed = new AtomicLong();
+            streamingJdbcTemplate.query(SELECT_SQL, rs -> {
+                if (stops != stopsAtStart) {
+                    throw new CancellationException();
+                }
+                index(building, rs);
+                indexed.incrementAndGet();
+            });
+            building.writer().commit();
+
+            Generation previous;
+            while (true) {
+                Map<String, Long> changed;
+                synchronized (writeLock) {
+                    if (stops != stopsAtStart) {
+                        throw new CancellationException();
+                    }
+                    if (changedDuringRebuild.isEmpty()) {
+                        building.searcherManager().maybeRefresh();
+                        changedDuringRebuild = null;
+                        previous = current;
+                        current = building;
+                        break;
+                    }
+                    changed = changedDuringRebuild;
+                    changedDuringRebuild = new LinkedHashMap<>();
+                }
+                // Re-read outside the lock; faculty changed meanwhile are recorded again and replayed next round
+                for (Map.Entry<String, Long> faculty : changed.entrySet()) {
+                    replace(building, faculty.getKey(), read(faculty.getValue()));
+                }
+            }
+            ready = true;
+            previous.discard();
+            logger.info("Rebuilt publication search index with {} documents in {} ms",
+                    indexed.get(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } catch (Exception e) {
+            synchronized (writeLock) {
+                changedDuringRebuild = null;
+            }
+            building.discard();
+            if (e instanceof CancellationException) {
+                logger.info("Publication search index rebuild cancelled by shutdown");
+            } else {
+                logger.error("Failed to rebuild publication search index: {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * Runs before the commit because the bus defers the broadcast, and with it the local re-index, to after the
+     * commit itself; an after-commit listener runs during transaction completion, when that callback never fires.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onFacultyPublicationsChanged(FacultyPublicationsChangedEvent event) {
+        cacheInvalidationBus.publish(FACULTY_CHANGED, event.facultyPk() + ":" + event.facultyId());
+    }
+
+    /**
+     * Drops the faculty's documents on every node.
+     */
+    public void removeFaculty(String facultyId) {
+        cacheInvalidationBus.publish(FACULTY_REMOVED, facultyId);
+    }
+
+    void reindexFaculty(Long facultyPk, String facultyId) {
+        synchronized (facultyLocks[Math.floorMod(facultyId.hashCode(), facultyLocks.length)]) {
+            List<Document> documents = read(facultyPk);
+            synchronized (writeLock) {
+                replace(current, facultyId, documents);
+                if (changedDuringRebuild != null) {
+                    changedDuringRebuild.put(facultyId, facultyPk);
+                }
+            }
+        }
+    }
+
+    private void deleteFaculty(String facultyId) {
+        reindexFaculty(null, facultyId);
+    }
+
+    /**
+     * The faculty's current documents, or none when {@code facultyPk} is null.
+     */
+    private List<Document> read(Long facultyPk) {
+        if (facultyPk == null) {
+            return List.of();
+        }
+        return streamingJdbcTemplate.query(SELECT_SQL + " WHERE p.faculty_id = ?", (rs, rowNum) -> toDocument(rs), facultyPk);
+    }
+
+    /**
+     * Replaces the faculty's documents in {@code generation}.
+     */
+    private void replace(Generation generation, String facultyId, List<Document> documents) {
+        try {
+            generation.writer().deleteDocuments(new Term(FACULTY_ID, facultyId));
+            for (Document doc : documents) {
+                generation.writer().updateDocument(new Term(ID, doc.get(ID)), doc);
+            }
+            generation.searcherManager().maybeRefresh();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public PublicationSearchResultDto search(String queryText, String facultyId, Integer fromYear, Integer toYear,
+                                             int page, int size) throws IOException {
+        long start = System.nanoTime();
+        Query query = buildQuery(queryText, facultyId, fromYear, toYear);
+
+        Generation generation = current;
+        IndexSearcher searcher;
+        while (true) {
+            try {
+                searcher = generation.searcherManager().acquire();
+                break;
+            } catch (AlreadyClosedException e) {
+                // A rebuild swapped generations between reading current and acquiring; retry on the new one
+                if (generation == current) {
+                    throw e;
+                }
+                generation = current;
+            }
+        }
+        try {
+            TopDocs topDocs = searcher.search(query, (page + 1) * size);
+            StoredFields storedFields = searcher.storedFields();
+            List<PublicationSearchHitDto> hits = new ArrayList<>(size);
+            ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+            for (int i = page * size; i < scoreDocs.length; i++) {
+                hits.add(toHit(storedFields.document(scoreDocs[i].doc), scoreDocs[i].score));
+            }
+            return PublicationSearchResultDto.builder()
+                    .content(hits)
+                    .totalHits(topDocs.totalHits.value)
+                    .totalHitsExact(topDocs.totalHits.relation == TotalHits.Relation.EQUAL_TO)
+                    .page(page)
+                    .size(size)
+                    .indexReady(ready)
+                    .tookMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start))
+                    .build();
+        } finally {
+            generation.searcherManager().release(searcher);
+        }
+    }
+
+    Query buildQuery(String queryText, String facultyId, Integer fromYear, Integer toYear) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, FIELD_WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        Query textQuery = parser.parse(queryText);
+        if (textQuery == null) {
+            throw new IllegalArgumentException("The search query has no searchable terms.");
+        }
+
+        BooleanQuery.Builder builder = new BooleanQuery.Builder()
+                .add(textQuery, BooleanClause.Occur.MUST)
+                .add(FeatureField.newSaturationQuery(FEATURES, CITATIONS, citationBoost, citationPivot), BooleanClause.Occur.SHOULD);
+        if (facultyId != null && !facultyId.isBlank()) {
+            builder.add(new TermQuery(new Term(FACULTY_ID, facultyId)), BooleanClause.Occur.FILTER);
+        }
+        if (fromYear != null || toYear != null) {
+            builder.add(IntPoint.newRangeQuery(YEAR,
+                    fromYear != null ? fromYear : Integer.MIN_VALUE,
+                    toYear != null ? toYear : Integer.MAX_VALUE), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void index(Generation generation, ResultSet rs) throws SQLException {
+        Document doc = toDocument(rs);
+        try {
+            generation.writer().updateDocument(new Term(ID, doc.get(ID)), doc);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Document toDocument(ResultSet rs) throws SQLException {
+        String id = String.valueOf(rs.getLong("id"));
+        Document doc = new Document();
+        doc.add(new StringField(ID, id, Field.Store.YES));
+        doc.add(new StringField(FACULTY_ID, rs.getString("faculty_id"), Field.Store.YES));
+        addStored(doc, FACULTY_NAME, rs.getString("name"));
+        addText(doc, TITLE, rs.getString("title"));
+        addText(doc, AUTHORS, rs.getString("authors"));
+        addText(doc, SOURCE, rs.getString("publication_source"));
+        addStored(doc, LINK, rs.getString("link"));
+
+        int year = rs.getInt("year");
+        if (!rs.wasNull()) {
+            doc.add(new IntPoint(YEAR, year));
+            doc.add(new StoredField(YEAR, year));
+        }
+        int citations = Math.max(0, rs.getInt("citations"));
+        doc.add(new StoredField(CITATIONS, citations));
+        // Feature values must be positive, so shift by one to keep uncited papers in the index
+        doc.add(new FeatureField(FEATURES, CITATIONS, citations + 1f));
+        return doc;
+    }
+
+    private static void addText(Document doc, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            doc.add(new TextField(field, value, Field.Store.YES));
+        }
+    }
+
+    private static void addStored(Document doc, String field, String value) {
+        if (value != null && !value.isEmpty()) {
+            doc.add(new StoredField(field, value));
+        }
+    }
+
+    private static PublicationSearchHitDto toHit(Document doc, float score) {
+        return PublicationSearchHitDto.builder()
+                .id(Long.valueOf(doc.get(ID)))
+                .facultyId(doc.get(FACULTY_ID))
+                .facultyName(doc.get(FACULTY_NAME))
+                .title(doc.get(TITLE))
+                .authors(doc.get(AUTHORS))
+                .publicationSource(doc.get(SOURCE))
+                .year(intValue(doc, YEAR))
+                .citations(intValue(doc, CITATIONS))
+                .link(doc.get(LINK))
+                .score(score)
+                .build();
+    }
+
+    private static Integer intValue(Document doc, String field) {
+        var value = doc.getField(field);
+        return value != null && value.numericValue() != null ? value.numericValue().intValue() : null;
+    }
+
+    @PreDestroy
+    public void close() {
+        stop();
+        analyzer.close();
+        if (temporaryIndexPath) {
+            try {
+                FileSystemUtils.deleteRecursively(indexPath);
+            } catch (IOException e) {
+                logger.warn("Failed to delete the publication search index at {}: {}", indexPath, e.getMessage());
+            }
+        }
+    }
+}
@@ -1,64 +1,98 @@
 
 package com.researchrag.backend.publications;
 
-import com.researchrag.backend.publications.dto.ArticleDto;
+import com.researchrag.backend.common.exception.TooManyRequestsException;
+import com.researchrag.backend.common.web.ChangeStamp;
+import com.researchrag.backend.publications.dto.ArticlePageDto;
+import com.researchrag.backend.publications.dto.FacultyAnalyticsDto;
+import com.researchrag.backend.publications.dto.ArticlePageRequest;
+import com.researchrag.backend.publications.dto.FacultyIngestionJobDto;
 import com.researchrag.backend.publications.dto.FacultyProfileDto;
 import com.researchrag.backend.publications.dto.FacultySummaryDto;
 import com.researchrag.backend.publications.dto.FacultyUploadBatchDto;
+import com.researchrag.backend.publications.dto.PublicationSearchResultDto;
+import com.researchrag.backend.publications.dto.SummarizationJobDto;
 import com.researchrag.backend.userapi.user.User;
-import org.springframework.core.io.InputStreamResource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/publications")
 public class PublicationsController {
 
+    private static final Logger logger = LoggerFactory.getLogger(PublicationsController.class);
+
     private final PublicationsService publicationsService;
+    private final FacultyIngestionService facultyIngestionService;
+    private final BatchExportService batchExportService;
+    private final SummarizationJobService summarizationJobService;
 
-    public PublicationsController(PublicationsService publicationsService) {
+    public PublicationsController(PublicationsService publicationsService, FacultyIngestionService facultyIngestionService,
+                                  BatchExportService batchExportService, SummarizationJobService summarizationJobService) {
         this.publicationsService = publicationsService;
+        this.facultyIngestionService = facultyIngestionService;
+        this.batchExportService = batchExportService;
+        this.summarizationJobService = summarizationJobService;
     }
 
     @PostMapping("/upload")
-    public ResponseEntity<List<FacultySummaryDto>> uploadFacultyList(
+    public ResponseEntity<FacultyIngestionJobDto> uploadFacultyList(
             @RequestParam("file") MultipartFile file,
             @RequestParam(name = "articles_limit", required = false) Integer articlesLimit,
             @AuthenticationPrincipal User user) {
         if (file.isEmpty()) {
             return ResponseEntity.badRequest().build();
         }
+        // Anything else, including TooManyRequestsException, is rendered by GlobalExceptionHandler
         try {
-            List<FacultySummaryDto> processedSummaries = publicationsService.processAndSaveFacultyData(file, user, articlesLimit);
-            return ResponseEntity.ok(processedSummaries);
-        } catch (Exception e) {
-            e.printStackTrace();
+            FacultyIngestionJobDto job = facultyIngestionService.startIngestion(file, user, articlesLimit);
+            return ResponseEntity.accepted().body(job);
+        } catch (IOException e) {
+            logger.error("IOException while storing faculty list upload: " + e.getMessage(), e);
             return ResponseEntity.internalServerError().build();
         }
     }
 
+    @GetMapping("/upload/jobs/{jobId}")
+    public ResponseEntity<FacultyIngestionJobDto> getIngestionJob(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(facultyIngestionService.getJob(jobId, user));
+    }
+
     @GetMapping("/batches")
-    public ResponseEntity<List<FacultyUploadBatchDto>> getFacultyBatches(@AuthenticationPrincipal User user) {
+    public ResponseEntity<List<FacultyUploadBatchDto>> getFacultyBatches(@AuthenticationPrincipal User user, WebRequest webRequest) {
+        String etag = publicationsService.getFacultyBatchesStamp(user).etag("batches");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<FacultyUploadBatchDto> batches = publicationsService.getFacultyBatches(user);
-        return ResponseEntity.ok(batches);
+        return ResponseEntity.ok().cacheControl(ChangeStamp.CACHE_CONTROL).eTag(etag).body(batches);
     }
 
     @GetMapping("/batches/{batchId}/summaries")
     public ResponseEntity<List<FacultySummaryDto>> getFacultySummariesForBatch(
             @PathVariable Long batchId,
-            @AuthenticationPrincipal User user) {
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest) {
+        String etag = publicationsService.getFacultySummariesStamp(batchId, user).etag("batch-" + batchId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<FacultySummaryDto> summaries = publicationsService.getFacultySummariesForBatch(batchId, user);
-        return ResponseEntity.ok(summaries);
+        return ResponseEntity.ok().cacheControl(ChangeStamp.CACHE_CONTROL).eTag(etag).body(summaries);
     }
 
     @DeleteMapping("/batches/{batchId}")
@@ -67,25 +101,97 @@ public class PublicationsController {
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/export/{facultyId}")
-    public ResponseEntity<InputStreamResource> exportFacultyProfile(@PathVariable String facultyId, @RequestParam String format) throws IOException {
-        ByteArrayInputStream bis = publicationsService.exportFacultyProfile(facultyId, format);
-        HttpHeaders headers = new HttpHeaders();
-        String fileName = facultyId + "_report." + (format.equalsIgnoreCase("word") ? "docx" : "xlsx");
-        headers.add("Content-Disposition", "attachment; filename=" + fileName);
+    @PostMapping("/batches/{batchId}/summaries/jobs")
+    public ResponseEntity<SummarizationJobDto> startBatchSummarization(
+            @PathVariable Long batchId,
+            @RequestParam(required = false) Integer parallelism,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @AuthenticationPrincipal User user) {
+        SummarizationJobDto job = summarizationJobService.startJob(batchId, user, parallelism, fromYear, toYear);
+        return ResponseEntity.accepted().body(job);
+    }
+
+    @GetMapping("/summaries/jobs/{jobId}")
+    public ResponseEntity<SummarizationJobDto> getSummarizationJob(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(summarizationJobService.getJob(jobId, user));
+    }
+
+    @PostMapping("/summaries/jobs/{jobId}/cancel")
+    public ResponseEntity<SummarizationJobDto> cancelSummarizationJob(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal User user) {
+        return ResponseEntity.ok(summarizationJobService.cancelJob(jobId, user));
+    }
+
+    @GetMapping("/batches/{batchId}/export")
+    public ResponseEntity<StreamingResponseBody> exportFacultyBatch(
+            @PathVariable Long batchId,
+            @RequestParam String format,
+            @RequestParam(defaultValue = "false") boolean consolidated,
+            @AuthenticationPrincipal User user) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        if (consolidated && exportFormat != ExportFormat.EXCEL) {
+            throw new IllegalArgumentException("A consolidated export is only available as an Excel workbook.");
+        }
+        batchExportService.requireBatchOwner(batchId, user);
 
+        HttpHeaders headers = new HttpHeaders();
+        StreamingResponseBody body;
         MediaType mediaType;
-        if (format.equalsIgnoreCase("word")) {
-            mediaType = MediaType.valueOf("application/vnd.openxmlformats-officedocument.wordprocessingml.document");
+        if (consolidated) {
+            headers.add("Content-Disposition", "attachment; filename=batch_" + batchId + "_report." + exportFormat.getExtension());
+            mediaType = exportFormat.getMediaType();
+            body = out -> batchExportService.writeConsolidatedWorkbook(batchId, out);
         } else {
-            mediaType = MediaType.valueOf("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+            headers.add("Content-Disposition", "attachment; filename=batch_" + batchId + "_reports.zip");
+            mediaType = MediaType.valueOf("application/zip");
+            body = out -> batchExportService.writeZipArchive(batchId, exportFormat, out);
         }
 
         return ResponseEntity
                 .ok()
                 .headers(headers)
                 .contentType(mediaType)
-                .body(new InputStreamResource(bis));
+                .body(body);
+    }
+
+    @GetMapping("/export/{facultyId}")
+    public ResponseEntity<StreamingResponseBody> exportFacultyProfile(@PathVariable String facultyId, @RequestParam String format) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        publicationsService.requireFaculty(facultyId);
+
+        HttpHeaders headers = new HttpHeaders();
+        String fileName = facultyId + "_report." + exportFormat.getExtension();
+        headers.add("Content-Disposition", "attachment; filename=" + fileName);
+
+        StreamingResponseBody body = out -> publicationsService.exportFacultyProfile(facultyId, exportFormat, out);
+        return ResponseEntity
+                .ok()
+                .headers(headers)
+                .contentType(exportFormat.getMediaType())
+                .body(body);
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<PublicationSearchResultDto> searchPublications(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) String facultyId,
+            @RequestParam(required = false) Integer fromYear,
+            @RequestParam(required = false) Integer toYear,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) throws IOException {
+        return ResponseEntity.ok(publicationsService.searchPublications(query, facultyId, fromYear, toYear, page, size));
+    }
+
+    @GetMapping("/analytics/{facultyId}")
+    public ResponseEntity<FacultyAnalyticsDto> getFacultyAnalytics(
+            @PathVariable String facultyId,
+            @RequestParam(defaultValue = "10") int topVenues,
+            @RequestParam(defaultValue = "10") int topCoauthors) {
+        return ResponseEntity.ok(publicationsService.getFacultyAnalytics(facultyId, topVenues, topCoauthors));
     }
 
     @GetMapping("/summary/{facultyId}")
@@ -99,12 +205,17 @@ public class PublicationsController {
 
 
     @GetMapping("/profile/{facultyId}")
-    public ResponseEntity<FacultyProfileDto> getFacultyProfile(@PathVariable String facultyId) {
+    public ResponseEntity<FacultyProfileDto> getFacultyProfile(@PathVariable String facultyId, WebRequest webRequest) {
         Optional<Faculty> facultyOptional = publicationsService.getFacultyProfileByFacultyId(facultyId);
         if (facultyOptional.isEmpty()) {
             return ResponseEntity.notFound().build();
         }
         Faculty faculty = facultyOptional.get();
+        // Checked before the interests collection is touched
+        String etag = ChangeStamp.ofVersion(faculty.getId(), faculty.getVersion()).etag("profile");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         FacultyProfileDto dto = new FacultyProfileDto(
                 faculty.getFacultyId(),
                 faculty.getName(),
@@ -117,26 +228,24 @@ public class PublicationsController {
                 faculty.getI10Index(),
                 faculty.getSummary()
         );
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok().cacheControl(ChangeStamp.CACHE_CONTROL).eTag(etag).body(dto);
     }
 
     @GetMapping("/articles/{facultyId}")
-    public ResponseEntity<List<ArticleDto>> getFacultyArticles(
+    public ResponseEntity<ArticlePageDto> getFacultyArticles(
             @PathVariable String facultyId,
-            @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
-
-        List<Publication> publications = publicationsService.getArticlesByFacultyId(facultyId, page, size);
-        List<ArticleDto> articleDtos = publications.stream()
-                .map(pub -> new ArticleDto(
-                        pub.getTitle(),
-                        pub.getLink(),
-                        pub.getAuthors(),
-                        pub.getPublicationSource(),
-                        pub.getCitations(),
-                        pub.getYear()
-                ))
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(articleDtos);
+            @ModelAttribute ArticlePageRequest pageRequest,
+            WebRequest webRequest) {
+        // Every publication change also changes the faculty's content hash and therefore its version
+        Optional<Faculty> faculty = publicationsService.getFacultyProfileByFacultyId(facultyId);
+        if (faculty.isEmpty()) {
+            return ResponseEntity.ok(publicationsService.getArticlesByFacultyId(facultyId, pageRequest));
+        }
+        String etag = ChangeStamp.ofVersion(faculty.get().getId(), faculty.get().getVersion()).etag("articles");
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(ChangeStamp.CACHE_CONTROL).eTag(etag)
+                .body(publicationsService.getArticlesByFacultyId(facultyId, pageRequest));
     }
 }
@@ -2,33 +2,28 @@ package com.researchrag.backend.publications;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.researchrag.backend.publications.dto.*;
 import com.researchrag.backend.userapi.user.User;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.FileSystemResource;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.http.MediaType;
-import org.springframework.http.client.MultipartBodyBuilder;
+import org.hibernate.Hibernate;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
-import org.springframework.web.reactive.function.client.WebClient;
-import org.springframework.web.reactive.function.client.WebClientResponseException;
-import reactor.core.publisher.Mono;
-
-import java.io.ByteArrayInputStream;
-import java.io.File;
-import java.io.FileOutputStream;
+
 import java.io.IOException;
-import java.time.Duration;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -36,77 +31,53 @@ import org.slf4j.LoggerFactory;
 public class PublicationsService {
 
     private static final Logger logger = LoggerFactory.getLogger(PublicationsService.class);
-    private final WebClient webClient;
+    private static final int MAX_ARTICLE_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+    // Deep pages cost a top-N collection of page * size hits; relevance search rarely needs more
+    private static final int MAX_SEARCH_DEPTH = 1000;
     private final FacultyRepository facultyRepository;
     private final FacultyUploadBatchRepository facultyUploadBatchRepository;
     private final FacultyBatchAssociationRepository facultyBatchAssociationRepository;
+    private final PublicationRepository publicationRepository;
     private final ExportService exportService;
+    private final FacultySummaryService facultySummaryService;
+    private final PublicationSearchIndex publicationSearchIndex;
+    private final FacultyAnalyticsService facultyAnalyticsService;
+    private final AuthorIndexService authorIndexService;
+    private final FacultyCacheInvalidator facultyCacheInvalidator;
+    private final ApplicationEventPublisher eventPublisher;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
-    @Value("${rag.service.base-url:http://localhost:8000}")
-    private String pythonApiUrl;
-
-    public PublicationsService(WebClient.Builder webClientBuilder, FacultyRepository facultyRepository,
+    public PublicationsService(FacultyRepository facultyRepository,
                                FacultyUploadBatchRepository facultyUploadBatchRepository,
                                FacultyBatchAssociationRepository facultyBatchAssociationRepository,
-                               ExportService exportService) {
-        this.webClient = webClientBuilder.build();
+                               PublicationRepository publicationRepository,
+                               ExportService exportService,
+                               FacultySummaryService facultySummaryService,
+                               PublicationSearchIndex publicationSearchIndex,
+                               FacultyAnalyticsService facultyAnalyticsService,
+                               AuthorIndexService authorIndexService,
+                               FacultyCacheInvalidator facultyCacheInvalidator,
+                               ApplicationEventPublisher eventPublisher) {
         this.facultyRepository = facultyRepository;
         this.facultyUploadBatchRepository = facultyUploadBatchRepository;
         this.facultyBatchAssociationRepository = facultyBatchAssociationRepository;
+        this.publicationRepository = publicationRepository;
         this.exportService = exportService;
+        this.facultySummaryService = facultySummaryService;
+        this.publicationSearchIndex = publicationSearchIndex;
+        this.facultyAnalyticsService = facultyAnalyticsService;
+        this.authorIndexService = authorIndexService;
+        this.facultyCacheInvalidator = facultyCacheInvalidator;
+        this.eventPublisher = eventPublisher;
     }
 
-    @Transactional
-    public List<FacultySummaryDto> processAndSaveFacultyData(MultipartFile multipartFile, User user, Integer articlesLimit) throws IOException {
-        File tempFile = convertMultiPartToFile(multipartFile);
-        List<FacultySummaryDto> processedSummaries = new ArrayList<>();
-
-        FacultyUploadBatch batch = new FacultyUploadBatch();
-        batch.setFileName(multipartFile.getOriginalFilename());
-        batch.setUploadDate(LocalDateTime.now());
-        batch.setUser(user);
-        FacultyUploadBatch savedBatch = facultyUploadBatchRepository.save(batch);
-
-        try {
-            MultipartBodyBuilder builder = new MultipartBodyBuilder();
-            builder.part("file", new FileSystemResource(tempFile));
-            if (articlesLimit != null) {
-                builder.part("articles_limit", String.valueOf(articlesLimit));
-            }
-
-            Mono<JsonNode> responseMono = webClient.post()
-                    .uri(pythonApiUrl + "/publications/upload")
-                    .contentType(MediaType.MULTIPART_FORM_DATA)
-                    .bodyValue(builder.build())
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .doOnError(error -> logger.error("### WebClient Error: " + error.getMessage(), error))
-                    .timeout(Duration.ofMinutes(10));
-
-            JsonNode responseNode = responseMono.block();
-
-            if (responseNode != null && responseNode.isArray()) {
-                for (JsonNode facultyData : responseNode) {
-                    Faculty faculty = saveFacultyProfile(facultyData, savedBatch);
-                    if (faculty != null) {
-                        processedSummaries.add(new FacultySummaryDto(
-                                faculty.getFacultyId(),
-                                faculty.getName(),
-                                faculty.getPublications().size()
-                        ));
-                    }
-                }
-            }
-        } finally {
-            if (tempFile.exists()) {
-                tempFile.delete();
-            }
-        }
-        return processedSummaries;
-    }
-
-    private Faculty saveFacultyProfile(JsonNode facultyData, FacultyUploadBatch batch) {
+    /**
+     * Upserts one faculty profile from the Python scrape and links it to the batch, if one is given.
+     * Only the deltas are written: new publications, changed citation counts and changed profile fields.
+     * Expected to run inside the caller's transaction.
+     */
+    public Faculty saveFacultyProfile(JsonNode facultyData, FacultyUploadBatch batch) {
         String facultyId = facultyData.path("faculty_id").asText();
         if (facultyId == null || facultyId.isEmpty()) return null;
 
@@ -117,67 +88,115 @@ public class PublicationsService {
             return newFaculty;
         });
 
+        List<Publication> articles = ArticleDeduplicator.dedupe(facultyData.path("articles"));
+        String contentHash = contentHash(facultyData, articles);
+        if (faculty.getId() != null && contentHash.equals(faculty.getContentHash())) {
+            logger.debug("Profile of faculty {} is unchanged since the last fetch", facultyId);
+            facultyRepository.markFetched(faculty.getId(), LocalDateTime.now());
+            associateWithBatch(faculty, batch);
+            return faculty;
+        }
+        faculty.setLastFetchedAt(LocalDateTime.now());
+
         JsonNode profileNode = facultyData.path("author_profile");
         faculty.setName(profileNode.path("name").asText());
         faculty.setAffiliations(profileNode.path("affiliations").asText());
         String googleScholarId = facultyData.path("google_scholar_author_id").asText();
-        faculty.setGoogleScholarId(googleScholarId.isEmpty() ? null : googleScholarId);
+        if (!googleScholarId.isEmpty() || faculty.getGoogleScholarId() == null) {
+            faculty.setGoogleScholarId(googleScholarId.isEmpty() ? null : googleScholarId);
+        }
         faculty.setThumbnail(profileNode.path("thumbnail").asText());
 
         List<String> interests = new ArrayList<>();
         profileNode.path("interests").forEach(interest -> interests.add(interest.asText()));
-        faculty.setInterests(interests);
+        if (faculty.getInterests() == null || !interests.equals(new ArrayList<>(faculty.getInterests()))) {
+            // Replacing the collection makes Hibernate delete and re-insert every row, so only do it on change
+            faculty.setInterests(interests);
+        }
 
         JsonNode metricsNode = facultyData.path("citation_metrics");
         faculty.setTotalCitations(metricsNode.path("total_citations").asInt(0));
         faculty.setHIndex(metricsNode.path("h_index").asInt(0));
         faculty.setI10Index(metricsNode.path("i10_index").asInt(0));
-
-        JsonNode articlesNode = facultyData.path("articles");
-        if (articlesNode.isArray()) {
-            List<Publication> existingPublications = faculty.getPublications();
-            for (JsonNode articleNode : articlesNode) {
-                String title = articleNode.path("title").asText();
-                int year = articleNode.path("year").asInt(0);
-
-                boolean alreadyExists = existingPublications.stream()
-                        .anyMatch(p -> p.getTitle().equals(title) && p.getYear() == year);
-
-                if (!alreadyExists) {
-                    Publication publication = new Publication();
-                    publication.setTitle(title);
-                    publication.setAuthors(articleNode.path("authors").asText());
-                    publication.setPublicationSource(articleNode.path("publication").asText());
-                    publication.setYear(year);
-                    publication.setCitations(articleNode.path("citations").asInt(0));
-                    publication.setLink(articleNode.path("link").asText());
-                    publication.setFaculty(faculty);
-                    faculty.getPublications().add(publication);
-                }
-            }
-        }
+        faculty.setContentHash(contentHash);
 
         Faculty savedFaculty = facultyRepository.save(faculty);
 
-        if (!facultyBatchAssociationRepository.existsByFacultyAndBatch(savedFaculty, batch)) {
-            FacultyBatchAssociation association = FacultyBatchAssociation.builder()
-                    .faculty(savedFaculty)
-                    .batch(batch)
-                    .associationDate(LocalDateTime.now())
-                    .build();
-            facultyBatchAssociationRepository.save(association);
-            logger.info("Associated faculty {} with batch {}", savedFaculty.getName(), batch.getId());
+        Map<String, FacultyAnalyticsRepository.PublicationState> before = facultyAnalyticsService.lockAndLoadState(savedFaculty.getId());
+        List<Publication> changed = changedArticles(before, articles);
+        if (!changed.isEmpty()) {
+            publicationRepository.upsertAll(savedFaculty.getId(), changed);
+            facultyAnalyticsService.applyIngestion(savedFaculty.getId(), savedFaculty.getName(), before, changed);
+            List<String> newHashes = changed.stream()
+                    .map(Publication::getDedupHash)
+                    .filter(hash -> !before.containsKey(hash))
+                    .toList();
+            authorIndexService.indexNewPublications(savedFaculty.getId(), savedFaculty.getName(), newHashes);
+            eventPublisher.publishEvent(new FacultyPublicationsChangedEvent(savedFaculty.getId(), savedFaculty.getFacultyId()));
         }
+        facultyCacheInvalidator.facultyChanged(savedFaculty.getId(), !changed.isEmpty());
+        logger.info("Faculty {}: {} of {} scraped publications were new or had changed citations",
+                facultyId, changed.size(), articles.size());
 
+        associateWithBatch(savedFaculty, batch);
         return savedFaculty;
     }
 
-    private File convertMultiPartToFile(MultipartFile file) throws IOException {
-        File convFile = new File(System.getProperty("java.io.tmpdir") + "/" + Objects.requireNonNull(file.getOriginalFilename()));
-        try (FileOutputStream fos = new FileOutputStream(convFile)) {
-            fos.write(file.getBytes());
+    private void associateWithBatch(Faculty faculty, FacultyUploadBatch batch) {
+        if (batch == null || facultyBatchAssociationRepository.existsByFacultyAndBatch(faculty, batch)) {
+            return;
+        }
+        FacultyBatchAssociation association = FacultyBatchAssociation.builder()
+                .faculty(faculty)
+                .batch(batch)
+                .associationDate(LocalDateTime.now())
+                .build();
+        facultyBatchAssociationRepository.save(association);
+        logger.info("Associated faculty {} with batch {}", faculty.getName(), batch.getId());
+    }
+
+    /**
+     * Scraped articles that are not stored yet or whose citation count moved since the last fetch.
+     */
+    static List<Publication> changedArticles(Map<String, FacultyAnalyticsRepository.PublicationState> before,
+                                             List<Publication> articles) {
+        return articles.stream()
+                .filter(article -> {
+                    FacultyAnalyticsRepository.PublicationState stored = before.get(article.getDedupHash());
+                    return stored == null || stored.citations() != article.getCitations();
+                })
+                .toList();
+    }
+
+    /**
+     * Fingerprint of everything {@link #saveFacultyProfile} persists from a scrape, so an unchanged
+     * refresh can be recognised without touching the publication rows.
+     */
+    static String contentHash(JsonNode facultyData, List<Publication> articles) {
+        JsonNode profileNode = facultyData.path("author_profile");
+        JsonNode metricsNode = facultyData.path("citation_metrics");
+        List<String> fields = new ArrayList<>();
+        fields.add(profileNode.path("name").asText());
+        fields.add(profileNode.path("affiliations").asText());
+        fields.add(profileNode.path("thumbnail").asText());
+        fields.add(facultyData.path("google_scholar_author_id").asText());
+        profileNode.path("interests").forEach(interest -> fields.add("interest:" + interest.asText()));
+        fields.add(metricsNode.path("total_citations").asInt(0) + "/" + metricsNode.path("h_index").asInt(0)
+                + "/" + metricsNode.path("i10_index").asInt(0));
+        articles.stream()
+                .map(article -> article.getDedupHash() + ":" + article.getCitations())
+                .sorted()
+                .forEach(fields::add);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String field : fields) {
+                digest.update(field.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
         }
-        return convFile;
     }
 
     @Transactional(readOnly = true)
@@ -186,113 +205,140 @@ public class PublicationsService {
     }
 
     @Transactional(readOnly = true)
-    public List<Publication> getArticlesByFacultyId(String facultyId, int page, int size) {
-        Optional<Faculty> facultyOptional = facultyRepository.findByFacultyId(facultyId);
-        if (facultyOptional.isPresent()) {
-            Faculty faculty = facultyOptional.get();
-            Pageable pageable = PageRequest.of(page, size);
-            return faculty.getPublications().stream()
-                    .skip((long) page * size)
-                    .limit(size)
-                    .collect(Collectors.toList());
+    public ArticlePageDto getArticlesByFacultyId(String facultyId, ArticlePageRequest request) {
+        int size = Math.max(1, Math.min(request.getSize(), MAX_ARTICLE_PAGE_SIZE));
+        int page = Math.max(0, request.getPage());
+        ArticleSortField sort = ArticleSortField.fromParameter(request.getSort());
+        boolean ascending = "asc".equalsIgnoreCase(request.getDirection());
+        ArticleFilter filter = new ArticleFilter(request.getFromYear(), request.getToYear(), request.getMinCitations());
+
+        ArticleCursor after = null;
+        if (request.getContinuationToken() != null && !request.getContinuationToken().isBlank()) {
+            after = ArticleCursor.decode(request.getContinuationToken());
+            if (after.sort() != sort || after.ascending() != ascending) {
+                throw new IllegalArgumentException("Continuation token does not match the requested sort order.");
+            }
+        }
+
+        Optional<Long> facultyPk = facultyRepository.findIdByFacultyId(facultyId);
+        if (facultyPk.isEmpty()) {
+            return ArticlePageDto.builder().content(List.of()).page(page).size(size).build();
         }
-        return List.of();
+
+        // One row more than the page, to tell whether another page follows
+        List<Publication> publications = publicationRepository.findArticles(
+                facultyPk.get(), filter, sort, ascending, after, page * size, size + 1);
+        long total = publicationRepository.countArticles(facultyPk.get(), filter);
+
+        String nextToken = null;
+        if (publications.size() > size) {
+            publications = publications.subList(0, size);
+            nextToken = ArticleCursor.after(publications.get(size - 1), sort, ascending).encode();
+        }
+
+        return ArticlePageDto.builder()
+                .content(publications.stream()
+                        .map(pub -> new ArticleDto(
+                                pub.getTitle(),
+                                pub.getLink(),
+                                pub.getAuthors(),
+                                pub.getPublicationSource(),
+                                pub.getCitations(),
+                                pub.getYear()
+                        ))
+                        .collect(Collectors.toList()))
+                .totalElements(total)
+                .totalPages((int) ((total + size - 1) / size))
+                .page(page)
+                .size(size)
+                .nextToken(nextToken)
+                .build();
     }
 
     @Transactional(readOnly = true)
     public List<FacultyUploadBatchDto> getFacultyBatches(User user) {
-        return facultyUploadBatchRepository.findByUserOrderByUploadDateDesc(user).stream()
-                .map(batch -> new FacultyUploadBatchDto(
-                        batch.getId(),
-                        batch.getFileName(),
-                        batch.getUploadDate(),
-                        batch.getBatchAssociations().size()
-                ))
-                .collect(Collectors.toList());
+        return facultyUploadBatchRepository.findBatchSummariesByUser(user);
+    }
+
+    public ChangeStamp getFacultyBatchesStamp(User user) {
+        return facultyUploadBatchRepository.findChangeStampByUser(user);
     }
 
     @Transactional(readOnly = true)
     public List<FacultySummaryDto> getFacultySummariesForBatch(Long batchId, User user) {
-        FacultyUploadBatch batch = facultyUploadBatchRepository.findById(batchId)
+        requireBatchOwner(batchId, user);
+        return facultyRepository.findSummariesByBatchId(batchId);
+    }
+
+    @Transactional(readOnly = true)
+    public ChangeStamp getFacultySummariesStamp(Long batchId, User user) {
+        requireBatchOwner(batchId, user);
+        return facultyRepository.findChangeStampByBatchId(batchId);
+    }
+
+    private void requireBatchOwner(Long batchId, User user) {
+        Integer ownerId = facultyUploadBatchRepository.findOwnerIdById(batchId)
                 .orElseThrow(() -> new RuntimeException("Batch not found"));
-        if (!batch.getUser().getId().equals(user.getId())) {
+        if (!ownerId.equals(user.getId())) {
             throw new AccessDeniedException("You do not have permission to access this batch.");
         }
-
-        List<Faculty> facultyInBatch = facultyRepository.findByBatchId(batchId);
-
-        return facultyInBatch.stream()
-                .map(faculty -> new FacultySummaryDto(
-                        faculty.getFacultyId(),
-                        faculty.getName(),
-                        faculty.getPublications().size()
-                ))
-                .collect(Collectors.toList());
     }
 
     @Transactional
     public void deleteFacultyBatch(Long batchId, User user) {
-        FacultyUploadBatch batch = facultyUploadBatchRepository.findById(batchId)
+        Integer ownerId = facultyUploadBatchRepository.findOwnerIdById(batchId)
                 .orElseThrow(() -> new RuntimeException("Batch not found"));
-        if (!batch.getUser().getId().equals(user.getId())) {
+        if (!ownerId.equals(user.getId())) {
             throw new AccessDeniedException("You do not have permission to delete this batch.");
         }
-        facultyUploadBatchRepository.deleteById(batchId);
+        facultyUploadBatchRepository.deleteBatchById(batchId);
     }
 
-    @Transactional
-    public String getFacultySummary(String facultyId, Integer fromYear, Integer toYear) {
-        Faculty faculty = facultyRepository.findByFacultyId(facultyId)
-                .orElseThrow(() -> new RuntimeException("Faculty not found"));
-
-        List<Publication> publicationsToSummarize = faculty.getPublications().stream()
-                .filter(p -> (fromYear == null || (p.getYear() != null && p.getYear() >= fromYear)) && (toYear == null || (p.getYear() != null && p.getYear() <= toYear)))
-                .collect(Collectors.toList());
+    public PublicationSearchResultDto searchPublications(String query, String facultyId, Integer fromYear, Integer toYear,
+                                                         int page, int size) throws IOException {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("A search query is required.");
+        }
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new IllegalArgumentException("fromYear must not be after toYear");
+        }
+        int boundedSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+        int boundedPage = Math.max(0, Math.min(page, MAX_SEARCH_DEPTH / boundedSize - 1));
+        return publicationSearchIndex.search(query, facultyId, fromYear, toYear, boundedPage, boundedSize);
+    }
 
-        List<PublicationDto> publicationDtos = publicationsToSummarize.stream()
-                .map(p -> new PublicationDto(p.getTitle(), p.getAuthors(), p.getPublicationSource(), p.getYear(), p.getCitations(), p.getLink()))
-                .collect(Collectors.toList());
+    public FacultyAnalyticsDto getFacultyAnalytics(String facultyId, int topVenues, int topCoauthors) {
+        return facultyAnalyticsService.getAnalytics(facultyId, topVenues, topCoauthors);
+    }
 
-        PythonSummarizationRequest request = PythonSummarizationRequest.builder()
-                .name(faculty.getName())
-                .publications(publicationDtos)
-                .from_year(fromYear)
-                .to_year(toYear)
-                .build();
+    public String getFacultySummary(String facultyId, Integer fromYear, Integer toYear) {
+        return facultySummaryService.getSummary(facultyId, fromYear, toYear);
+    }
 
-        try {
-            PythonSummarizationResponse pythonResponse = webClient.post()
-                    .uri(pythonApiUrl + "/publications/summarize")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(PythonSummarizationResponse.class)
-                    .timeout(Duration.ofMinutes(2))
-                    .block();
-
-            if (pythonResponse != null && pythonResponse.getSummary() != null) {
-                faculty.setSummary(pythonResponse.getSummary());
-                facultyRepository.save(faculty);
-                return pythonResponse.getSummary();
-            }
-            return "Failed to generate summary.";
-        } catch (WebClientResponseException e) {
-            logger.error("Error from Python summarization service: Status {}, Body {}", e.getRawStatusCode(), e.getResponseBodyAsString());
-            throw new RuntimeException("The summarization service failed to process the request. Details: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            logger.error("An unexpected error occurred during summarization for facultyId {}: {}", facultyId, e.getMessage());
-            throw new RuntimeException("An unexpected error occurred while generating the summary.");
-        }
+    /**
+     * Cheap existence check so the export endpoint can fail before the streamed response is committed.
+     */
+    public void requireFaculty(String facultyId) {
+        facultyRepository.findIdByFacultyId(facultyId)
+                .orElseThrow(() -> new RuntimeException("Faculty not found"));
     }
 
-    public ByteArrayInputStream exportFacultyProfile(String facultyId, String format) throws IOException {
+    /**
+     * Writes the report straight to {@code out}, streaming publications from the database rather than
+     * loading the faculty's collection.
+     */
+    @Transactional(readOnly = true)
+    public void exportFacultyProfile(String facultyId, ExportFormat format, OutputStream out) throws IOException {
         Faculty faculty = facultyRepository.findByFacultyId(facultyId)
                 .orElseThrow(() -> new RuntimeException("Faculty not found"));
+        // Load lazy state before opening the row stream; a streaming MySQL result blocks other queries on the connection
+        Hibernate.initialize(faculty.getInterests());
 
-        if ("excel".equalsIgnoreCase(format)) {
-            return exportService.generateExcelReport(faculty);
-        } else if ("word".equalsIgnoreCase(format)) {
-            return exportService.generateWordReport(faculty);
+        try (Stream<PublicationDto> publications = publicationRepository.streamByFacultyId(faculty.getId())) {
+            switch (format) {
+                case EXCEL -> exportService.writeExcelReport(faculty, publications, out);
+                case WORD -> exportService.writeWordReport(faculty, publications, out);
+            }
         }
-        throw new IllegalArgumentException("Invalid export format specified.");
     }
 }
\ No newline at end of file
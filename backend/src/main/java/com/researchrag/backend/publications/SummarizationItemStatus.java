@@ -0,0 +1,9 @@
+package com.researchrag.backend.publications;
+
+public enum SummarizationItemStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
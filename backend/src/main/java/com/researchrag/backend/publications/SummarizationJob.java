@@ -0,0 +1,53 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.userapi.user.User;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+public class SummarizationJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain column, as on FacultyIngestionJob, so deleting a batch keeps the job history
+    private Long batchId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id")
+    private User user;
+
+    @Enumerated(EnumType.STRING)
+    private SummarizationJobStatus status;
+
+    private Integer fromYear;
+
+    private Integer toYear;
+
+    private int parallelism;
+
+    private int totalFaculty;
+
+    private int completedFaculty;
+
+    private int failedFaculty;
+
+    // Checked by workers before each faculty, so a cancel issued on any node stops the job
+    private boolean cancelRequested;
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    // Refreshed while a node has the job queued or running; a stale value means that node went away
+    private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,28 @@
+package com.researchrag.backend.publications;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Data
+@Table(indexes = @Index(name = "idx_summarization_item_job", columnList = "jobId"))
+public class SummarizationJobItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private Long jobId;
+
+    private String facultyId;
+
+    @Enumerated(EnumType.STRING)
+    private SummarizationItemStatus status;
+
+    @Column(length = 2000)
+    private String errorMessage;
+
+    private LocalDateTime finishedAt;
+}
@@ -0,0 +1,32 @@
+package com.researchrag.backend.publications;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SummarizationJobItemRepository extends JpaRepository<SummarizationJobItem, Long> {
+
+    List<SummarizationJobItem> findByJobIdOrderByIdAsc(Long jobId);
+
+    List<SummarizationJobItem> findByJobIdAndStatusOrderByIdAsc(Long jobId, SummarizationItemStatus status);
+
+    @Modifying
+    @Query("UPDATE SummarizationJobItem i SET i.status = :status WHERE i.id = :id")
+    void updateStatus(@Param("id") Long id, @Param("status") SummarizationItemStatus status);
+
+    @Modifying
+    @Query("UPDATE SummarizationJobItem i SET i.status = :status, i.errorMessage = :errorMessage, i.finishedAt = :finishedAt WHERE i.id = :id")
+    void finish(@Param("id") Long id, @Param("status") SummarizationItemStatus status,
+                @Param("errorMessage") String errorMessage, @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Modifying
+    @Query("UPDATE SummarizationJobItem i SET i.status = :to, i.finishedAt = :finishedAt WHERE i.jobId = :jobId AND i.status = :from")
+    int transitionAll(@Param("jobId") Long jobId, @Param("from") SummarizationItemStatus from,
+                      @Param("to") SummarizationItemStatus to, @Param("finishedAt") LocalDateTime finishedAt);
+}
@@ -0,0 +1,47 @@
+package com.researchrag.backend.publications;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SummarizationJobRepository extends JpaRepository<SummarizationJob, Long> {
+
+    @Query("SELECT j.cancelRequested FROM SummarizationJob j WHERE j.id = :id")
+    Boolean isCancelRequested(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE SummarizationJob j SET j.cancelRequested = true WHERE j.id = :id")
+    void requestCancel(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE SummarizationJob j SET j.completedFaculty = j.completedFaculty + 1 WHERE j.id = :id")
+    void incrementCompleted(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE SummarizationJob j SET j.failedFaculty = j.failedFaculty + 1 WHERE j.id = :id")
+    void incrementFailed(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE SummarizationJob j SET j.heartbeatAt = :now WHERE j.id IN :ids")
+    int heartbeat(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM SummarizationJob j WHERE j.status IN :active AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff")
+    List<Long> findAbandonedIds(@Param("active") Collection<SummarizationJobStatus> active, @Param("cutoff") LocalDateTime cutoff);
+
+    /**
+     * Fails the job if it is still abandoned, re-checked so a job that just refreshed its heartbeat is kept.
+     */
+    @Modifying
+    @Query("UPDATE SummarizationJob j SET j.status = :failed, j.errorMessage = :errorMessage, j.finishedAt = :now " +
+            "WHERE j.id = :id AND j.status IN :active AND COALESCE(j.heartbeatAt, j.createdAt) < :cutoff")
+    int failIfAbandoned(@Param("id") Long id, @Param("active") Collection<SummarizationJobStatus> active,
+                        @Param("failed") SummarizationJobStatus failed, @Param("errorMessage") String errorMessage,
+                        @Param("cutoff") LocalDateTime cutoff, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,345 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.common.exception.TooManyRequestsException;
+import com.researchrag.backend.publications.dto.SummarizationJobDto;
+import com.researchrag.backend.publications.dto.SummarizationJobItemDto;
+import com.researchrag.backend.userapi.user.User;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Summarizes every faculty of an upload batch in the background. Each job runs at most {@code parallelism}
+ * summaries at once, on top of the node-wide LLM permit pool in {@link FacultySummaryService}, and saves each
+ * summary to {@code Faculty.summary} as soon as it is ready. As with ingestion jobs, a heartbeat marks the jobs a
+ * live node still owns, and jobs whose heartbeat stopped are failed.
+ */
+@Service
+public class SummarizationJobService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SummarizationJobService.class);
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 2000;
+    private static final List<SummarizationJobStatus> ACTIVE = List.of(SummarizationJobStatus.QUEUED, SummarizationJobStatus.RUNNING);
+
+    private final SummarizationJobRepository summarizationJobRepository;
+    private final SummarizationJobItemRepository summarizationJobItemRepository;
+    private final FacultyRepository facultyRepository;
+    private final FacultyUploadBatchRepository facultyUploadBatchRepository;
+    private final FacultySummaryService facultySummaryService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor summarizationJobExecutor;
+    private final ThreadPoolTaskExecutor summarizationWorkerExecutor;
+    // Worker threads of the jobs running on this node; on cancel, summaries no other caller waits for are interrupted
+    private final ConcurrentMap<Long, Set<Thread>> runningWorkers = new ConcurrentHashMap<>();
+    // Jobs queued or running on this node
+    private final Set<Long> activeJobs = ConcurrentHashMap.newKeySet();
+
+    @Value("${rag.summary.batch.default-parallelism:2}")
+    private int defaultParallelism;
+
+    @Value("${rag.summary.batch.max-parallelism:4}")
+    private int maxParallelism;
+
+    @Value("${publications.jobs.abandoned-after-ms:300000}")
+    private long abandonedAfterMs;
+
+    public SummarizationJobService(SummarizationJobRepository summarizationJobRepository,
+                                   SummarizationJobItemRepository summarizationJobItemRepository,
+                                   FacultyRepository facultyRepository,
+                                   FacultyUploadBatchRepository facultyUploadBatchRepository,
+                                   FacultySummaryService facultySummaryService,
+                                   TransactionTemplate transactionTemplate,
+                                   @Qualifier("summarizationJobExecutor") ThreadPoolTaskExecutor summarizationJobExecutor,
+                                   @Qualifier("summarizationWorkerExecutor") ThreadPoolTaskExecutor summarizationWorkerExecutor) {
+        this.summarizationJobRepository = summarizationJobRepository;
+        this.summarizationJobItemRepository = summarizationJobItemRepository;
+        this.facultyRepository = facultyRepository;
+        this.facultyUploadBatchRepository = facultyUploadBatchRepository;
+        this.facultySummaryService = facultySummaryService;
+        this.transactionTemplate = transactionTemplate;
+        this.summarizationJobExecutor = summarizationJobExecutor;
+        this.summarizationWorkerExecutor = summarizationWorkerExecutor;
+    }
+
+    public SummarizationJobDto startJob(Long batchId, User user, Integer parallelism, Integer fromYear, Integer toYear) {
+        Integer ownerId = facultyUploadBatchRepository.findOwnerIdById(batchId)
+                .orElseThrow(() -> new RuntimeException("Batch not found"));
+        if (!ownerId.equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to access this batch.");
+        }
+        if (parallelism != null && parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        if (fromYear != null && toYear != null && fromYear > toYear) {
+            throw new IllegalArgumentException("fromYear must not be after toYear");
+        }
+        int effectiveParallelism = Math.min(parallelism != null ? parallelism : defaultParallelism, maxParallelism);
+        List<String> facultyIds = facultyRepository.findFacultyIdsByBatchId(batchId);
+
+        SummarizationJob savedJob = transactionTemplate.execute(status -> {
+            SummarizationJob job = new SummarizationJob();
+            job.setBatchId(batchId);
+            job.setUser(user);
+            job.setStatus(SummarizationJobStatus.QUEUED);
+            job.setFromYear(fromYear);
+            job.setToYear(toYear);
+            job.setParallelism(effectiveParallelism);
+            job.setTotalFaculty(facultyIds.size());
+            job.setCreatedAt(LocalDateTime.now());
+            job.setHeartbeatAt(job.getCreatedAt());
+            SummarizationJob saved = summarizationJobRepository.save(job);
+
+            List<SummarizationJobItem> items = new ArrayList<>(facultyIds.size());
+            for (String facultyId : facultyIds) {
+                SummarizationJobItem item = new SummarizationJobItem();
+                item.setJobId(saved.getId());
+                item.setFacultyId(facultyId);
+                item.setStatus(SummarizationItemStatus.PENDING);
+                items.add(item);
+            }
+            summarizationJobItemRepository.saveAll(items);
+            return saved;
+        });
+
+        activeJobs.add(savedJob.getId());
+        try {
+            summarizationJobExecutor.execute(() -> runJob(savedJob.getId()));
+        } catch (TaskRejectedException e) {
+            logger.warn("Rejected summarization job {}: executor is saturated", savedJob.getId());
+            activeJobs.remove(savedJob.getId());
+            transactionTemplate.executeWithoutResult(status ->
+                    summarizationJobItemRepository.transitionAll(savedJob.getId(), SummarizationItemStatus.PENDING,
+                            SummarizationItemStatus.CANCELLED, LocalDateTime.now()));
+            finishJob(savedJob.getId(), SummarizationJobStatus.FAILED, "Too many summarization jobs are already running.");
+            throw new TooManyRequestsException("Too many batches are being summarized. Please retry later.", 60);
+        }
+        return toDto(savedJob, List.of());
+    }
+
+    @Transactional(readOnly = true)
+    public SummarizationJobDto getJob(Long jobId, User user) {
+        SummarizationJob job = findOwnedJob(jobId, user);
+        return toDto(job, summarizationJobItemRepository.findByJobIdOrderByIdAsc(jobId));
+    }
+
+    public SummarizationJobDto cancelJob(Long jobId, User user) {
+        transactionTemplate.executeWithoutResult(status -> {
+            findOwnedJob(jobId, user);
+            summarizationJobRepository.requestCancel(jobId);
+        });
+        // Every worker sees the flag before its next faculty. A local one is also interrupted right away, unless an
+        // interactive request joined the summary it is generating: that one finishes, as the request still wants it
+        Set<Thread> workers = runningWorkers.get(jobId);
+        if (workers != null) {
+            workers.forEach(facultySummaryService::interruptBatchSummary);
+        }
+        return transactionTemplate.execute(status -> getJob(jobId, user));
+    }
+
+    private SummarizationJob findOwnedJob(Long jobId, User user) {
+        SummarizationJob job = summarizationJobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Summarization job not found"));
+        if (!job.getUser().getId().equals(user.getId())) {
+            throw new AccessDeniedException("You do not have permission to access this summarization job.");
+        }
+        return job;
+    }
+
+    private void runJob(Long jobId) {
+        try {
+            runJobSteps(jobId);
+        } finally {
+            activeJobs.remove(jobId);
+        }
+    }
+
+    private void runJobSteps(Long jobId) {
+        SummarizationJob job = transactionTemplate.execute(status -> summarizationJobRepository.findById(jobId).map(found -> {
+            found.setStatus(SummarizationJobStatus.RUNNING);
+            found.setStartedAt(LocalDateTime.now());
+            return found;
+        }).orElse(null));
+        if (job == null) {
+            return;
+        }
+
+        Queue<SummarizationJobItem> pending = new ConcurrentLinkedQueue<>(
+                summarizationJobItemRepository.findByJobIdAndStatusOrderByIdAsc(jobId, SummarizationItemStatus.PENDING));
+        Set<Thread> workerThreads = ConcurrentHashMap.newKeySet();
+        runningWorkers.put(jobId, workerThreads);
+        try {
+            int workerCount = Math.min(job.getParallelism(), pending.size());
+            List<Future<?>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(summarizationWorkerExecutor.submit(() -> drain(job, pending, workerThreads)));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    logger.error("Summarization worker for job {} failed: {}", jobId, e.getCause().getMessage(), e.getCause());
+                }
+            }
+
+            boolean cancelled = isCancelRequested(jobId);
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                // Anything left behind by cancelled or crashed workers never got a summary
+                summarizationJobItemRepository.transitionAll(jobId, SummarizationItemStatus.RUNNING, SummarizationItemStatus.CANCELLED, now);
+                summarizationJobItemRepository.transitionAll(jobId, SummarizationItemStatus.PENDING, SummarizationItemStatus.CANCELLED, now);
+            });
+            finishJob(jobId, cancelled ? SummarizationJobStatus.CANCELLED : SummarizationJobStatus.COMPLETED, null);
+        } catch (Exception e) {
+            logger.error("Summarization job {} failed: {}", jobId, e.getMessage(), e);
+            finishJob(jobId, SummarizationJobStatus.FAILED, e.getMessage());
+        } finally {
+            runningWorkers.remove(jobId);
+        }
+    }
+
+    private void drain(SummarizationJob job, Queue<SummarizationJobItem> pending, Set<Thread> workerThreads) {
+        workerThreads.add(Thread.currentThread());
+        try {
+            drain(job, pending);
+        } finally {
+            workerThreads.remove(Thread.currentThread());
+            // Do not leak a cancel interrupt into the next task run by this pooled thread
+            Thread.interrupted();
+        }
+    }
+
+    private void drain(SummarizationJob job, Queue<SummarizationJobItem> pending) {
+        SummarizationJobItem item;
+        while ((item = pending.poll()) != null) {
+            if (Thread.currentThread().isInterrupted() || isCancelRequested(job.getId())) {
+                return;
+            }
+            Long itemId = item.getId();
+            String facultyId = item.getFacultyId();
+            transactionTemplate.executeWithoutResult(status ->
+                    summarizationJobItemRepository.updateStatus(itemId, SummarizationItemStatus.RUNNING));
+
+            try {
+                String summary = facultySummaryService.getSummaryForBatch(facultyId, job.getFromYear(), job.getToYear());
+                if (FacultySummaryService.SUMMARY_FAILED.equals(summary)) {
+                    throw new RuntimeException("The summarization service returned no summary.");
+                }
+                transactionTemplate.executeWithoutResult(status -> {
+                    // A cache hit does not touch the faculty row, so store the summary here as well
+                    facultyRepository.findIdByFacultyId(facultyId).ifPresent(pk -> facultySummaryService.storeSummary(pk, summary));
+                    summarizationJobItemRepository.finish(itemId, SummarizationItemStatus.COMPLETED, null, LocalDateTime.now());
+                    summarizationJobRepository.incrementCompleted(job.getId());
+                });
+            } catch (Exception e) {
+                // Clear the interrupt so the bookkeeping below can still reach the database
+                boolean interrupted = Thread.interrupted();
+                if (interrupted || isCancelRequested(job.getId())) {
+                    transactionTemplate.executeWithoutResult(status -> summarizationJobItemRepository.finish(
+                            itemId, SummarizationItemStatus.CANCELLED, null, LocalDateTime.now()));
+                    return;
+                }
+                logger.error("Failed to summarize faculty {} for job {}: {}", facultyId, job.getId(), e.getMessage());
+                transactionTemplate.executeWithoutResult(status -> {
+                    summarizationJobItemRepository.finish(itemId, SummarizationItemStatus.FAILED, truncate(e.getMessage()), LocalDateTime.now());
+                    summarizationJobRepository.incrementFailed(job.getId());
+                });
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${publications.jobs.heartbeat-interval-ms:30000}")
+    public void heartbeat() {
+        if (activeJobs.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    summarizationJobRepository.heartbeat(List.copyOf(activeJobs), LocalDateTime.now()));
+        } catch (Exception e) {
+            logger.warn("Failed to refresh summarization job heartbeats: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Fails jobs whose node stopped refreshing them, and cancels their unfinished items. Runs at startup and
+     * then periodically, like the ingestion job recovery.
+     */
+    @Scheduled(fixedDelayString = "${publications.jobs.heartbeat-interval-ms:30000}")
+    public void failAbandonedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime cutoff = now.minusNanos(abandonedAfterMs * 1_000_000);
+        for (Long jobId : summarizationJobRepository.findAbandonedIds(ACTIVE, cutoff)) {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (summarizationJobRepository.failIfAbandoned(jobId, ACTIVE, SummarizationJobStatus.FAILED,
+                        "Interrupted: the backend running this job stopped.", cutoff, now) == 0) {
+                    return;
+                }
+                summarizationJobItemRepository.transitionAll(jobId, SummarizationItemStatus.RUNNING, SummarizationItemStatus.CANCELLED, now);
+                summarizationJobItemRepository.transitionAll(jobId, SummarizationItemStatus.PENDING, SummarizationItemStatus.CANCELLED, now);
+                logger.warn("Failed abandoned summarization job {}", jobId);
+            });
+        }
+    }
+
+    private boolean isCancelRequested(Long jobId) {
+        return !Boolean.FALSE.equals(summarizationJobRepository.isCancelRequested(jobId));
+    }
+
+    private void finishJob(Long jobId, SummarizationJobStatus status, String errorMessage) {
+        transactionTemplate.executeWithoutResult(tx -> summarizationJobRepository.findById(jobId).ifPresent(job -> {
+            job.setStatus(status);
+            job.setErrorMessage(truncate(errorMessage));
+            job.setFinishedAt(LocalDateTime.now());
+        }));
+    }
+
+    private static String truncate(String message) {
+        return message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH
+                ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+    }
+
+    private static SummarizationJobDto toDto(SummarizationJob job, List<SummarizationJobItem> items) {
+        return SummarizationJobDto.builder()
+                .id(job.getId())
+                .batchId(job.getBatchId())
+                .status(job.getStatus())
+                .fromYear(job.getFromYear())
+                .toYear(job.getToYear())
+                .parallelism(job.getParallelism())
+                .totalFaculty(job.getTotalFaculty())
+                .completedFaculty(job.getCompletedFaculty())
+                .failedFaculty(job.getFailedFaculty())
+                .cancelRequested(job.isCancelRequested())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .finishedAt(job.getFinishedAt())
+                .items(items.stream()
+                        .map(item -> SummarizationJobItemDto.builder()
+                                .facultyId(item.getFacultyId())
+                                .status(item.getStatus())
+                                .errorMessage(item.getErrorMessage())
+                                .finishedAt(item.getFinishedAt())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
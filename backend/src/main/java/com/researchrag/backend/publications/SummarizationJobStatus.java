@@ -0,0 +1,9 @@
+package com.researchrag.backend.publications;
+
+public enum SummarizationJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED
+}
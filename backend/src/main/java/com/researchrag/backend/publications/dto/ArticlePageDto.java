@@ -0,0 +1,21 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ArticlePageDto {
+    private List<ArticleDto> content;
+    private long totalElements;
+    private int totalPages;
+    private int page;
+    private int size;
+    private String nextToken; // Pass back as continuationToken to fetch the following page by keyset
+}
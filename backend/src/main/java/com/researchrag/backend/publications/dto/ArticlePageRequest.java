@@ -0,0 +1,15 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.Data;
+
+@Data
+public class ArticlePageRequest {
+    private int page = 0;
+    private int size = 10;
+    private String sort = "year";
+    private String direction = "desc";
+    private Integer fromYear;
+    private Integer toYear;
+    private Integer minCitations;
+    private String continuationToken;
+}
@@ -0,0 +1,21 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoauthorDto {
+    private Long authorId;
+    private String name;
+    // Set when the author is recognised as one of our faculty
+    private String facultyId;
+    private String facultyName;
+    // Papers shared with the queried author; only for direct collaborators
+    private Integer sharedPapers;
+    private Integer hops;
+}
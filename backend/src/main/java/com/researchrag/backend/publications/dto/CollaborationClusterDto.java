@@ -0,0 +1,17 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CollaborationClusterDto {
+    private int size;
+    private List<FacultyCollaboratorDto> members;
+}
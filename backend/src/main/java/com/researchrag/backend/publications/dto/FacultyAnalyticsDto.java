@@ -0,0 +1,49 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultyAnalyticsDto {
+    private String facultyId;
+    private long totalPublications;
+    private long totalCitations;
+    // Publications without a known year are counted in the totals but not listed here
+    private List<YearStat> years;
+    private List<VenueStat> topVenues;
+    private List<CoauthorStat> topCoauthors;
+    private long distinctCoauthors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class YearStat {
+        private int year;
+        private int publications;
+        private long citations;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VenueStat {
+        private String venue;
+        private int publications;
+        private long citations;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CoauthorStat {
+        private String name;
+        private int publications;
+    }
+}
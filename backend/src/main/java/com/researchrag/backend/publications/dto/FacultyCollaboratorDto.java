@@ -0,0 +1,16 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultyCollaboratorDto {
+    private String facultyId;
+    private String name;
+    private Integer sharedPapers;
+}
@@ -0,0 +1,26 @@
+package com.researchrag.backend.publications.dto;
+
+import com.researchrag.backend.publications.IngestionJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacultyIngestionJobDto {
+    private Long id;
+    private Long batchId;
+    private String fileName;
+    private IngestionJobStatus status;
+    private Integer totalFaculty;
+    private int processedFaculty;
+    private int failedFaculty;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+}
@@ -11,5 +11,5 @@ import lombok.NoArgsConstructor;
 public class FacultySummaryDto {
     private String faculty_id;
     private String name;
-    private int publication_count;
+    private long publication_count;
 }
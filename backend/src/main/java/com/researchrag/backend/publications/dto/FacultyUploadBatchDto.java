@@ -15,5 +15,5 @@ public class FacultyUploadBatchDto {
     private Long id;
     private String fileName;
     private LocalDateTime uploadDate;
-    private int facultyCount;
+    private long facultyCount;
 }
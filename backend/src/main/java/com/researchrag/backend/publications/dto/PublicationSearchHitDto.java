@@ -0,0 +1,23 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationSearchHitDto {
+    private Long id;
+    private String facultyId;
+    private String facultyName;
+    private String title;
+    private String authors;
+    private String publicationSource;
+    private Integer year;
+    private Integer citations;
+    private String link;
+    private float score;
+}
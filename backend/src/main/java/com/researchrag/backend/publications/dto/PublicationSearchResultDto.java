@@ -0,0 +1,24 @@
+package com.researchrag.backend.publications.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PublicationSearchResultDto {
+    private List<PublicationSearchHitDto> content;
+    private long totalHits;
+    // False when totalHits is only a lower bound
+    private boolean totalHitsExact;
+    private int page;
+    private int size;
+    // False while the startup rebuild is still running and results may be incomplete
+    private boolean indexReady;
+    private long tookMillis;
+}
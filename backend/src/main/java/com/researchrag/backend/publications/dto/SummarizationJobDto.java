@@ -0,0 +1,31 @@
+package com.researchrag.backend.publications.dto;
+
+import com.researchrag.backend.publications.SummarizationJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummarizationJobDto {
+    private Long id;
+    private Long batchId;
+    private SummarizationJobStatus status;
+    private Integer fromYear;
+    private Integer toYear;
+    private int parallelism;
+    private int totalFaculty;
+    private int completedFaculty;
+    private int failedFaculty;
+    private boolean cancelRequested;
+    private String errorMessage;
+    private LocalDateTime createdAt;
+    private LocalDateTime finishedAt;
+    private List<SummarizationJobItemDto> items;
+}
@@ -0,0 +1,20 @@
+package com.researchrag.backend.publications.dto;
+
+import com.researchrag.backend.publications.SummarizationItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SummarizationJobItemDto {
+    private String facultyId;
+    private SummarizationItemStatus status;
+    private String errorMessage;
+    private LocalDateTime finishedAt;
+}
@@ -1,5 +1,6 @@
 package com.researchrag.backend.qaapi.controller;
 
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.researchrag.backend.qaapi.dto.QaHistoryResponse;
 import com.researchrag.backend.qaapi.dto.QaRequest;
 import com.researchrag.backend.qaapi.dto.QaResponse;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,9 +33,14 @@ public class QaController {
     @GetMapping("/history/{documentId}")
     public ResponseEntity<List<QaHistoryResponse>> getHistory(
             @PathVariable Long documentId,
-            @AuthenticationPrincipal User user
+            @AuthenticationPrincipal User user,
+            WebRequest webRequest
     ) {
+        String etag = qaService.getHistoryStamp(documentId, user).etag("qa-" + documentId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<QaHistoryResponse> history = qaService.getHistory(documentId, user);
-        return ResponseEntity.ok(history);
+        return ResponseEntity.ok().cacheControl(ChangeStamp.CACHE_CONTROL).eTag(etag).body(history);
     }
 }
@@ -1,7 +1,10 @@
 package com.researchrag.backend.qaapi.repo;
 
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.researchrag.backend.qaapi.model.QaInteraction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.jpa.repository.Modifying;
@@ -13,6 +16,11 @@ import java.util.List;
 public interface QaInteractionRepository extends JpaRepository<QaInteraction, Long> {
     List<QaInteraction> findByDocumentIdAndUserIdOrderByTimestampAsc(Long documentId, Integer userId);
 
+    // Interactions are append-only, so count and highest id are enough to detect a change
+    @Query("SELECT new com.researchrag.backend.common.web.ChangeStamp(COUNT(q), COALESCE(MAX(q.id), 0), 0L) " +
+           "FROM QaInteraction q WHERE q.document.id = :documentId AND q.user.id = :userId")
+    ChangeStamp findChangeStamp(@Param("documentId") Long documentId, @Param("userId") Integer userId);
+
     @Modifying
     void deleteByDocumentId(Long documentId);
 }
@@ -0,0 +1,28 @@
+package com.researchrag.backend.qaapi.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * Redis keys for cached answers: the document id plus a SHA-256 of the question, so arbitrarily long
+ * questions map to fixed-size keys.
+ */
+public final class QaCacheKeys {
+
+    private static final String PREFIX = "qa_query:";
+
+    private QaCacheKeys() {
+    }
+
+    public static String forQuestion(Long documentId, String question) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(question.getBytes(StandardCharsets.UTF_8));
+            return PREFIX + documentId + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.researchrag.backend.qaapi.service;
 
+import com.researchrag.backend.common.web.ChangeStamp;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.researchrag.backend.documentapi.dto.PythonQueryRequest;
@@ -21,8 +22,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
-import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.concurrent.TimeUnit;
@@ -46,7 +45,7 @@ public class QaService {
     private String ragServiceBaseUrl;
 
     public QaResponse askQuestion(QaRequest qaRequest, User user) {
-        String cacheKey = generateCacheKey(qaRequest.getDocumentId(), qaRequest.getQuestion());
+        String cacheKey = QaCacheKeys.forQuestion(qaRequest.getDocumentId(), qaRequest.getQuestion());
 
         // Try to retrieve from cache
         String cachedResponse = redisTemplate.opsForValue().get(cacheKey);
@@ -114,6 +113,10 @@ public class QaService {
                 .build();
     }
 
+    public ChangeStamp getHistoryStamp(Long documentId, User user) {
+        return qaInteractionRepository.findChangeStamp(documentId, user.getId());
+    }
+
     public List<QaHistoryResponse> getHistory(Long documentId, User user) {
         List<QaInteraction> interactions = qaInteractionRepository.findByDocumentIdAndUserIdOrderByTimestampAsc(documentId, user.getId());
         return interactions.stream()
@@ -124,21 +127,4 @@ public class QaService {
                         .build())
                 .collect(Collectors.toList());
     }
-
-    private String generateCacheKey(Long documentId, String question) {
-        try {
-            MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] hash = digest.digest(question.getBytes());
-            StringBuilder hexString = new StringBuilder();
-            for (byte b : hash) {
-                String hex = Integer.toHexString(0xff & b);
-                if (hex.length() == 1) hexString.append('0');
-                hexString.append(hex);
-            }
-            return "qa_query:" + documentId + ":" + hexString.toString();
-        } catch (NoSuchAlgorithmException e) {
-            logger.error("SHA-256 algorithm not found, falling back to simple key generation", e);
-            return "qa_query:" + documentId + ":" + question.hashCode(); // Fallback
-        }
-    }
 }
@@ -4,11 +4,13 @@ package com.researchrag.backend.userapi.auth;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.researchrag.backend.common.config.JwtService;
 import com.researchrag.backend.userapi.token.Token;
+import com.researchrag.backend.userapi.token.TokenDenylist;
 import com.researchrag.backend.userapi.token.TokenRepository;
 import com.researchrag.backend.userapi.token.TokenType;
 import com.researchrag.backend.userapi.user.Role;
 import com.researchrag.backend.userapi.user.User;
 import com.researchrag.backend.userapi.user.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +33,7 @@ public class AuthenticationService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final TokenDenylist tokenDenylist;
 
     public AuthenticationResponse register(RegisterRequest request) {
         var user = User.builder()
@@ -70,7 +75,8 @@ public class AuthenticationService {
     private void saveUserToken(User user, String jwtToken) {
         var token = Token.builder()
                 .user(user)
-                .token(jwtToken)
+                .tokenHash(Token.hashOf(jwtToken))
+                .expiresAt(LocalDateTime.ofInstant(jwtService.parseValidClaims(jwtToken).getExpiration().toInstant(), ZoneId.systemDefault()))
                 .tokenType(TokenType.BEARER)
                 .expired(false)
                 .revoked(false)
@@ -82,11 +88,10 @@ public class AuthenticationService {
         var validUserTokens = tokenRepository.findAllValidTokenByUser(user.getId());
         if (validUserTokens.isEmpty())
             return;
-        validUserTokens.forEach(token -> {
-            token.setExpired(true);
-            token.setRevoked(true);
-        });
-        tokenRepository.saveAll(validUserTokens);
+        // The filter no longer reads the token table for new tokens, so revocation has to reach the denylist
+        validUserTokens.forEach(token -> tokenDenylist.deny(token.getTokenHash(),
+                token.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+        tokenRepository.revokeAllByUserId(user.getId(), LocalDateTime.now());
     }
 
     public void refreshToken(HttpServletRequest request, HttpServletResponse response) throws IOException {
@@ -97,7 +102,11 @@ public class AuthenticationService {
             return;
         }
         refreshToken = authHeader.substring(7);
-        userEmail = jwtService.extractUsername(refreshToken);
+        Claims claims = jwtService.parseValidClaims(refreshToken);
+        if (claims == null || JwtService.ACCESS_TYPE.equals(claims.get(JwtService.TYPE_CLAIM))) {
+            return;
+        }
+        userEmail = claims.getSubject();
         if (userEmail != null) {
             var user = this.userRepository.findByEmail(userEmail)
                     .orElseThrow();
@@ -8,26 +8,42 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Table(indexes = {
+    @Index(name = "idx_token_user_state", columnList = "user_id, revoked, expired"),
+    @Index(name = "idx_token_expires_at", columnList = "expires_at")
+})
 public class Token {
 
   @Id
   @GeneratedValue
   public Integer id;
 
-  @Column(unique = true)
-  public String token;
+  // SHA-256 of the JWT; the token itself is never stored. Kept in sync with V10__Hash_Token_Storage.sql
+  @Column(name = "token_hash", unique = true, nullable = false, length = 64, columnDefinition = "CHAR(64)")
+  public String tokenHash;
+
+  @Column(name = "expires_at", nullable = false)
+  public LocalDateTime expiresAt;
 
   @Enumerated(EnumType.STRING)
   public TokenType tokenType = TokenType.BEARER;
@@ -39,4 +55,13 @@ public class Token {
   @ManyToOne(fetch = FetchType.LAZY)
   @JoinColumn(name = "user_id")
   public User user;
+
+  public static String hashOf(String token) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException("SHA-256 is not available", e);
+    }
+  }
 }
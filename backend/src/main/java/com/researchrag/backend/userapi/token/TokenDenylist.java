@@ -0,0 +1,103 @@
+package com.researchrag.backend.userapi.token;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import io.jsonwebtoken.Claims;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Revoked tokens that have not expired yet. Lookups only touch the local map; revocations are written to
+ * Redis (so restarted nodes can reload them) and broadcast over the cache invalidation bus (so running
+ * nodes learn about them without polling). Entries are keyed by the SHA-256 of the token and dropped
+ * once the token would have expired anyway.
+ */
+@Component
+public class TokenDenylist {
+
+    private static final Logger logger = LoggerFactory.getLogger(TokenDenylist.class);
+    private static final String NAMESPACE = "jwt-denylist";
+    private static final String KEY_PREFIX = "auth:denylist:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    // token hash -> epoch millis at which the token expires
+    private final Map<String, Long> denied = new ConcurrentHashMap<>();
+
+    public TokenDenylist(RedisTemplate<String, String> redisTemplate, CacheInvalidationBus cacheInvalidationBus) {
+        this.redisTemplate = redisTemplate;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(NAMESPACE, this::onRevoked);
+    }
+
+    public boolean isDenied(String token) {
+        Long expiresAt = denied.get(Token.hashOf(token));
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    /**
+     * Denies the token on every node until it expires. Tokens that are already invalid need no entry.
+     */
+    public void deny(String token, Claims claims) {
+        if (claims == null || claims.getExpiration() == null) {
+            return;
+        }
+        deny(Token.hashOf(token), claims.getExpiration().getTime());
+    }
+
+    /**
+     * Denies the token with this {@link Token#hashOf hash} on every node until {@code expiresAt} (epoch millis).
+     */
+    public void deny(String tokenHash, long expiresAt) {
+        long ttlMillis = expiresAt - System.currentTimeMillis();
+        if (ttlMillis <= 0) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + tokenHash, String.valueOf(expiresAt), ttlMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // Still denied on every running node through the broadcast, only a restart would forget it
+            logger.warn("Failed to persist revoked token to Redis: {}", e.getMessage());
+        }
+        cacheInvalidationBus.publish(NAMESPACE, tokenHash + ":" + expiresAt);
+    }
+
+    private void onRevoked(String key) {
+        int separator = key.lastIndexOf(':');
+        denied.put(key.substring(0, separator), Long.parseLong(key.substring(separator + 1)));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadFromRedis() {
+        int loaded = 0;
+        try (Cursor<String> keys = redisTemplate.scan(ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build())) {
+            while (keys.hasNext()) {
+                String key = keys.next();
+                String expiresAt = redisTemplate.opsForValue().get(key);
+                if (expiresAt != null) {
+                    denied.put(key.substring(KEY_PREFIX.length()), Long.parseLong(expiresAt));
+                    loaded++;
+                }
+            }
+            logger.info("Loaded {} revoked tokens from Redis", loaded);
+        } catch (Exception e) {
+            logger.error("Failed to load revoked tokens from Redis: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${application.security.denylist.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        long now = System.currentTimeMillis();
+        denied.values().removeIf(expiresAt -> expiresAt <= now);
+    }
+}
@@ -1,17 +1,35 @@
 package com.researchrag.backend.userapi.token;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface TokenRepository extends JpaRepository<Token, Integer> {
 
   @Query(value = "select t from Token t where t.user.id = :id and t.expired = false and t.revoked = false")
   List<Token> findAllValidTokenByUser(Integer id);
 
-  Optional<Token> findByToken(String token);
+  Optional<Token> findByTokenHash(String tokenHash);
+
+  /**
+   * Revokes every active token of the user in one statement. The expiry is pulled forward to now,
+   * so compaction can delete the rows right away.
+   */
+  @Transactional
+  @Modifying
+  @Query("update Token t set t.revoked = true, t.expired = true, t.expiresAt = :now " +
+         "where t.user.id = :userId and t.revoked = false and t.expired = false")
+  int revokeAllByUserId(@Param("userId") Integer userId, @Param("now") LocalDateTime now);
+
+  @Transactional
+  @Modifying
+  @Query("update Token t set t.revoked = true, t.expired = true, t.expiresAt = :now where t.tokenHash = :tokenHash")
+  int revokeByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
 
   @Modifying
   @Query("delete from Token t where t.user.id = ?1")
@@ -0,0 +1,92 @@
+package com.researchrag.backend.userapi.user;
+
+import com.researchrag.backend.common.cache.CacheInvalidationBus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Users resolved by the JWT filter, keyed by email, so authenticated requests do not query the users table.
+ * Entries expire after a short TTL and are evicted on every node when the user changes; beyond
+ * {@code max-size} entries the least recently used one is dropped.
+ * Each call returns a copy, so a request that edits its principal cannot leak the edit into other requests.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private static final String NAMESPACE = "user-principal";
+
+    private record Entry(User user, long loadedAt) {
+    }
+
+    private final UserRepository userRepository;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    // Access-ordered, so even a get reorders it; every access holds the map's lock
+    private final Map<String, Entry> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxSize;
+        }
+    };
+
+    @Value("${application.security.principal-cache.ttl-ms:300000}")
+    private long ttlMillis;
+
+    @Value("${application.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    public UserPrincipalCache(UserRepository userRepository, CacheInvalidationBus cacheInvalidationBus) {
+        this.userRepository = userRepository;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+        cacheInvalidationBus.register(NAMESPACE, this::remove);
+    }
+
+    /**
+     * @return a copy of the user, or {@code null} if no user has this email
+     */
+    public User get(String email) {
+        long now = System.currentTimeMillis();
+        Entry entry;
+        synchronized (cache) {
+            entry = cache.get(email);
+        }
+        if (entry == null || now - entry.loadedAt() > ttlMillis) {
+            User user = userRepository.findByEmail(email).orElse(null);
+            if (user == null) {
+                remove(email);
+                return null;
+            }
+            entry = new Entry(user, now);
+            synchronized (cache) {
+                cache.put(email, entry);
+            }
+        }
+        return copy(entry.user());
+    }
+
+    /**
+     * Drops the user on every node, after the current transaction commits.
+     */
+    public void evict(String email) {
+        cacheInvalidationBus.publish(NAMESPACE, email);
+    }
+
+    private void remove(String email) {
+        synchronized (cache) {
+            cache.remove(email);
+        }
+    }
+
+    private static User copy(User user) {
+        return User.builder()
+                .id(user.getId())
+                .firstName(user.getFirstName())
+                .lastName(user.getLastName())
+                .email(user.getEmail())
+                .password(user.getPassword())
+                .role(user.getRole())
+                .build();
+    }
+}
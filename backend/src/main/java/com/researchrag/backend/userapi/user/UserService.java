@@ -16,6 +16,7 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final TokenRepository tokenRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     public void changePassword(ChangePasswordRequest request, Principal connectedUser) {
 
@@ -30,6 +31,7 @@ public class UserService {
 
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
     }
 
     public UserDto getMyInfo(Principal connectedUser) {
@@ -48,6 +50,7 @@ public class UserService {
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
         userRepository.save(user);
+        userPrincipalCache.evict(user.getEmail());
     }
 
     @Transactional
@@ -55,5 +58,6 @@ public class UserService {
         var user = (User) ((UsernamePasswordAuthenticationToken) connectedUser).getPrincipal();
         tokenRepository.deleteAllByUserId(user.getId());
         userRepository.delete(user);
+        userPrincipalCache.evict(user.getEmail());
     }
 }
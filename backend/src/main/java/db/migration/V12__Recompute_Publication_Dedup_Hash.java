@@ -0,0 +1,103 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Recomputes publication.dedup_hash with the Java normalization of {@code Publication.dedupHash}. The SQL backfill
+ * in V3 normalized with MySQL's Unicode-aware {@code [[:space:]]}, LOWER and TRIM, which differ from the Java
+ * normalization for non-ASCII whitespace and letters, so re-ingesting such a publication inserted a duplicate
+ * instead of updating it.
+ *
+ * <p>The normalization is copied into {@link #dedupHash} as it stood when this migration was written, so running it
+ * on a fresh database later gives the same hashes it gave in production. Rows are read in pages by id, so the
+ * table is never held in memory.
+ */
+public class V12__Recompute_Publication_Dedup_Hash extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final String MIGRATING_PREFIX = "migrating-";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private record Row(long id, long facultyId, String title, Integer year, String dedupHash) {
+    }
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+
+        // Move the changed rows out of the way first, so no intermediate state collides on uk_publication_faculty_hash
+        long lastId = 0;
+        List<Row> page;
+        do {
+            page = page(jdbcTemplate, "", lastId);
+            List<Row> changed = page.stream()
+                    .filter(row -> !dedupHash(row.title(), row.year()).equals(row.dedupHash()))
+                    .toList();
+            jdbcTemplate.batchUpdate("UPDATE publication SET dedup_hash = ? WHERE id = ?", changed, PAGE_SIZE,
+                    (ps, row) -> {
+                        ps.setString(1, MIGRATING_PREFIX + row.id());
+                        ps.setLong(2, row.id());
+                    });
+            lastId = page.isEmpty() ? lastId : page.get(page.size() - 1).id();
+        } while (page.size() == PAGE_SIZE);
+
+        // A corrected hash can now equal another row's; as in V3, the oldest row of each group is kept. Row by row,
+        // since each outcome decides what the next moved row collides with; only the moved rows are visited
+        lastId = 0;
+        do {
+            page = page(jdbcTemplate, " AND dedup_hash LIKE '" + MIGRATING_PREFIX + "%'", lastId);
+            for (Row row : page) {
+                String hash = dedupHash(row.title(), row.year());
+                List<Long> existing = jdbcTemplate.queryForList(
+                        "SELECT id FROM publication WHERE faculty_id = ? AND dedup_hash = ?", Long.class, row.facultyId(), hash);
+                if (!existing.isEmpty() && existing.get(0) < row.id()) {
+                    jdbcTemplate.update("DELETE FROM publication WHERE id = ?", row.id());
+                    continue;
+                }
+                if (!existing.isEmpty()) {
+                    jdbcTemplate.update("DELETE FROM publication WHERE id = ?", existing.get(0));
+                }
+                jdbcTemplate.update("UPDATE publication SET dedup_hash = ? WHERE id = ?", hash, row.id());
+            }
+            lastId = page.isEmpty() ? lastId : page.get(page.size() - 1).id();
+        } while (page.size() == PAGE_SIZE);
+    }
+
+    private static List<Row> page(JdbcTemplate jdbcTemplate, String condition, long afterId) {
+        List<Row> rows = new ArrayList<>(PAGE_SIZE);
+        jdbcTemplate.query("SELECT id, faculty_id, title, year, dedup_hash FROM publication WHERE id > ?" + condition
+                        + " ORDER BY id LIMIT " + PAGE_SIZE,
+                rs -> {
+                    int year = rs.getInt("year");
+                    rows.add(new Row(rs.getLong("id"), rs.getLong("faculty_id"), rs.getString("title"),
+                            rs.wasNull() ? null : year, rs.getString("dedup_hash")));
+                }, afterId);
+        return rows;
+    }
+
+    /**
+     * Frozen copy of {@code Publication.dedupHash}; do not change it along with that method.
+     */
+    static String dedupHash(String title, Integer year) {
+        String normalizedTitle = title == null ? "" : WHITESPACE.matcher(title).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+        String key = normalizedTitle + "|" + (year == null ? 0 : year);
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(key.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+-- Store a fixed-width SHA-256 of each JWT instead of the token itself, plus its expiry for compaction.
+ALTER TABLE token ADD COLUMN token_hash CHAR(64) NULL;
+ALTER TABLE token ADD COLUMN expires_at DATETIME NULL;
+
+UPDATE token SET token_hash = SHA2(token, 256);
+
+-- The JWT expiry is not queryable from SQL; existing access tokens live at most
+-- application.security.jwt.expiration (24 hours by default) from now.
+UPDATE token SET expires_at = CASE WHEN revoked OR expired THEN NOW() ELSE NOW() + INTERVAL 1 DAY END;
+
+ALTER TABLE token MODIFY token_hash CHAR(64) NOT NULL;
+ALTER TABLE token MODIFY expires_at DATETIME NOT NULL;
+ALTER TABLE token DROP COLUMN token;
+
+CREATE UNIQUE INDEX uk_token_hash ON token (token_hash);
+CREATE INDEX idx_token_user_state ON token (user_id, revoked, expired);
+CREATE INDEX idx_token_expires_at ON token (expires_at);
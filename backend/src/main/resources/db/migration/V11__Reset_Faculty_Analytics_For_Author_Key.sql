@@ -0,0 +1,7 @@
+-- AuthorNames.key() now folds accents and punctuation, which changes coauthor_key and which author entries
+-- count as the faculty member themselves. Drop the aggregates written with the old key; the startup backfill
+-- (publications.analytics.backfill-on-startup=missing) recomputes every faculty without year stats, and an
+-- ingestion that runs first recomputes its faculty in full.
+DELETE FROM faculty_coauthor_stats;
+DELETE FROM faculty_venue_stats;
+DELETE FROM faculty_year_stats;
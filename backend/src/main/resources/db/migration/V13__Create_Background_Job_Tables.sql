@@ -0,0 +1,66 @@
+-- Faculty ingestion and batch summarization jobs. Databases that ran with ddl-auto=update may already have
+-- these tables, so they are only created when missing and the heartbeat column is added where it is absent.
+CREATE TABLE IF NOT EXISTS faculty_ingestion_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    -- Plain column rather than a foreign key, so deleting a batch never touches its job history
+    batch_id BIGINT NULL,
+    file_name VARCHAR(255) NULL,
+    user_id INT NULL,
+    status VARCHAR(32) NULL,
+    total_faculty INT NULL,
+    processed_faculty INT NOT NULL DEFAULT 0,
+    failed_faculty INT NOT NULL DEFAULT 0,
+    error_message VARCHAR(2000) NULL,
+    created_at DATETIME(6) NULL,
+    started_at DATETIME(6) NULL,
+    finished_at DATETIME(6) NULL,
+    heartbeat_at DATETIME(6) NULL,
+    KEY idx_faculty_ingestion_job_status (status),
+    CONSTRAINT fk_faculty_ingestion_job_user FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE IF NOT EXISTS summarization_job (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    batch_id BIGINT NULL,
+    user_id INT NULL,
+    status VARCHAR(32) NULL,
+    from_year INT NULL,
+    to_year INT NULL,
+    parallelism INT NOT NULL,
+    total_faculty INT NOT NULL,
+    completed_faculty INT NOT NULL DEFAULT 0,
+    failed_faculty INT NOT NULL DEFAULT 0,
+    cancel_requested BIT NOT NULL DEFAULT 0,
+    error_message VARCHAR(2000) NULL,
+    created_at DATETIME(6) NULL,
+    started_at DATETIME(6) NULL,
+    finished_at DATETIME(6) NULL,
+    heartbeat_at DATETIME(6) NULL,
+    KEY idx_summarization_job_status (status),
+    CONSTRAINT fk_summarization_job_user FOREIGN KEY (user_id) REFERENCES users(id)
+);
+
+CREATE TABLE IF NOT EXISTS summarization_job_item (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    job_id BIGINT NULL,
+    faculty_id VARCHAR(255) NULL,
+    status VARCHAR(32) NULL,
+    error_message VARCHAR(2000) NULL,
+    finished_at DATETIME(6) NULL,
+    KEY idx_summarization_item_job (job_id)
+);
+
+-- MySQL has no ADD COLUMN IF NOT EXISTS
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE faculty_ingestion_job ADD COLUMN heartbeat_at DATETIME(6) NULL', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'faculty_ingestion_job' AND column_name = 'heartbeat_at');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE summarization_job ADD COLUMN heartbeat_at DATETIME(6) NULL', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'summarization_job' AND column_name = 'heartbeat_at');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
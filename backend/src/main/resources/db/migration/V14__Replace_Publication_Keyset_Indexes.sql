@@ -0,0 +1,6 @@
+-- Article paging seeks on (year, id) or (citations, id) within one faculty, so the index has to end in id to
+-- serve the keyset and the ORDER BY; V4's (faculty_id, year, citations) could only serve the year sort.
+-- The new indexes are created first so the faculty_id foreign key is never left without one.
+CREATE INDEX idx_publication_faculty_year_id ON publication (faculty_id, year, id);
+CREATE INDEX idx_publication_faculty_citations_id ON publication (faculty_id, citations, id);
+DROP INDEX idx_publication_faculty_year_citations ON publication;
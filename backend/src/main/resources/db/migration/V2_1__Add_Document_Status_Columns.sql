@@ -0,0 +1,16 @@
+-- Worker callback state on documents: the failure reason and the highest callback sequence applied, which
+-- rejects stale or repeated callbacks. Databases that ran with ddl-auto=update may already have the columns.
+-- MySQL has no ADD COLUMN IF NOT EXISTS
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE documents ADD COLUMN error_message VARCHAR(2000) NULL', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'documents' AND column_name = 'error_message');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
+
+SET @ddl = (SELECT IF(COUNT(*) = 0, 'ALTER TABLE documents ADD COLUMN status_sequence BIGINT NULL', 'DO 0')
+            FROM information_schema.columns
+            WHERE table_schema = DATABASE() AND table_name = 'documents' AND column_name = 'status_sequence');
+PREPARE stmt FROM @ddl;
+EXECUTE stmt;
+DEALLOCATE PREPARE stmt;
@@ -0,0 +1,18 @@
+-- Publications are deduplicated per faculty on a normalized (title, year) key.
+-- The normalization must match Publication.dedupHash(): collapse whitespace, trim, lower-case,
+-- then SHA-256 over "<title>|<year>" with a missing year stored as 0.
+ALTER TABLE publication ADD COLUMN dedup_hash CHAR(64) NULL;
+
+UPDATE publication
+SET dedup_hash = SHA2(CONCAT(LOWER(TRIM(REGEXP_REPLACE(COALESCE(title, ''), '[[:space:]]+', ' '))), '|', COALESCE(year, 0)), 256);
+
+-- Normalization can merge rows the old exact-match check kept apart; keep the oldest of each group.
+DELETE p1 FROM publication p1
+JOIN publication p2
+  ON p1.faculty_id = p2.faculty_id
+ AND p1.dedup_hash = p2.dedup_hash
+ AND p1.id > p2.id;
+
+ALTER TABLE publication MODIFY dedup_hash CHAR(64) NOT NULL;
+
+CREATE UNIQUE INDEX uk_publication_faculty_hash ON publication (faculty_id, dedup_hash);
@@ -0,0 +1,2 @@
+-- Supports per-faculty article paging filtered on year and sorted by year or citations.
+CREATE INDEX idx_publication_faculty_year_citations ON publication (faculty_id, year, citations);
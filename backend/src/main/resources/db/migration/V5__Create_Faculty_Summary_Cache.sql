@@ -0,0 +1,15 @@
+-- Generated LLM summaries, one row per faculty and year range.
+-- An open-ended bound is stored as 0 so the range can take part in the unique key.
+-- A row is only served while its fingerprint matches the publications currently in the range.
+CREATE TABLE faculty_summary_cache (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    faculty_id BIGINT NOT NULL,
+    from_year INT NOT NULL,
+    to_year INT NOT NULL,
+    fingerprint CHAR(64) NOT NULL,
+    summary TEXT NOT NULL,
+    publication_count INT NOT NULL,
+    generated_at DATETIME NOT NULL,
+    CONSTRAINT fk_summary_cache_faculty FOREIGN KEY (faculty_id) REFERENCES faculty(id) ON DELETE CASCADE,
+    UNIQUE KEY uk_summary_cache_faculty_range (faculty_id, from_year, to_year)
+);
@@ -0,0 +1,28 @@
+-- Per-faculty bibliometric aggregates, maintained incrementally by ingestion and backfilled by
+-- FacultyAnalyticsService. Year 0 collects publications without a known year.
+CREATE TABLE faculty_year_stats (
+    faculty_id BIGINT NOT NULL,
+    year INT NOT NULL,
+    publication_count INT NOT NULL,
+    citation_count BIGINT NOT NULL,
+    PRIMARY KEY (faculty_id, year),
+    CONSTRAINT fk_year_stats_faculty FOREIGN KEY (faculty_id) REFERENCES faculty(id) ON DELETE CASCADE
+);
+
+CREATE TABLE faculty_venue_stats (
+    faculty_id BIGINT NOT NULL,
+    venue VARCHAR(255) NOT NULL,
+    publication_count INT NOT NULL,
+    citation_count BIGINT NOT NULL,
+    PRIMARY KEY (faculty_id, venue),
+    CONSTRAINT fk_venue_stats_faculty FOREIGN KEY (faculty_id) REFERENCES faculty(id) ON DELETE CASCADE
+);
+
+CREATE TABLE faculty_coauthor_stats (
+    faculty_id BIGINT NOT NULL,
+    coauthor_key VARCHAR(191) NOT NULL,
+    display_name VARCHAR(255) NOT NULL,
+    publication_count INT NOT NULL,
+    PRIMARY KEY (faculty_id, coauthor_key),
+    CONSTRAINT fk_coauthor_stats_faculty FOREIGN KEY (faculty_id) REFERENCES faculty(id) ON DELETE CASCADE
+);
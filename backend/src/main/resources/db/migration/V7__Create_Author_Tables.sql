@@ -0,0 +1,22 @@
+-- Normalized authors parsed from publication.authors. name_key is AuthorNames.key() and is compared
+-- byte-wise so MySQL collation rules cannot merge keys the application keeps apart.
+CREATE TABLE author (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name_key VARCHAR(191) COLLATE utf8mb4_bin NOT NULL,
+    display_name VARCHAR(255) NOT NULL,
+    -- Set when the author entry was recognised as one of our faculty on their own publications
+    faculty_id BIGINT NULL,
+    UNIQUE KEY uk_author_name_key (name_key),
+    KEY idx_author_faculty (faculty_id),
+    CONSTRAINT fk_author_faculty FOREIGN KEY (faculty_id) REFERENCES faculty(id) ON DELETE SET NULL
+);
+
+CREATE TABLE publication_author (
+    publication_id BIGINT NOT NULL,
+    author_id BIGINT NOT NULL,
+    position INT NOT NULL,
+    PRIMARY KEY (publication_id, author_id),
+    KEY idx_publication_author_author (author_id, publication_id),
+    CONSTRAINT fk_publication_author_publication FOREIGN KEY (publication_id) REFERENCES publication(id) ON DELETE CASCADE,
+    CONSTRAINT fk_publication_author_author FOREIGN KEY (author_id) REFERENCES author(id) ON DELETE CASCADE
+);
@@ -0,0 +1,9 @@
+-- Staleness tracking for the incremental profile refresh.
+ALTER TABLE faculty ADD COLUMN last_fetched_at DATETIME NULL;
+ALTER TABLE faculty ADD COLUMN content_hash CHAR(64) NULL;
+
+-- Best known fetch time for existing rows: the last upload that included the faculty.
+UPDATE faculty f
+SET last_fetched_at = (SELECT MAX(a.association_date) FROM faculty_batch_association a WHERE a.faculty_id = f.id);
+
+CREATE INDEX idx_faculty_last_fetched_at ON faculty (last_fetched_at);
@@ -0,0 +1,4 @@
+-- Change counters behind the ETags of document lists, faculty profiles and article pages.
+-- Bumped by @PreUpdate for entity writes and explicitly by the JDBC/bulk status and summary updates.
+ALTER TABLE documents ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE faculty ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
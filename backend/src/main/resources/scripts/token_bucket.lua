@@ -0,0 +1,39 @@
+-- Token bucket for one (user, endpoint class). Runs atomically inside Redis, so every backend node shares it.
+-- KEYS[1]  bucket hash {tokens, ts}
+-- ARGV[1]  capacity (tokens)
+-- ARGV[2]  refill rate (tokens per millisecond)
+-- ARGV[3]  tokens to take at most (optional, default 1); the caller spends the extra ones locally
+-- Returns {tokens taken (0 when denied), remaining tokens, ms until the next token, ms until the bucket is full}
+local capacity = tonumber(ARGV[1])
+local refill_per_ms = tonumber(ARGV[2])
+local wanted = tonumber(ARGV[3]) or 1
+
+-- Redis' own clock, so nodes with skewed clocks still agree on the refill
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(state[1])
+local ts = tonumber(state[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * refill_per_ms)
+
+local taken = math.min(wanted, math.floor(tokens))
+if taken >= 1 then
+    tokens = tokens - taken
+else
+    taken = 0
+end
+
+local ms_to_full = math.ceil((capacity - tokens) / refill_per_ms)
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+redis.call('PEXPIRE', KEYS[1], math.max(ms_to_full, 1000))
+
+local ms_to_next = 0
+if taken == 0 then
+    ms_to_next = math.ceil((1 - tokens) / refill_per_ms)
+end
+return {taken, math.floor(tokens), ms_to_next, ms_to_full}
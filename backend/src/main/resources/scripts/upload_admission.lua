@@ -0,0 +1,30 @@
+-- Reserves an upload slot. Runs atomically inside Redis, so two nodes cannot both take the last queue slot.
+-- A reservation stands for an admitted upload that is not yet visible elsewhere: not yet pushed onto the
+-- queue, not yet saved as an in-flight document. It is released once it is, or expires if its node dies.
+-- KEYS[1]  processing queue (list)
+-- KEYS[2]  queue reservations (sorted set, token -> expiry ms)
+-- KEYS[3]  the user's reservations (sorted set, token -> expiry ms)
+-- ARGV[1]  reservation token
+-- ARGV[2]  max queue depth
+-- ARGV[3]  reservation ttl (ms)
+-- Returns {queued (1 if a queue slot was reserved, 0 if the queue is full), queue depth including other
+-- reservations, the user's reservations including this one}
+local max_depth = tonumber(ARGV[2])
+local ttl = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', now)
+redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', now)
+
+local depth = redis.call('LLEN', KEYS[1]) + redis.call('ZCARD', KEYS[2])
+local queued = 0
+if depth < max_depth then
+    redis.call('ZADD', KEYS[2], now + ttl, ARGV[1])
+    redis.call('PEXPIRE', KEYS[2], ttl)
+    queued = 1
+end
+redis.call('ZADD', KEYS[3], now + ttl, ARGV[1])
+redis.call('PEXPIRE', KEYS[3], ttl)
+
+return {queued, depth, redis.call('ZCARD', KEYS[3])}
@@ -0,0 +1,144 @@
+package com.researchrag.backend.common.ratelimit;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The refill math of {@code scripts/token_bucket.lua}, run against a real Redis. The script reads Redis' clock,
+ * so elapsed time is simulated by moving the bucket's stored timestamp into the past.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class TokenBucketScriptTest {
+
+    private static final String KEY = "ratelimit:test:bucket";
+    // One token per second
+    private static final double REFILL_PER_MS = 0.001;
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+    private static DefaultRedisScript<List> script;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+        script = new DefaultRedisScript<>();
+        script.setLocation(new ClassPathResource("scripts/token_bucket.lua"));
+        script.setResultType(List.class);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void clearBucket() {
+        redisTemplate.delete(KEY);
+    }
+
+    @Test
+    void newBucketStartsFull() {
+        assertThat(take(3)).containsExactly(1L, 2L, 0L, 1000L);
+    }
+
+    @Test
+    void emptyBucketIsDeniedUntilTheNextToken() {
+        take(2);
+        take(2);
+
+        List<Long> denied = take(2);
+
+        assertThat(denied.get(0)).isEqualTo(0L);
+        assertThat(denied.get(1)).isEqualTo(0L);
+        // Only the few milliseconds between the calls have refilled
+        assertThat(denied.get(2)).isBetween(900L, 1000L);
+        assertThat(denied.get(3)).isBetween(1900L, 2000L);
+    }
+
+    @Test
+    void refillIsProportionalToElapsedTime() {
+        storeBucket(0, serverMillis() - 5_000);
+
+        List<Long> result = take(10);
+
+        // 5 s at one token per second, minus the one taken
+        assertThat(result.get(0)).isEqualTo(1L);
+        assertThat(result.get(1)).isEqualTo(4L);
+        assertThat(result.get(3)).isBetween(5_900L, 6_000L);
+    }
+
+    @Test
+    void refillStopsAtCapacity() {
+        storeBucket(0, serverMillis() - 3_600_000);
+
+        assertThat(take(10).get(1)).isEqualTo(9L);
+    }
+
+    @Test
+    void timestampInTheFutureAddsNoTokens() {
+        storeBucket(0.5, serverMillis() + 60_000);
+
+        List<Long> denied = take(10);
+
+        assertThat(denied.get(0)).isEqualTo(0L);
+        assertThat(denied.get(2)).isEqualTo(500L);
+    }
+
+    @Test
+    void leaseTakesUpToTheRequestedTokens() {
+        assertThat(take(10, 4)).containsExactly(4L, 6L, 0L, 4000L);
+
+        storeBucket(2.5, serverMillis());
+        // Only whole tokens can be leased
+        assertThat(take(10, 4).subList(0, 2)).containsExactly(2L, 0L);
+    }
+
+    @Test
+    void bucketExpiresOnceItWouldBeFull() {
+        take(10);
+
+        Long ttl = redisTemplate.getExpire(KEY, TimeUnit.MILLISECONDS);
+        assertThat(ttl).isBetween(1L, 1000L);
+    }
+
+    private static List<Long> take(int capacity) {
+        return take(capacity, 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Long> take(int capacity, int lease) {
+        return (List<Long>) redisTemplate.execute(script, List.of(KEY),
+                String.valueOf(capacity), String.valueOf(REFILL_PER_MS), String.valueOf(lease));
+    }
+
+    private static void storeBucket(double tokens, long timestampMillis) {
+        redisTemplate.opsForHash().putAll(KEY, Map.of("tokens", String.valueOf(tokens), "ts", String.valueOf(timestampMillis)));
+    }
+
+    private static long serverMillis() {
+        return redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().time());
+    }
+}
@@ -0,0 +1,87 @@
+package com.researchrag.backend.documentapi.repo;
+
+import com.researchrag.backend.documentapi.dto.StatusUpdateRequest;
+import com.researchrag.backend.documentapi.model.Document;
+import com.researchrag.backend.documentapi.model.DocumentStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * A status group is applied as one statement, which must still honour each row's callback sequence.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statusupdates;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class DocumentStatusUpdateTest {
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void appliesNewerUpdatesAndSkipsStaleOnes() {
+        Long fresh = save("py-0", null);
+        Long stale = save("py-1", 5L);
+        Long unsequenced = save(null, 5L);
+
+        List<StatusUpdateRequest> applied = documentRepository.applyStatusUpdates(DocumentStatus.FAILED, List.of(
+                update(fresh, null, "boom", 1L),
+                update(stale, "py-x", "late", 5L),
+                update(unsequenced, "py-2", null, null),
+                update(999_999L, null, "gone", 1L)));
+
+        assertThat(applied).extracting(StatusUpdateRequest::getDocumentId).containsExactly(fresh, unsequenced);
+        entityManager.clear();
+
+        Document freshRow = documentRepository.findById(fresh).orElseThrow();
+        assertThat(freshRow.getStatus()).isEqualTo(DocumentStatus.FAILED);
+        // A missing python id keeps the stored one; the error message is replaced
+        assertThat(freshRow.getPythonDocumentId()).isEqualTo("py-0");
+        assertThat(freshRow.getErrorMessage()).isEqualTo("boom");
+        assertThat(freshRow.getStatusSequence()).isEqualTo(1L);
+        assertThat(freshRow.getVersion()).isEqualTo(1L);
+
+        Document staleRow = documentRepository.findById(stale).orElseThrow();
+        assertThat(staleRow.getStatus()).isEqualTo(DocumentStatus.PROCESSING);
+        assertThat(staleRow.getPythonDocumentId()).isEqualTo("py-1");
+        assertThat(staleRow.getVersion()).isZero();
+
+        Document unsequencedRow = documentRepository.findById(unsequenced).orElseThrow();
+        assertThat(unsequencedRow.getPythonDocumentId()).isEqualTo("py-2");
+        assertThat(unsequencedRow.getStatusSequence()).isEqualTo(5L);
+    }
+
+    private Long save(String pythonDocumentId, Long statusSequence) {
+        Document document = Document.builder()
+                .fileName("paper.pdf")
+                .status(DocumentStatus.PROCESSING)
+                .pythonDocumentId(pythonDocumentId)
+                .statusSequence(statusSequence)
+                .build();
+        entityManager.persist(document);
+        entityManager.flush();
+        return document.getId();
+    }
+
+    private static StatusUpdateRequest update(Long documentId, String pythonDocumentId, String errorMessage, Long sequence) {
+        return StatusUpdateRequest.builder()
+                .documentId(documentId)
+                .status(DocumentStatus.FAILED)
+                .pythonDocumentId(pythonDocumentId)
+                .errorMessage(errorMessage)
+                .sequence(sequence)
+                .build();
+    }
+}
@@ -0,0 +1,58 @@
+package com.researchrag.backend.publications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AnalyticsDeltaTest {
+
+    @Test
+    void addPublicationCountsYearsAndVenues() {
+        AnalyticsDelta delta = new AnalyticsDelta("Ada Lovelace");
+        delta.addPublication(2020, " Nature ", null, 10);
+        delta.addPublication(2020, "Nature", null, 5);
+        delta.addPublication(2021, "  ", null, 7);
+
+        assertThat(delta.years()).containsOnlyKeys(2020, 2021);
+        assertThat(delta.years().get(2020)).isEqualTo(new AnalyticsDelta.Counts(2, 15));
+        assertThat(delta.years().get(2021)).isEqualTo(new AnalyticsDelta.Counts(1, 7));
+        // Blank venues are not counted, and venues are trimmed before they are grouped
+        assertThat(delta.venues()).containsOnlyKeys("Nature");
+        assertThat(delta.venues().get("Nature")).isEqualTo(new AnalyticsDelta.Counts(2, 15));
+    }
+
+    @Test
+    void addPublicationTruncatesLongVenues() {
+        AnalyticsDelta delta = new AnalyticsDelta("Ada Lovelace");
+        delta.addPublication(2020, "v".repeat(300), null, 1);
+
+        assertThat(delta.venues()).containsOnlyKeys("v".repeat(255));
+    }
+
+    @Test
+    void addPublicationGroupsCoauthorsByKeyAndSkipsTheFacultyMember() {
+        AnalyticsDelta delta = new AnalyticsDelta("Ada Lovelace");
+        delta.addPublication(2020, "Nature", "A Lovelace, C Babbage, M Somerville", 0);
+        delta.addPublication(2021, "Nature", "AA Lovelace, C. Babbage, ...", 0);
+
+        assertThat(delta.coauthors()).containsOnlyKeys("c babbage", "m somerville");
+        // The first spelling seen is kept for display
+        assertThat(delta.coauthors().get("c babbage")).isEqualTo(new AnalyticsDelta.Coauthor("C Babbage", 2));
+        assertThat(delta.coauthors().get("m somerville")).isEqualTo(new AnalyticsDelta.Coauthor("M Somerville", 1));
+    }
+
+    @Test
+    void addCitationsOnlyChangesCitations() {
+        AnalyticsDelta delta = new AnalyticsDelta("Ada Lovelace");
+        delta.addCitations(2020, "Nature", 0);
+        assertThat(delta.isEmpty()).isTrue();
+
+        delta.addCitations(2020, "Nature", 4);
+        delta.addCitations(2020, "Nature", -1);
+
+        assertThat(delta.years().get(2020)).isEqualTo(new AnalyticsDelta.Counts(0, 3));
+        assertThat(delta.venues().get("Nature")).isEqualTo(new AnalyticsDelta.Counts(0, 3));
+        assertThat(delta.coauthors()).isEmpty();
+        assertThat(delta.isEmpty()).isFalse();
+    }
+}
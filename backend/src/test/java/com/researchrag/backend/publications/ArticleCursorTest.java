@@ -0,0 +1,56 @@
+package com.researchrag.backend.publications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArticleCursorTest {
+
+    @Test
+    void afterTakesTheSortKeyAndIdOfTheLastRow() {
+        Publication last = new Publication();
+        last.setId(42L);
+        last.setTitle("Über Graphen?");
+        last.setYear(2019);
+        last.setCitations(7);
+
+        assertThat(ArticleCursor.after(last, ArticleSortField.YEAR, true))
+                .isEqualTo(new ArticleCursor(ArticleSortField.YEAR, true, "2019", 42L));
+        assertThat(ArticleCursor.after(last, ArticleSortField.CITATIONS, false).typedValue()).isEqualTo(7);
+        assertThat(ArticleCursor.after(last, ArticleSortField.TITLE, true).typedValue()).isEqualTo("Über Graphen?");
+    }
+
+    @Test
+    void rowWithoutASortKeyGivesANullValue() {
+        Publication last = new Publication();
+        last.setId(42L);
+        last.setTitle("Untitled");
+
+        ArticleCursor cursor = ArticleCursor.after(last, ArticleSortField.CITATIONS, true);
+
+        assertThat(cursor.value()).isNull();
+        assertThat(cursor.typedValue()).isNull();
+        assertThat(ArticleCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodeIsUrlSafeAndRoundTrips() {
+        ArticleCursor cursor = new ArticleCursor(ArticleSortField.TITLE, false, "Über Graphen? A/B+C", 42L);
+
+        String token = cursor.encode();
+
+        assertThat(token).matches("[A-Za-z0-9_-]+");
+        assertThat(ArticleCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void decodeRejectsMalformedTokens() {
+        assertThatThrownBy(() -> ArticleCursor.decode("not a token"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid continuation token.");
+        // Well-formed Base64 JSON, but DATE is not a sort field
+        assertThatThrownBy(() -> ArticleCursor.decode("eyJzb3J0IjoiREFURSJ9"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.ArticleDto;
+import com.researchrag.backend.publications.dto.ArticlePageDto;
+import com.researchrag.backend.publications.dto.ArticlePageRequest;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Keyset paging through a faculty's articles must visit every row exactly once, including rows without a
+ * year or citation count, and must not offer a next page after the last one.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:paging;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PublicationsService.class)
+class ArticlePagingTest {
+
+    // Title, year, citations; the nulls sit at both ends of the order and among equal keys
+    private static final Object[][] ROWS = {
+            {"A", null, 5}, {"B", 2019, null}, {"C", 2020, 5}, {"D", null, null},
+            {"E", 2020, 7}, {"F", 2021, 5}, {"G", 2019, 1}
+    };
+
+    @Autowired
+    private PublicationsService publicationsService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockitoBean
+    private ExportService exportService;
+    @MockitoBean
+    private FacultySummaryService facultySummaryService;
+    @MockitoBean
+    private PublicationSearchIndex publicationSearchIndex;
+    @MockitoBean
+    private FacultyAnalyticsService facultyAnalyticsService;
+    @MockitoBean
+    private AuthorIndexService authorIndexService;
+    @MockitoBean
+    private FacultyCacheInvalidator facultyCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        Faculty faculty = new Faculty();
+        faculty.setFacultyId("F-1");
+        faculty.setName("Ada Lovelace");
+        entityManager.persist(faculty);
+        for (Object[] row : ROWS) {
+            Publication publication = new Publication();
+            publication.setTitle((String) row[0]);
+            publication.setYear((Integer) row[1]);
+            publication.setCitations((Integer) row[2]);
+            publication.setDedupHash(Publication.dedupHash(publication.getTitle(), publication.getYear()));
+            publication.setFaculty(faculty);
+            entityManager.persist(publication);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void pagingByYearVisitsRowsWithoutAYear() {
+        assertThat(titles("year", "asc", 2)).containsExactly("A", "D", "B", "G", "C", "E", "F");
+        assertThat(titles("year", "desc", 2)).containsExactly("F", "E", "C", "G", "B", "D", "A");
+    }
+
+    @Test
+    void pagingByCitationsVisitsRowsWithoutCitations() {
+        assertThat(titles("citations", "asc", 3)).containsExactly("B", "D", "G", "A", "C", "F", "E");
+        assertThat(titles("citations", "desc", 3)).containsExactly("E", "F", "C", "A", "G", "D", "B");
+    }
+
+    @Test
+    void exactlyFullLastPageHasNoNextToken() {
+        ArticlePageRequest request = request("year", "asc", 7);
+
+        ArticlePageDto page = publicationsService.getArticlesByFacultyId("F-1", request);
+
+        assertThat(page.getContent()).hasSize(7);
+        assertThat(page.getNextToken()).isNull();
+    }
+
+    private List<String> titles(String sort, String direction, int size) {
+        List<String> titles = new ArrayList<>();
+        ArticlePageRequest request = request(sort, direction, size);
+        for (int pages = 0; pages <= ROWS.length; pages++) {
+            ArticlePageDto page = publicationsService.getArticlesByFacultyId("F-1", request);
+            page.getContent().stream().map(ArticleDto::getTitle).forEach(titles::add);
+            if (page.getNextToken() == null) {
+                return titles;
+            }
+            assertThat(page.getContent()).hasSize(size);
+            request.setContinuationToken(page.getNextToken());
+        }
+        throw new AssertionError("Paging did not end: " + titles);
+    }
+
+    private static ArticlePageRequest request(String sort, String direction, int size) {
+        ArticlePageRequest request = new ArticlePageRequest();
+        request.setSort(sort);
+        request.setDirection(direction);
+        request.setSize(size);
+        return request;
+    }
+}
@@ -0,0 +1,43 @@
+package com.researchrag.backend.publications;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthorNamesTest {
+
+    @Test
+    void splitTrimsNamesAndDropsBlanksAndTruncationMarkers() {
+        assertThat(AuthorNames.split(" J  Smith,AB Doe, , ..., …"))
+                .containsExactly("J Smith", "AB Doe");
+        assertThat(AuthorNames.split(null)).isEmpty();
+        assertThat(AuthorNames.split("   ")).isEmpty();
+    }
+
+    @Test
+    void splitTruncatesOverlongNames() {
+        assertThat(AuthorNames.split("x".repeat(300))).singleElement()
+                .satisfies(name -> assertThat(name).hasSize(255));
+    }
+
+    @Test
+    void keyIgnoresCaseAccentsAndPunctuation() {
+        assertThat(AuthorNames.key("J.-P. Müller")).isEqualTo("j p muller");
+        assertThat(AuthorNames.key("J P  Muller")).isEqualTo("j p muller");
+        assertThat(AuthorNames.key("O’Brien")).isEqualTo(AuthorNames.key("o brien"));
+        assertThat(AuthorNames.key("x".repeat(300))).hasSize(191);
+    }
+
+    @Test
+    void samePersonMatchesSurnameAndFirstInitial() {
+        assertThat(AuthorNames.samePerson("John A. Smith", "JA Smith")).isTrue();
+        assertThat(AuthorNames.samePerson("John A. Smith", "J Smith")).isTrue();
+        assertThat(AuthorNames.samePerson("José Núñez", "J Nunez")).isTrue();
+
+        assertThat(AuthorNames.samePerson("John A. Smith", "K Smith")).isFalse();
+        assertThat(AuthorNames.samePerson("John A. Smith", "J Smyth")).isFalse();
+        assertThat(AuthorNames.samePerson("John A. Smith", "...")).isFalse();
+        assertThat(AuthorNames.samePerson(null, "J Smith")).isFalse();
+        assertThat(AuthorNames.samePerson("John A. Smith", null)).isFalse();
+    }
+}
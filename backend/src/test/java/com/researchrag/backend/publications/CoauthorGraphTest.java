@@ -0,0 +1,92 @@
+package com.researchrag.backend.publications;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CoauthorGraphTest {
+
+    private static final long[] AUTHORS = {10, 20, 30, 40, 50, 60};
+    private static final long[] FACULTY = {1, 0, 2, 0, 3, 0};
+
+    @Test
+    void buildWeighsEdgesByDistinctSharedPapers() {
+        CoauthorGraph.Builder builder = new CoauthorGraph.Builder(AUTHORS, FACULTY, 3);
+        paper(builder, "p1", 10, 20, 30);
+        paper(builder, "p2", 10, 20);
+        // The same author twice on one paper, and an author without a node
+        paper(builder, "p3", 40, 40, 99, 50);
+        // Over the author cap, so none of its edges are added
+        paper(builder, "p4", 10, 30, 40, 60);
+        CoauthorGraph graph = builder.build();
+
+        assertThat(graph.nodeCount()).isEqualTo(6);
+        assertThat(graph.edgeCount()).isEqualTo(4);
+        assertThat(graph.topNeighbors(node(graph, 10), 10)).containsExactly(
+                new CoauthorGraph.Neighbor(node(graph, 20), 2),
+                new CoauthorGraph.Neighbor(node(graph, 30), 1));
+        assertThat(graph.topNeighbors(node(graph, 10), 1)).hasSize(1);
+        assertThat(graph.topNeighbors(node(graph, 40), 10))
+                .containsExactly(new CoauthorGraph.Neighbor(node(graph, 50), 1));
+        assertThat(graph.topNeighbors(node(graph, 60), 10)).isEmpty();
+        assertThat(graph.nodeOf(99)).isEqualTo(-1);
+    }
+
+    @Test
+    void withinHopsStopsAtMaxHopsAndExcludesTheStart() {
+        // A triangle 10-20-30 with a tail 30-40-50, so the start is reachable from its neighbours again
+        CoauthorGraph.Builder builder = new CoauthorGraph.Builder(AUTHORS, FACULTY, 50);
+        paper(builder, "p1", 10, 20);
+        paper(builder, "p2", 20, 30);
+        paper(builder, "p3", 30, 10);
+        paper(builder, "p4", 30, 40);
+        paper(builder, "p5", 40, 50);
+        CoauthorGraph graph = builder.build();
+
+        List<CoauthorGraph.Reached> reached = graph.withinHops(node(graph, 10), 2, 100);
+
+        assertThat(reached).containsExactlyInAnyOrder(
+                new CoauthorGraph.Reached(node(graph, 20), 1),
+                new CoauthorGraph.Reached(node(graph, 30), 1),
+                new CoauthorGraph.Reached(node(graph, 40), 2));
+    }
+
+    @Test
+    void withinHopsStopsAtMaxNodes() {
+        CoauthorGraph.Builder builder = new CoauthorGraph.Builder(AUTHORS, FACULTY, 50);
+        for (long author : new long[]{20, 30, 40, 50, 60}) {
+            paper(builder, "p" + author, 10, author);
+        }
+        CoauthorGraph graph = builder.build();
+
+        assertThat(graph.withinHops(node(graph, 10), 3, 3)).hasSize(3);
+        assertThat(graph.withinHops(node(graph, 20), 3, 100)).hasSize(5)
+                .noneMatch(reached -> reached.node() == node(graph, 20));
+    }
+
+    @Test
+    void facultyNeighborsAndClustersFollowDirectCoauthorship() {
+        CoauthorGraph.Builder builder = new CoauthorGraph.Builder(AUTHORS, FACULTY, 50);
+        paper(builder, "p1", 10, 20, 30);
+        paper(builder, "p2", 10, 30);
+        CoauthorGraph graph = builder.build();
+
+        assertThat(graph.facultyNeighbors(node(graph, 10))).containsExactly(Map.entry(2L, 2));
+        assertThat(graph.nodesOfFaculty(3)).containsExactly(node(graph, 50));
+        assertThat(graph.nodesOfFaculty(4)).isEmpty();
+        assertThat(graph.facultyClusters(List.of(1L, 2L, 3L))).containsExactly(List.of(1L, 2L), List.of(3L));
+    }
+
+    private static void paper(CoauthorGraph.Builder builder, String key, long... authors) {
+        for (long author : authors) {
+            builder.add(key, author);
+        }
+    }
+
+    private static int node(CoauthorGraph graph, long authorId) {
+        return graph.nodeOf(authorId);
+    }
+}
@@ -0,0 +1,128 @@
+package com.researchrag.backend.publications;
+
+import com.researchrag.backend.publications.dto.FacultySummaryDto;
+import com.researchrag.backend.publications.dto.FacultyUploadBatchDto;
+import com.researchrag.backend.userapi.user.Role;
+import com.researchrag.backend.userapi.user.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The batch and faculty listings must stay a fixed number of statements however many faculty and
+ * publications a batch has; a lazy collection touched per row would show up here as N+1.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:listing;MODE=MySQL;NON_KEYWORDS=USER,YEAR,VALUE",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PublicationsService.class)
+class FacultyListingQueryCountTest {
+
+    private static final int BATCHES = 3;
+    private static final int FACULTY_PER_BATCH = 5;
+    private static final int PUBLICATIONS_PER_FACULTY = 4;
+
+    @Autowired
+    private PublicationsService publicationsService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockitoBean
+    private ExportService exportService;
+    @MockitoBean
+    private FacultySummaryService facultySummaryService;
+    @MockitoBean
+    private PublicationSearchIndex publicationSearchIndex;
+    @MockitoBean
+    private FacultyAnalyticsService facultyAnalyticsService;
+    @MockitoBean
+    private AuthorIndexService authorIndexService;
+    @MockitoBean
+    private FacultyCacheInvalidator facultyCacheInvalidator;
+
+    private User user;
+    private Long firstBatchId;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder().firstName("Ada").lastName("Lovelace").email("ada@example.com")
+                .password("x").role(Role.USER).build();
+        entityManager.persist(user);
+
+        for (int b = 0; b < BATCHES; b++) {
+            FacultyUploadBatch batch = new FacultyUploadBatch();
+            batch.setFileName("batch-" + b + ".xlsx");
+            batch.setUploadDate(LocalDateTime.now().minusDays(b));
+            batch.setUser(user);
+            entityManager.persist(batch);
+            if (firstBatchId == null) {
+                firstBatchId = batch.getId();
+            }
+            for (int f = 0; f < FACULTY_PER_BATCH; f++) {
+                Faculty faculty = new Faculty();
+                faculty.setFacultyId("F" + b + "-" + f);
+                faculty.setName("Faculty " + b + "-" + f);
+                entityManager.persist(faculty);
+                for (int p = 0; p < PUBLICATIONS_PER_FACULTY; p++) {
+                    Publication publication = new Publication();
+                    publication.setTitle("Paper " + p);
+                    publication.setYear(2020 + p);
+                    publication.setDedupHash(Publication.dedupHash(publication.getTitle(), publication.getYear()));
+                    publication.setFaculty(faculty);
+                    entityManager.persist(publication);
+                }
+                entityManager.persist(FacultyBatchAssociation.builder()
+                        .faculty(faculty)
+                        .batch(batch)
+                        .associationDate(LocalDateTime.now())
+                        .build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics().clear();
+    }
+
+    @Test
+    void batchListingIsOneStatement() {
+        List<FacultyUploadBatchDto> batches = publicationsService.getFacultyBatches(user);
+
+        assertThat(batches).hasSize(BATCHES);
+        assertThat(batches).allSatisfy(batch -> assertThat(batch.getFacultyCount()).isEqualTo(FACULTY_PER_BATCH));
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void facultyListingIsOwnerCheckPlusOneStatement() {
+        List<FacultySummaryDto> faculty = publicationsService.getFacultySummariesForBatch(firstBatchId, user);
+
+        assertThat(faculty).hasSize(FACULTY_PER_BATCH);
+        assertThat(faculty).allSatisfy(summary -> assertThat(summary.getPublication_count()).isEqualTo(PUBLICATIONS_PER_FACULTY));
+        assertThat(statistics().getPrepareStatementCount()).isEqualTo(2);
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
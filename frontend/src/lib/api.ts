@@ -2,7 +2,7 @@ import axios, { AxiosError } from 'axios';
 import { LoginRequest, RegisterRequest, RefreshTokenResponse, AuthResponse, UpdateUserRequest, ChangePasswordRequest, User } from '@/types/auth';
 import { Document } from '@/types/document';
 import { QaRequest, QaResponse, QaHistoryResponse } from '@/types/chat';
-import { FacultySummary, FacultyProfile, Article, FacultyUploadBatch } from '@/types/faculty';
+import { FacultySummary, FacultyProfile, ArticlePage, FacultyUploadBatch, FacultyIngestionJob } from '@/types/faculty';
 
 
 export const API_URL = 'http://localhost:8081/api/v1';
@@ -94,7 +94,7 @@ export const askQuestion = (qaRequest: QaRequest) => api.post<QaResponse>('/qa/a
 export const getHistory = (documentId: number) => api.get<QaHistoryResponse[]>(`/qa/history/${documentId}`);
 
 // Publications API
-export const uploadFacultyList = async (file: File, articles_limit?: number): Promise<FacultySummary[]> => {
+export const uploadFacultyList = async (file: File, articles_limit?: number): Promise<FacultyIngestionJob> => {
   const formData = new FormData();
   formData.append('file', file);
   if (articles_limit) {
@@ -109,6 +109,11 @@ export const uploadFacultyList = async (file: File, articles_limit?: number): Pr
   return response.data;
 };
 
+export const getFacultyIngestionJob = async (jobId: number): Promise<FacultyIngestionJob> => {
+  const response = await api.get(`/publications/upload/jobs/${jobId}`);
+  return response.data;
+};
+
 export const getFacultyBatches = async (): Promise<FacultyUploadBatch[]> => {
   const response = await api.get('/publications/batches');
   return response.data;
@@ -128,9 +133,9 @@ export const getFacultyProfile = async (facultyId: string): Promise<FacultyProfi
   return response.data;
 };
 
-export const getFacultyArticles = async (facultyId: string, page: number, size: number): Promise<Article[]> => {
+export const getFacultyArticles = async (facultyId: string, size: number, continuationToken?: string): Promise<ArticlePage> => {
   const response = await api.get(`/publications/articles/${facultyId}`, {
-    params: { page, size },
+    params: { size, continuationToken },
   });
   return response.data;
 };
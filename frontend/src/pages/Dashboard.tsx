@@ -1,4 +1,5 @@
 import { useState, useEffect } from 'react';
+import axios from 'axios';
 import { deleteDocument, getDocuments, uploadDocument } from '@/lib/api';
 import { Document } from '@/types/document';
 import { Card, CardContent, CardHeader, CardTitle } from '@/components/ui/card';
@@ -49,7 +50,7 @@ const Dashboard = () => {
   }, []);
 
   useEffect(() => {
-    const isProcessing = documents.some(doc => doc.status === 'PROCESSING' || doc.status === 'UPLOADING');
+    const isProcessing = documents.some(doc => doc.status === 'PROCESSING' || doc.status === 'UPLOADING' || doc.status === 'DEFERRED');
     if (isProcessing) {
       const intervalId = setInterval(() => {
         fetchDocuments(true); // Poll in the background
@@ -82,7 +83,12 @@ const Dashboard = () => {
       toast.success('Upload started! Processing in the background.');
     } catch (error) {
       console.error('Failed to upload document:', error);
-      toast.error('Failed to start document upload. Please try again.');
+      if (axios.isAxiosError(error) && error.response?.status === 429) {
+        const retryAfter = error.response.headers['retry-after'];
+        toast.error(`The processing queue is busy. Please try again${retryAfter ? ` in about ${retryAfter} seconds` : ' later'}.`);
+      } else {
+        toast.error('Failed to start document upload. Please try again.');
+      }
     } finally {
       setIsUploading(false);
     }
@@ -103,6 +109,8 @@ const Dashboard = () => {
     switch (status) {
         case 'UPLOADING':
             return <span className="flex items-center text-gray-500"><Loader2 className="mr-2 h-4 w-4 animate-spin" />Uploading</span>;
+        case 'DEFERRED':
+            return <span className="flex items-center text-gray-500"><Loader2 className="mr-2 h-4 w-4 animate-spin" />Queued</span>;
         case 'PROCESSING':
             return <span className="flex items-center text-blue-500"><Loader2 className="mr-2 h-4 w-4 animate-spin" />Processing</span>;
         case 'COMPLETED':
@@ -1,6 +1,6 @@
 
 import React, { useState, useEffect, useRef } from 'react';
-import { uploadFacultyList, getFacultyBatches, getFacultySummariesForBatch, deleteFacultyBatch } from '@/lib/api';
+import { uploadFacultyList, getFacultyIngestionJob, getFacultyBatches, getFacultySummariesForBatch, deleteFacultyBatch } from '@/lib/api';
 import { FacultySummary, FacultyUploadBatch } from '@/types/faculty';
 import { NavLink } from 'react-router-dom';
 import { Input } from '@/components/ui/input';
@@ -59,15 +59,15 @@ const FacultyPage: React.FC = () => {
 
     setUploading(true);
     try {
-      await uploadFacultyList(selectedFile, limit);
+      const job = await uploadFacultyList(selectedFile, limit);
       toast.success('File processing started! The batch will appear below shortly.');
       // Reset file input
       if(fileInputRef.current) {
         fileInputRef.current.value = "";
       }
       setSelectedFile(null);
-      // Refresh the list of batches after a short delay to allow processing to start
-      setTimeout(fetchBatches, 2000);
+      fetchBatches();
+      pollIngestionJob(job.id);
     } catch (error) {
       console.error('Error uploading file:', error);
       toast.error('Failed to upload file. Please try again.');
@@ -76,6 +76,26 @@ const FacultyPage: React.FC = () => {
     }
   };
 
+  const pollIngestionJob = (jobId: number) => {
+    const intervalId = setInterval(async () => {
+      try {
+        const job = await getFacultyIngestionJob(jobId);
+        if (job.status === 'COMPLETED' || job.status === 'FAILED') {
+          clearInterval(intervalId);
+          if (job.status === 'COMPLETED') {
+            toast.success(`Processed ${job.processedFaculty} faculty from ${job.fileName}.`);
+          } else {
+            toast.error(`Processing ${job.fileName} failed: ${job.errorMessage ?? 'unknown error'}`);
+          }
+          fetchBatches();
+        }
+      } catch (error) {
+        console.error('Error polling ingestion job:', error);
+        clearInterval(intervalId);
+      }
+    }, 5000);
+  };
+
   const handleAccordionChange = async (batchId: string) => {
     const id = Number(batchId);
     if (id && !summaries[id]) { // Fetch only if not already fetched
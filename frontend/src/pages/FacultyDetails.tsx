@@ -24,8 +24,8 @@ const FacultyDetailsPage: React.FC = () => {
   const [loadingArticles, setLoadingArticles] = useState<boolean>(false);
   const [loadingSummary, setLoadingSummary] = useState<boolean>(false);
   const [isExporting, setIsExporting] = useState<boolean>(false);
-  const [currentPage, setCurrentPage] = useState<number>(0);
-  const [hasMoreArticles, setHasMoreArticles] = useState<boolean>(true);
+  const [nextToken, setNextToken] = useState<string | null>(null);
+  const [totalArticles, setTotalArticles] = useState<number>(0);
   const [fromYear, setFromYear] = useState('');
   const [toYear, setToYear] = useState('');
 
@@ -39,7 +39,7 @@ const FacultyDetailsPage: React.FC = () => {
         if (data.summary) {
             setSummary(data.summary);
         }
-        fetchArticles(0);
+        fetchArticles();
       } catch (error) {
         console.error('Error fetching faculty profile:', error);
         toast.error('Failed to load faculty profile.');
@@ -51,14 +51,14 @@ const FacultyDetailsPage: React.FC = () => {
     fetchProfile();
   }, [facultyId]);
 
-  const fetchArticles = async (page: number) => {
+  const fetchArticles = async (continuationToken?: string) => {
     if (!facultyId) return;
     setLoadingArticles(true);
     try {
-      const newArticles = await getFacultyArticles(facultyId, page, PAGE_SIZE);
-      setArticles((prev) => (page === 0 ? newArticles : [...prev, ...newArticles]));
-      setCurrentPage(page);
-      setHasMoreArticles(newArticles.length === PAGE_SIZE);
+      const articlePage = await getFacultyArticles(facultyId, PAGE_SIZE, continuationToken);
+      setArticles((prev) => (continuationToken ? [...prev, ...articlePage.content] : articlePage.content));
+      setTotalArticles(articlePage.totalElements);
+      setNextToken(articlePage.nextToken);
     } catch (error) {
       console.error('Error fetching articles:', error);
       toast.error('Failed to load articles.');
@@ -68,7 +68,9 @@ const FacultyDetailsPage: React.FC = () => {
   };
 
   const handleLoadMore = () => {
-    fetchArticles(currentPage + 1);
+    if (nextToken) {
+      fetchArticles(nextToken);
+    }
   };
 
   const handleGenerateSummary = async () => {
@@ -220,7 +222,7 @@ const FacultyDetailsPage: React.FC = () => {
 
       <Card>
         <CardHeader>
-          <CardTitle>Publications ({articles.length})</CardTitle>
+          <CardTitle>Publications ({totalArticles})</CardTitle>
         </CardHeader>
         <CardContent>
           {articles.length === 0 && !loadingArticles ? (
@@ -237,7 +239,7 @@ const FacultyDetailsPage: React.FC = () => {
               ))}
             </ul>
           )}
-          {hasMoreArticles && (
+          {nextToken && (
             <div className="text-center mt-4">
               <Button onClick={handleLoadMore} disabled={loadingArticles}>
                 {loadingArticles ? 'Loading...' : 'Load More Articles'}
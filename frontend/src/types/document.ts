@@ -2,6 +2,7 @@ export interface Document {
     id: number;
     fileName: string;
     uploadDate: string;
-    status: 'UPLOADING' | 'PROCESSING' | 'COMPLETED' | 'FAILED';
+    status: 'UPLOADING' | 'DEFERRED' | 'PROCESSING' | 'COMPLETED' | 'FAILED';
     pythonDocumentId: string;
+    errorMessage?: string;
 }
\ No newline at end of file
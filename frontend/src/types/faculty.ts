@@ -32,3 +32,25 @@ export interface Article {
   citations: number;
   year: number;
 }
+
+export interface ArticlePage {
+  content: Article[];
+  totalElements: number;
+  totalPages: number;
+  page: number;
+  size: number;
+  nextToken: string | null;
+}
+
+export interface FacultyIngestionJob {
+  id: number;
+  batchId: number;
+  fileName: string;
+  status: 'QUEUED' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+  totalFaculty: number | null;
+  processedFaculty: number;
+  failedFaculty: number;
+  errorMessage?: string;
+  createdAt: string;
+  finishedAt?: string;
+}
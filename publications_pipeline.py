@@ -148,11 +148,14 @@ class PublicationsPipeline:
             faculty_id = row.get("id", name.replace(" ", "_").lower() if pd.notna(name) else str(index))
             if pd.isna(name): continue
             print(f"--- Processing faculty: {name} ---")
-            author_id = self._find_author_id(name, university)
+            # Refresh runs from the backend send the Scholar id they already know, so skip the author search
+            scholar_id = row.get("scholar_id")
+            author_id = scholar_id if pd.notna(scholar_id) and str(scholar_id).strip() else self._find_author_id(name, university)
             if author_id:
                 full_profile_data = self._fetch_and_parse_profile(author_id, articles_limit)
                 if full_profile_data:
                     full_profile_data["faculty_id"] = faculty_id
+                    full_profile_data["google_scholar_author_id"] = author_id
                     full_profile_data["processed_at"] = pd.Timestamp.now().isoformat()
                     processed_faculty_list.append(full_profile_data)
             else:
@@ -1,4 +1,5 @@
-from datetime import time
+import itertools
+import time
 import redis
 import json
 import os
@@ -26,16 +27,26 @@ rag_pipeline = RAGPipeline(
 )
 print("RAG Pipeline initialized.")
 
-def send_callback(document_id, status, python_document_id=None, error_message=None):
+def send_callback(document_id, status, sequence, python_document_id=None, error_message=None, job_data=None, started_at=None):
     """Sends a status update back to the Spring Boot backend."""
+    job_data = job_data or {}
+    traceparent = job_data.get("traceparent")
     payload = {
         "documentId": document_id,
         "status": status,
         "pythonDocumentId": python_document_id,
-        "errorMessage": error_message
+        "errorMessage": error_message,
+        # Later callbacks for a job carry a higher sequence; a retried payload keeps its own,
+        # so the backend can drop duplicates and out-of-order updates.
+        "sequence": sequence,
+        # Echo the upload's trace context so the backend can record queue wait and processing time in its trace
+        "traceparent": traceparent,
+        "enqueuedAt": job_data.get("enqueuedAt"),
+        "startedAt": started_at
     }
+    headers = {"traceparent": traceparent} if traceparent else {}
     try:
-        response = requests.post(BACKEND_CALLBACK_URL, json=payload)
+        response = requests.post(BACKEND_CALLBACK_URL, json=payload, headers=headers)
         response.raise_for_status() # Raise an exception for bad status codes
         print(f"Successfully sent callback for document {document_id} with status {status}")
     except requests.exceptions.RequestException as e:
@@ -59,18 +70,23 @@ def main():
                 continue
 
             print(f"Processing documentId: {doc_id}, filePath: {file_path}")
+            started_at = time.time_ns() // 1_000_000
+            # Numbers this job's callbacks. A counter rather than the clock: two callbacks in the same
+            # millisecond, or clocks that differ between worker hosts, must not reorder them.
+            sequence = itertools.count(1)
 
             try:
                 # Execute the RAG processing pipeline
                 python_doc_id = rag_pipeline.process_document(file_path, str(doc_id))
                 
                 # Send success callback
-                send_callback(doc_id, "COMPLETED", python_document_id=python_doc_id)
+                send_callback(doc_id, "COMPLETED", next(sequence), python_document_id=python_doc_id,
+                              job_data=job_data, started_at=started_at)
 
             except Exception as e:
                 print(f"ERROR: Failed to process document {doc_id}. Error: {e}")
                 # Send failure callback
-                send_callback(doc_id, "FAILED", error_message=str(e))
+                send_callback(doc_id, "FAILED", next(sequence), error_message=str(e), job_data=job_data, started_at=started_at)
             finally:
                 # Clean up the temporary file
                 if os.path.exists(file_path):